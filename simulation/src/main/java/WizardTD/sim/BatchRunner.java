@@ -0,0 +1,122 @@
+package WizardTD.sim;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * The BatchRunner plays many seeded games of the same configuration and level without
+ * drawing them, splitting the games across a fork-join pool.
+ * @see WizardTD.sim.TowerPolicy TowerPolicy
+ */
+public class BatchRunner extends RecursiveTask<ArrayList<GameResult>> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of games played by a task before it stops splitting.
+     */
+    private static final int GAMES_PER_TASK = 4;
+
+    private GameConfig config;
+    private List<String> layout;
+    private int width;
+    private int height;
+    private Supplier<TowerPolicy> policy;
+    private int maxSteps;
+    private long firstSeed;
+    private int games;
+
+    /**
+     * Constructs a task that plays the games with seeds firstSeed to firstSeed + games - 1.
+     *
+     * @param config    The configuration of the games.
+     * @param layout    The lines of the level layout.
+     * @param width     The width of the board in tiles.
+     * @param height    The height of the board in tiles.
+     * @param policy    Creates the tower policy for each game.
+     * @param maxSteps  The number of steps after which a game that has not ended is stopped.
+     * @param firstSeed The seed of the first game.
+     * @param games     The number of games to play.
+     */
+    public BatchRunner(GameConfig config, List<String> layout, int width, int height,
+    Supplier<TowerPolicy> policy, int maxSteps, long firstSeed, int games) {
+        this.config = config;
+        this.layout = layout;
+        this.width = width;
+        this.height = height;
+        this.policy = policy;
+        this.maxSteps = maxSteps;
+        this.firstSeed = firstSeed;
+        this.games = games;
+    }
+
+    /**
+     * Plays the games, splitting them in half until each task has only a few games left.
+     *
+     * @return The results of the games, in seed order.
+     */
+    @Override
+    protected ArrayList<GameResult> compute() {
+        if (this.games <= GAMES_PER_TASK) {
+            ArrayList<GameResult> results = new ArrayList<GameResult>();
+            for (int i = 0; i < this.games; i++) {
+                results.add(this.play(this.firstSeed + i));
+            }
+            return results;
+        }
+
+        int half = this.games / 2;
+        BatchRunner first = new BatchRunner(this.config, this.layout, this.width, this.height,
+        this.policy, this.maxSteps, this.firstSeed, half);
+        BatchRunner second = new BatchRunner(this.config, this.layout, this.width, this.height,
+        this.policy, this.maxSteps, this.firstSeed + half, this.games - half);
+
+        first.fork();
+        ArrayList<GameResult> results = second.compute();
+        results.addAll(0, first.join());
+        return results;
+    }
+
+    /**
+     * Plays a single game until the player wins or loses, or the step limit is reached.
+     *
+     * @param seed The seed of the game.
+     * @return The result of the game.
+     */
+    public GameResult play(long seed) {
+        // Each game builds on its own board
+        Board board = new Board(this.layout, this.width, this.height);
+        Simulation simulation = new Simulation(this.config, board, seed);
+        TowerPolicy towerPolicy = this.policy.get();
+
+        int steps = 0;
+        while (steps < this.maxSteps && !simulation.playerWon() && !simulation.playerLost()) {
+            towerPolicy.act(simulation);
+            simulation.tick();
+            steps++;
+        }
+
+        int waveOfDeath = 0;
+        if (simulation.playerLost()) {
+            waveOfDeath = simulation.getWaveManager().getWaveCount() + 1;
+        }
+
+        return new GameResult(seed, simulation.playerWon(),
+        simulation.getManaPool().getLeakedMana(), waveOfDeath, steps);
+    }
+
+    /**
+     * Plays the games on a fork-join pool using every available core.
+     *
+     * @return The results of the games, in seed order.
+     */
+    public ArrayList<GameResult> run() {
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            return pool.invoke(this);
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+}
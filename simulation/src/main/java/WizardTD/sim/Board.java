@@ -0,0 +1,311 @@
+package WizardTD.sim;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * The Board represents the logical game board of the Wizard Tower Defense game,
+ * containing information about the layout of the map and its tiles. It is generated
+ * via the map layout in the configuration file.
+ * @see WizardTD.sim.Tile Tile
+ */
+public class Board {
+
+    private int width;
+    private int height;
+    private Tile[][] tiles; // x,y
+    private char[][] layout_Array; // x,y
+    /**
+     * Number of steps from each tile to the wizard's house along the path, -1 if the
+     * house cannot be reached from the tile.
+     */
+    private int[][] distances; // x,y
+    /**
+     * Path tiles on the edge of the board that monsters can spawn on.
+     */
+    private List<SpawnPoint> spawnPoints;
+    private SpawnPoint[][] spawnPointAt; // x,y, null for tiles that are not spawn points
+
+    // Neighbouring tile offsets, in the order they are checked
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    /**
+     * Constructs a new board by reading the given layout file.
+     *
+     * @param layout The path of the layout (.txt) file.
+     * @param width  The width of the board in tiles.
+     * @param height The height of the board in tiles.
+     */
+    public Board(String layout, int width, int height) {
+        this(readLayout(layout), width, height);
+    }
+
+    /**
+     * Constructs a new board from the lines of a layout. Each character of a line is a tile;
+     * characters outside of the width and lines outside of the height are ignored.
+     *
+     * @param lines  The rows of the layout, from top to bottom.
+     * @param width  The width of the board in tiles.
+     * @param height The height of the board in tiles.
+     */
+    public Board(List<String> lines, int width, int height) {
+
+        this.width = width;
+        this.height = height;
+        this.tiles = new Tile[width][height];
+
+        // Initialize tiles with X and Y coordinates
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                tiles[x][y] = new Tile(x, y, width, height);
+            }
+        }
+
+        // 2-D Array to store map details
+        this.layout_Array = new char[width][height];
+
+        for (int y = 0; y < lines.size() && y < this.height; y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < line.length() && x < this.width; x++) {
+                this.layout_Array[x][y] = line.charAt(x);
+            }
+        }
+
+        // Set types for individual tiles
+        for (int x = 0; x < this.width; x++) {
+            for (int y = 0; y < this.height; y++) {
+                char tileSymbol = this.layout_Array[x][y];
+
+                if (tileSymbol == ' ' || tileSymbol == '\0') {
+                    this.tiles[x][y].setType("grass");
+                } else if (tileSymbol == 'S') {
+                    this.tiles[x][y].setType("shrub");
+                } else if (tileSymbol == 'X') {
+                    this.tiles[x][y].setType("path");
+                } else if (tileSymbol == 'W') {
+                    this.tiles[x][y].setType("wizard");
+                }
+            }
+        }
+
+        this.buildDistances();
+        this.buildSpawnPoints();
+    }
+
+    /**
+     * Finds the tiles that monsters can spawn on, the path tiles on the edge of the board.
+     */
+    private void buildSpawnPoints() {
+        ArrayList<SpawnPoint> spawns = new ArrayList<SpawnPoint>();
+        this.spawnPointAt = new SpawnPoint[this.width][this.height];
+
+        for (int x = 0; x < this.width; x++) {
+            for (int y = 0; y < this.height; y++) {
+                Tile current_tile = this.tiles[x][y];
+                if (current_tile.getEdge() && this.layout_Array[x][y] == 'X') {
+                    this.spawnPointAt[x][y] = new SpawnPoint(current_tile, this.width, this.height);
+                    spawns.add(this.spawnPointAt[x][y]);
+                }
+            }
+        }
+
+        this.spawnPoints = Collections.unmodifiableList(spawns);
+    }
+
+    /**
+     * Builds the distance of every tile to the wizard's house with a breadth-first search
+     * outwards from the house over path tiles. Monsters follow the distances downhill, so no
+     * monster needs to search for its own path.
+     */
+    private void buildDistances() {
+        GameEvents.PathComputation event = new GameEvents.PathComputation();
+        event.begin();
+
+        this.distances = new int[this.width][this.height];
+        int[] queue = new int[this.width * this.height]; // Tiles stored as x * height + y
+        int head = 0;
+        int tail = 0;
+
+        for (int x = 0; x < this.width; x++) {
+            Arrays.fill(this.distances[x], -1);
+            for (int y = 0; y < this.height; y++) {
+                if (this.layout_Array[x][y] == 'W') {
+                    this.distances[x][y] = 0;
+                    queue[tail++] = x * this.height + y;
+                }
+            }
+        }
+
+        while (head < tail) {
+            int x = queue[head] / this.height;
+            int y = queue[head] % this.height;
+            head++;
+
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx >= 0 && nx < this.width && ny >= 0 && ny < this.height &&
+                 this.distances[nx][ny] == -1 && this.layout_Array[nx][ny] == 'X') {
+                    this.distances[nx][ny] = this.distances[x][y] + 1;
+                    queue[tail++] = nx * this.height + ny;
+                }
+            }
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = this.width;
+            event.height = this.height;
+            event.tilesReached = tail;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reads a layout file line by line.
+     *
+     * @param layout The path of the layout (.txt) file.
+     * @return The lines of the file, or no lines if the file cannot be found.
+     */
+    public static List<String> readLayout(String layout) {
+        ArrayList<String> lines = new ArrayList<String>();
+
+        File layoutFile = new File(layout);
+        try {
+            Scanner scan = new Scanner(layoutFile);
+            while (scan.hasNextLine()) {
+                lines.add(scan.nextLine());
+            }
+            scan.close();
+        }
+        catch (FileNotFoundException e) {
+            System.err.println("Map file not found.");
+        }
+
+        return lines;
+    }
+
+    /**
+     * Retrieves a specific tile at the given coordinates.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The tile at the specified coordinates or null if out of bounds.
+     * @see WizardTD.sim.Tile
+     */
+    public Tile getTile(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            return tiles[x][y];
+        } else {
+            return null; // Return null if coordinates are out of bounds
+        }
+    }
+
+    /**
+     * Gets the number of steps from a tile to the wizard's house along the path.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The number of steps, 0 for the wizard's house, or -1 if the house cannot be
+     *         reached or the coordinates are out of bounds.
+     */
+    public int getDistance(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            return this.distances[x][y];
+        }
+        return -1;
+    }
+
+    /**
+     * Picks the next step from a tile towards the wizard's house. When several neighbours
+     * are equally close to the house, one is picked at random so monsters take different
+     * shortest routes.
+     *
+     * @param tile   The current tile.
+     * @param random The random number generator of the game.
+     * @return A neighbouring tile one step closer to the house, or null if the tile is the
+     *         house or cannot reach it.
+     */
+    public Tile getNextStep(Tile tile, SplittableRandom random) {
+        int distance = this.getDistance(tile.getX(), tile.getY());
+        if (distance <= 0) {
+            return null;
+        }
+
+        // Count the closer neighbours, then pick one without building a list of them
+        int count = 0;
+        for (int[] dir : DIRECTIONS) {
+            if (this.getDistance(tile.getX() + dir[0], tile.getY() + dir[1]) == distance - 1) {
+                count++;
+            }
+        }
+
+        int pick = count == 1 ? 0 : random.nextInt(count);
+        for (int[] dir : DIRECTIONS) {
+            int nx = tile.getX() + dir[0];
+            int ny = tile.getY() + dir[1];
+            if (this.getDistance(nx, ny) == distance - 1 && pick-- == 0) {
+                return this.tiles[nx][ny];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes every tower from the board, so it can be played on again.
+     */
+    public void clearTowers() {
+        for (int x = 0; x < this.width; x++) {
+            for (int y = 0; y < this.height; y++) {
+                this.tiles[x][y].removeTower();
+            }
+        }
+    }
+
+    /**
+     * Gets the tiles monsters can spawn on.
+     *
+     * @return An unmodifiable list of the spawn points, ordered by x then y.
+     */
+    public List<SpawnPoint> getSpawnPoints() {
+        return this.spawnPoints;
+    }
+
+    /**
+     * Gets the spawn point of a tile.
+     *
+     * @param x The x coordinate of the tile.
+     * @param y The y coordinate of the tile.
+     * @return The spawn point, or null if the tile is not a spawn point.
+     */
+    public SpawnPoint getSpawnPoint(int x, int y) {
+        if (x < 0 || x >= this.width || y < 0 || y >= this.height) {
+            return null;
+        }
+        return this.spawnPointAt[x][y];
+    }
+
+    /**
+     * Gets the layout array belonging to the board.
+     * @return  A 2D array of characters representing the game board's grid (x,y).
+     */
+    public char[][] getLayoutArray() {
+        return this.layout_Array;
+    }
+
+    /**
+     * Gets the tiles belonging to the board.
+     * @return  A 2D array of tiles representing the game board's grid (x,y).
+     */
+    public Tile[][] getTiles() {
+        return this.tiles;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+}
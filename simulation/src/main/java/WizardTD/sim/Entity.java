@@ -0,0 +1,42 @@
+package WizardTD.sim;
+
+/**
+ * The Entity class is an abstract class that serves as the base class for all objects
+ * that have a position on the game board. Positions are kept both as a grid reference
+ * and as a pixel location relative to the top left corner of the board.
+ */
+public abstract class Entity {
+    protected int x;
+    protected int y;
+    protected float xPixel;
+    protected float yPixel;
+
+    /**
+     * Basic constructor to create an entity with specified coordinates.
+     *
+     * @param x The x coordinate of the object (Using the map grid, x,y = 0 at the top left corner).
+     * @param y The y coordinate of the object.
+     */
+    public Entity(int x, int y) {
+        this.x = x;
+        this.y = y;
+        this.xPixel = (this.x * Simulation.CELLSIZE);
+        this.yPixel = (this.y * Simulation.CELLSIZE);
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public float getXPixel() {
+        return xPixel;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public float getYPixel() {
+        return yPixel;
+    }
+}
@@ -1,22 +1,18 @@
-package WizardTD;
+package WizardTD.sim;
 
 /**
  * The Fireball is a projectile that is fired by towers to track and
- * damage monsters in the game.
+ * damage monsters in the game. Fireballs are reused by the simulation's fireball pool.
+ * @see WizardTD.sim.FireballPool FireballPool
  */
-public class Fireball extends Drawable {
+public class Fireball extends Entity {
     /**
     * The target monster that the fireball is tracking and will damage upon collision.
     */
     private Monster target;
     private float damage;
-    private float defaultSpeed;
     private float speed;
     /**
-    * Double the speed of the fireball when fast-forward mode is active.
-    */
-    private float TwoXSpeed;
-    /**
     * A boolean indicating whether the fireball has collided with its target.
     */
     private boolean collided;
@@ -24,47 +20,61 @@ public class Fireball extends Drawable {
      * A boolean indicating whether the fireball is currently active and tracking a valid target.
      */
     private boolean active;
-    private App app;
+    private Simulation simulation;
 
     /**
      * Constructs a Fireball object with the specified attributes.
      * The target monster is calculated in the tower class.
-     * @see WizardTD.Tower#findMonster() findMonster
+     * @see WizardTD.sim.Tower#findMonster() findMonster
      *
-     * @param app     The main application.
+     * @param simulation The simulation the fireball belongs to.
      * @param x       The initial x-coordinate of the fireball.
      * @param y       The initial y-coordinate of the fireball.
      * @param damage  The damage inflicted by the fireball.
      * @param target  The target monster to track and damage.
      */
-    public Fireball(App app, int x, int y, float damage, Monster target) {
+    public Fireball(Simulation simulation, int x, int y, float damage, Monster target) {
         super(x, y);
+        this.simulation = simulation;
+        this.launch(x, y, damage, target);
+
+    }
+
+    /**
+     * Fires the fireball from a tile at a monster, resetting its state so a fireball from
+     * the pool can be reused.
+     *
+     * @param x       The x-coordinate of the tile the fireball is fired from.
+     * @param y       The y-coordinate of the tile the fireball is fired from.
+     * @param damage  The damage inflicted by the fireball.
+     * @param target  The target monster to track and damage.
+     */
+    void launch(int x, int y, float damage, Monster target) {
+        this.x = x;
+        this.y = y;
+        this.xPixel = (x * Simulation.CELLSIZE);
+        this.yPixel = (y * Simulation.CELLSIZE);
         this.damage = damage;
         this.target = target;
-        this.app = app;
-        this.speed = (float)Math.max(5, this.target.getSpeed() + 1);
-        this.defaultSpeed = speed;
-        
-        this.TwoXSpeed = 2*speed;
-        this.sprite = app.images.get("fireball");
+        this.speed = Math.max(5, this.target.getSpeed() + 1);
         this.collided = false;
         this.active = true;
+    }
 
+    /**
+     * Lets go of the target once the fireball is no longer active, so an unused fireball
+     * in the pool does not hold on to a monster that has left the game.
+     */
+    void release() {
+        this.target = null;
     }
 
     /**
      * Updates the state of the fireball every frame. This includes
-     * updating its speed, location, active state and collision state.
+     * updating its location, active state and collision state.
      */
     public void tick() {
 
-        if (this.app.fastforward) {
-            this.speed = this.TwoXSpeed;
-        }
-        else {
-            this.speed = this.defaultSpeed;
-        }
-
         if (!this.collided && this.active) {
             // Move towards the monster
             
@@ -75,8 +85,9 @@ public class Fireball extends Drawable {
 
             // If the monster's coordinates are ever outside the map (monster was banished),
             // fireball should despawn
-            if (this.target.getXPixel() <= 0 || this.target.getXPixel() >= App.WIDTH - App.SIDEBAR 
-            || this.target.getYPixel() <= App.TOPBAR || this.target.getYPixel () >= App.HEIGHT) {
+            Board board = this.simulation.getBoard();
+            if (this.target.getXPixel() <= 0 || this.target.getXPixel() >= board.getWidth()*Simulation.CELLSIZE
+            || this.target.getYPixel() <= 0 || this.target.getYPixel () >= board.getHeight()*Simulation.CELLSIZE) {
                 this.active = false;
             }
             
@@ -101,8 +112,18 @@ public class Fireball extends Drawable {
         }
 
         else if (this.collided && this.active) {
+            float hp = this.target.getHp();
             this.target.updateHealth(this.damage);
             this.active = false;
+
+            GameEvents.FireballHit event = new GameEvents.FireballHit();
+            if (event.shouldCommit()) {
+                event.type = this.target.getType();
+                event.damage = hp - this.target.getHp();
+                event.hpLeft = this.target.getHp();
+                event.killed = hp > 0 && this.target.getHp() <= 0;
+                event.commit();
+            }
         }
 
         // Check if the fireball has hit the target
@@ -0,0 +1,95 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The FireballPool holds every fireball in the simulation. Fireballs are recycled rather than
+ * created for every shot: active fireballs are kept at the front of the pool, and a fireball
+ * that is no longer active is swapped behind them to be reused by the next shot.
+ * @see WizardTD.sim.Fireball Fireball
+ */
+public class FireballPool {
+    private Simulation simulation;
+    private Fireball[] fireballs;
+    private int size; // Slots 0 to size - 1 hold active fireballs
+    private int capacity; // Fireballs created so far, active or waiting to be reused
+
+    /**
+     * Constructs an empty pool for the fireballs of a simulation.
+     *
+     * @param simulation The simulation the fireballs belong to.
+     */
+    public FireballPool(Simulation simulation) {
+        this.simulation = simulation;
+        this.fireballs = new Fireball[16];
+        this.size = 0;
+        this.capacity = 0;
+    }
+
+    /**
+     * Fires a fireball at a monster, reusing an inactive fireball if there is one.
+     *
+     * @param x      The x-coordinate of the tile the fireball is fired from.
+     * @param y      The y-coordinate of the tile the fireball is fired from.
+     * @param damage The damage inflicted by the fireball.
+     * @param target The monster to track and damage.
+     * @return The fired fireball.
+     */
+    public Fireball fire(int x, int y, float damage, Monster target) {
+        if (this.size < this.capacity) {
+            Fireball fireball = this.fireballs[this.size++];
+            fireball.launch(x, y, damage, target);
+            return fireball;
+        }
+
+        if (this.capacity == this.fireballs.length) {
+            this.fireballs = Arrays.copyOf(this.fireballs, this.capacity * 2);
+        }
+        Fireball fireball = new Fireball(this.simulation, x, y, damage, target);
+        this.fireballs[this.capacity++] = fireball;
+        this.size++;
+        return fireball;
+    }
+
+    /**
+     * Updates every active fireball, and recycles the ones that are no longer active in
+     * the same pass.
+     */
+    public void tick() {
+        int i = 0;
+        while (i < this.size) {
+            Fireball fireball = this.fireballs[i];
+            fireball.tick();
+
+            if (fireball.isActive()) {
+                i++;
+                continue;
+            }
+
+            // Swap with the last active fireball, which has not been updated yet
+            fireball.release();
+            this.size--;
+            this.fireballs[i] = this.fireballs[this.size];
+            this.fireballs[this.size] = fireball;
+        }
+    }
+
+    /**
+     * Gets an active fireball.
+     *
+     * @param index The index of the fireball, from 0 to size() - 1.
+     * @return The active fireball at the index.
+     */
+    public Fireball get(int index) {
+        return this.fireballs[index];
+    }
+
+    /**
+     * Gets the number of active fireballs.
+     *
+     * @return The number of fireballs in flight.
+     */
+    public int size() {
+        return this.size;
+    }
+}
@@ -0,0 +1,206 @@
+package WizardTD.sim;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/**
+ * The FrameProfiler measures how long each section of a frame takes, such as moving the waves
+ * or drawing the board, over a rolling window of recent frames. It also samples the memory
+ * allocated by the thread running the game each frame, where the JVM can measure it.
+ * <p>
+ * A section is timed by calling start() before it and stop() after it. Times are added up
+ * over the frame, so a section run several times in a frame, as the steps of a
+ * fast-forwarded game are, counts once with the total. While the profiler is disabled start()
+ * and stop() do nothing beyond checking a flag, so the game can always be instrumented.
+ */
+public class FrameProfiler {
+
+    /**
+     * Number of frames kept, four seconds at 60 FPS.
+     */
+    public static final int FRAMES = 240;
+
+    private boolean enabled;
+    private ArrayList<String> names;
+    private long[] current;     // Time in nanoseconds spent in each section this frame
+    private long[][] history;   // Time of each section in each of the recent frames
+    private long[] allocated;   // Bytes allocated in each of the recent frames
+    private int frames;         // Frames recorded since the profiler was enabled
+
+    private ThreadMXBean threads;
+    private long lastAllocated;
+
+    /**
+     * Constructs a disabled profiler with no sections.
+     */
+    public FrameProfiler() {
+        this.names = new ArrayList<String>();
+        this.current = new long[0];
+        this.history = new long[0][];
+        this.allocated = new long[FRAMES];
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean &&
+         ((com.sun.management.ThreadMXBean)threads).isThreadAllocatedMemorySupported()) {
+            this.threads = threads;
+        }
+    }
+
+    /**
+     * Adds a section to be timed, or finds the section if one of the same name was added.
+     *
+     * @param name The name of the section.
+     * @return The index of the section, passed to stop().
+     */
+    public int addSection(String name) {
+        int index = this.names.indexOf(name);
+        if (index >= 0) {
+            return index;
+        }
+        this.names.add(name);
+        this.current = Arrays.copyOf(this.current, this.names.size());
+        this.history = Arrays.copyOf(this.history, this.names.size());
+        this.history[this.names.size() - 1] = new long[FRAMES];
+        return this.names.size() - 1;
+    }
+
+    /**
+     * Starts timing a section.
+     *
+     * @return The time the section started, or 0 if the profiler is disabled.
+     */
+    public long start() {
+        return this.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Stops timing a section, adding the time since it started to this frame. A section started
+     * while the profiler was disabled is not timed, even if the profiler was enabled since.
+     *
+     * @param section The index of the section.
+     * @param start   The time returned by start().
+     */
+    public void stop(int section, long start) {
+        if (this.enabled && start != 0) {
+            this.current[section] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Records the times of the sections of the frame that has ended, and starts the next frame.
+     */
+    public void endFrame() {
+        if (!this.enabled) {
+            return;
+        }
+        int slot = this.frames % FRAMES;
+        for (int i = 0; i < this.current.length; i++) {
+            this.history[i][slot] = this.current[i];
+            this.current[i] = 0;
+        }
+
+        long total = this.getAllocatedBytes();
+        this.allocated[slot] = total - this.lastAllocated;
+        this.lastAllocated = total;
+        this.frames++;
+    }
+
+    // Bytes allocated by the current thread so far, or 0 if the JVM cannot measure it
+    private long getAllocatedBytes() {
+        if (this.threads == null) {
+            return 0;
+        }
+        return ((com.sun.management.ThreadMXBean)this.threads).getThreadAllocatedBytes(
+        Thread.currentThread().getId());
+    }
+
+    /**
+     * Gets a percentile of the time a section took over the recent frames.
+     *
+     * @param section    The index of the section.
+     * @param percentile The percentile, from 0 to 100, such as 50 for the median.
+     * @return The time in nanoseconds, or 0 if no frames have been recorded.
+     */
+    public long getPercentile(int section, double percentile) {
+        int count = this.getFrameCount();
+        if (count == 0) {
+            return 0;
+        }
+        long[] times = Arrays.copyOf(this.history[section], count);
+        Arrays.sort(times);
+        int rank = (int)Math.ceil(percentile / 100 * count) - 1;
+        return times[Math.max(0, Math.min(rank, count - 1))];
+    }
+
+    /**
+     * Gets the mean number of bytes allocated each frame over the recent frames.
+     *
+     * @return The bytes allocated per frame, or 0 if allocation cannot be measured.
+     */
+    public double getAllocatedPerFrame() {
+        int count = this.getFrameCount();
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += this.allocated[i];
+        }
+        return (double)total / count;
+    }
+
+    /**
+     * Writes a percentile summary of every section as CSV, one row per section.
+     *
+     * @param out Where the CSV is written.
+     * @throws IOException If the CSV cannot be written.
+     */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("section,frames,p50_us,p99_us,max_us\n");
+        for (int i = 0; i < this.names.size(); i++) {
+            out.write(this.names.get(i) + "," + this.getFrameCount() + "," +
+            String.format("%.1f,%.1f,%.1f", this.getPercentile(i, 50) / 1000.0,
+            this.getPercentile(i, 99) / 1000.0, this.getPercentile(i, 100) / 1000.0) + "\n");
+        }
+        // The mean allocation fills the p50 column, as there is one value per frame to average
+        out.write("allocated_kb_per_frame," + this.getFrameCount() + "," +
+        String.format("%.1f", this.getAllocatedPerFrame() / 1024) + ",,\n");
+    }
+
+    /**
+     * Turns the profiler on or off. Turning it on starts a new window of frames.
+     *
+     * @param enabled Whether sections are timed.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            this.frames = 0;
+            Arrays.fill(this.current, 0);
+            this.lastAllocated = this.getAllocatedBytes();
+        }
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Gets the number of frames in the window, up to FRAMES.
+     *
+     * @return The number of frames recorded.
+     */
+    public int getFrameCount() {
+        return Math.min(this.frames, FRAMES);
+    }
+
+    public int getSectionCount() {
+        return this.names.size();
+    }
+
+    public String getSectionName(int section) {
+        return this.names.get(section);
+    }
+}
@@ -0,0 +1,180 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The GameConfig holds the default values required to run a game. These include the map,
+ * the waves, initial tower attributes and mana values.
+ * It is independent of how the configuration file is read, so the simulation can be
+ * set up by the application, by tests or by tooling alike.
+ */
+public class GameConfig {
+
+    /**
+     * The width and height of the board in tiles, unless the configuration sets them.
+     */
+    public static final int DEFAULT_SIZE = 20;
+
+    private String layout;
+    private int width = DEFAULT_SIZE;
+    private int height = DEFAULT_SIZE;
+    private ArrayList<WaveConfig> waves = new ArrayList<WaveConfig>();
+
+    private float initial_tower_range;
+    private float initial_tower_firing_speed;
+    private float initial_tower_damage;
+    private float tower_cost;
+
+    private float initial_mana;
+    private float initial_mana_cap;
+    private float initial_mana_gained_per_second;
+    private float mana_pool_spell_initial_cost;
+    private float mana_pool_spell_cost_increase_per_use;
+    private float mana_pool_spell_cap_multiplier;
+    private float mana_pool_spell_mana_gained_multiplier;
+
+    /**
+     * Gets the path of the map layout file.
+     *
+     * @return The path of the layout (.txt) file.
+     */
+    public String getLayout() {
+        return this.layout;
+    }
+
+    public void setLayout(String layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Gets the width of the board. Characters of the layout past the width are ignored.
+     *
+     * @return The width of the board in tiles.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    public void setWidth(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Gets the height of the board. Lines of the layout past the height are ignored.
+     *
+     * @return The height of the board in tiles.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    public void setHeight(int height) {
+        this.height = height;
+    }
+
+    /**
+     * Gets the waves of the game in the order they are played.
+     *
+     * @return An array list of wave descriptions.
+     */
+    public ArrayList<WaveConfig> getWaves() {
+        return this.waves;
+    }
+
+    /**
+     * Adds a wave to the end of the game.
+     *
+     * @param wave The wave to add.
+     */
+    public void addWave(WaveConfig wave) {
+        this.waves.add(wave);
+    }
+
+    public float getInitialTowerRange() {
+        return this.initial_tower_range;
+    }
+
+    public void setInitialTowerRange(float range) {
+        this.initial_tower_range = range;
+    }
+
+    public float getInitialTowerFiringSpeed() {
+        return this.initial_tower_firing_speed;
+    }
+
+    public void setInitialTowerFiringSpeed(float firingSpeed) {
+        this.initial_tower_firing_speed = firingSpeed;
+    }
+
+    public float getInitialTowerDamage() {
+        return this.initial_tower_damage;
+    }
+
+    public void setInitialTowerDamage(float damage) {
+        this.initial_tower_damage = damage;
+    }
+
+    public float getTowerCost() {
+        return this.tower_cost;
+    }
+
+    public void setTowerCost(float cost) {
+        this.tower_cost = cost;
+    }
+
+    public float getInitialMana() {
+        return this.initial_mana;
+    }
+
+    public void setInitialMana(float mana) {
+        this.initial_mana = mana;
+    }
+
+    public float getInitialManaCap() {
+        return this.initial_mana_cap;
+    }
+
+    public void setInitialManaCap(float cap) {
+        this.initial_mana_cap = cap;
+    }
+
+    public float getInitialManaGainedPerSecond() {
+        return this.initial_mana_gained_per_second;
+    }
+
+    public void setInitialManaGainedPerSecond(float gain) {
+        this.initial_mana_gained_per_second = gain;
+    }
+
+    public float getManaPoolSpellInitialCost() {
+        return this.mana_pool_spell_initial_cost;
+    }
+
+    public void setManaPoolSpellInitialCost(float cost) {
+        this.mana_pool_spell_initial_cost = cost;
+    }
+
+    public float getManaPoolSpellCostIncreasePerUse() {
+        return this.mana_pool_spell_cost_increase_per_use;
+    }
+
+    public void setManaPoolSpellCostIncreasePerUse(float increase) {
+        this.mana_pool_spell_cost_increase_per_use = increase;
+    }
+
+    public float getManaPoolSpellCapMultiplier() {
+        return this.mana_pool_spell_cap_multiplier;
+    }
+
+    public void setManaPoolSpellCapMultiplier(float multiplier) {
+        this.mana_pool_spell_cap_multiplier = multiplier;
+    }
+
+    public float getManaPoolSpellManaGainedMultiplier() {
+        return this.mana_pool_spell_mana_gained_multiplier;
+    }
+
+    public void setManaPoolSpellManaGainedMultiplier(float multiplier) {
+        this.mana_pool_spell_mana_gained_multiplier = multiplier;
+    }
+}
@@ -0,0 +1,199 @@
+package WizardTD.sim;
+
+import jdk.jfr.*;
+
+/**
+ * The GameEvents are the Java Flight Recorder events of the game. A recording of a game, such
+ * as one started with <code>-XX:StartFlightRecording</code>, holds them alongside the JVM's own
+ * garbage collection, allocation and compilation events, so a frame that took too long can be
+ * matched to what the game was doing at the time without attaching a profiler.
+ * <p>
+ * Events are created and committed where they happen. While no recording is running,
+ * isEnabled() is false and no fields are filled in, and the JIT removes the unused events, so
+ * the game can always be instrumented. None of the events record a stack trace, as the
+ * place each is committed from is always the same.
+ */
+public final class GameEvents {
+
+    public static final String CATEGORY = "Wizard TD";
+
+    private GameEvents() {
+    }
+
+    /**
+     * A monster entering the board from a spawn point.
+     */
+    @Name("WizardTD.MonsterSpawn")
+    @Label("Monster Spawn")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class MonsterSpawn extends Event {
+        @Label("Wave")
+        public int wave;
+
+        @Label("Monster Type")
+        public String type;
+
+        @Label("Health")
+        public float hp;
+
+        @Label("Live Monsters")
+        @Description("Monsters on the board, including the one spawned")
+        public int liveMonsters;
+    }
+
+    /**
+     * Finding the distance of every path tile to the wizard's house, which monsters follow.
+     */
+    @Name("WizardTD.PathComputation")
+    @Label("Path Computation")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class PathComputation extends Event {
+        @Label("Board Width")
+        public int width;
+
+        @Label("Board Height")
+        public int height;
+
+        @Label("Tiles Reached")
+        @Description("Tiles with a path to the wizard's house, including the house")
+        public int tilesReached;
+    }
+
+    /**
+     * A monster reaching the wizard's house, taking mana and being banished back to a spawn.
+     */
+    @Name("WizardTD.MonsterBanish")
+    @Label("Monster Banish")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class MonsterBanish extends Event {
+        @Label("Monster Type")
+        public String type;
+
+        @Label("Mana Leaked")
+        public float manaLeaked;
+
+        @Label("Mana Left")
+        public float manaLeft;
+
+        @Label("Live Monsters")
+        public int liveMonsters;
+    }
+
+    /**
+     * A tower firing a fireball at its target.
+     */
+    @Name("WizardTD.TowerShot")
+    @Label("Tower Shot")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class TowerShot extends Event {
+        @Label("Tower X")
+        public int x;
+
+        @Label("Tower Y")
+        public int y;
+
+        @Label("Damage")
+        public float damage;
+
+        @Label("Active Fireballs")
+        @Description("Fireballs in flight, including the one fired")
+        public int activeFireballs;
+    }
+
+    /**
+     * A fireball reaching its target and damaging it.
+     */
+    @Name("WizardTD.FireballHit")
+    @Label("Fireball Hit")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class FireballHit extends Event {
+        @Label("Monster Type")
+        public String type;
+
+        @Label("Damage Dealt")
+        @Description("Damage after the monster's armour")
+        public float damage;
+
+        @Label("Health Left")
+        public float hpLeft;
+
+        @Label("Killed")
+        public boolean killed;
+    }
+
+    /**
+     * The first monster of a wave spawning.
+     */
+    @Name("WizardTD.WaveStart")
+    @Label("Wave Start")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class WaveStart extends Event {
+        @Label("Wave")
+        public int wave;
+
+        @Label("Monsters")
+        @Description("Monsters in the wave")
+        public int monsters;
+
+        @Label("Live Monsters")
+        @Description("Monsters on the board from earlier waves")
+        public int liveMonsters;
+    }
+
+    /**
+     * A wave from its first spawn until every one of its monsters has died. The duration of
+     * the event is the length of the wave.
+     */
+    @Name("WizardTD.WaveEnd")
+    @Label("Wave End")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class WaveEnd extends Event {
+        @Label("Wave")
+        public int wave;
+
+        @Label("Monsters")
+        public int monsters;
+
+        @Label("Steps")
+        @Description("Steps of the simulation the wave lasted")
+        public int steps;
+
+        @Label("Live Monsters")
+        @Description("Monsters on the board from later waves")
+        public int liveMonsters;
+    }
+
+    /**
+     * Creating the next wave of 'Endless mode'.
+     */
+    @Name("WizardTD.EndlessWaveGeneration")
+    @Label("Endless Wave Generation")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class EndlessWaveGeneration extends Event {
+        @Label("Wave")
+        public int wave;
+
+        @Label("Monster Type")
+        public String type;
+
+        @Label("Monsters")
+        public int monsters;
+
+        @Label("Health")
+        public float hp;
+
+        @Label("Speed")
+        public float speed;
+
+        @Label("Armour")
+        public float armour;
+    }
+}
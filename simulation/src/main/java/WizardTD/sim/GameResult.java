@@ -0,0 +1,50 @@
+package WizardTD.sim;
+
+/**
+ * The GameResult records the outcome of a single game played by the BatchRunner.
+ * @see WizardTD.sim.BatchRunner BatchRunner
+ */
+public class GameResult {
+    private long seed;
+    private boolean won;
+    private float leakedMana;
+    private int waveOfDeath;
+    private int steps;
+
+    /**
+     * Constructs the result of a finished game.
+     *
+     * @param seed        The seed the game was played with.
+     * @param won         Whether the player won.
+     * @param leakedMana  The total mana lost to monsters reaching the wizard's house.
+     * @param waveOfDeath The wave number (from 1) the player lost on, 0 if the player did not lose.
+     * @param steps       The number of steps the game lasted.
+     */
+    public GameResult(long seed, boolean won, float leakedMana, int waveOfDeath, int steps) {
+        this.seed = seed;
+        this.won = won;
+        this.leakedMana = leakedMana;
+        this.waveOfDeath = waveOfDeath;
+        this.steps = steps;
+    }
+
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public boolean isWon() {
+        return this.won;
+    }
+
+    public float getLeakedMana() {
+        return this.leakedMana;
+    }
+
+    public int getWaveOfDeath() {
+        return this.waveOfDeath;
+    }
+
+    public int getSteps() {
+        return this.steps;
+    }
+}
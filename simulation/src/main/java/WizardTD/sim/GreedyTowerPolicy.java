@@ -0,0 +1,98 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The GreedyTowerPolicy builds a tower as soon as the player can afford one, on the free
+ * grass tile that covers the most path tiles with the initial tower range.
+ */
+public class GreedyTowerPolicy implements TowerPolicy {
+    /**
+     * Grass tiles ordered from the most to the least path tiles in range.
+     */
+    private ArrayList<Tile> buildOrder;
+    private int nextTile;
+    /**
+     * Number of towers the policy builds at most.
+     */
+    private int maxTowers;
+
+    /**
+     * Constructs a policy that keeps building towers while there are tiles left.
+     */
+    public GreedyTowerPolicy() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a policy that builds up to a number of towers.
+     *
+     * @param maxTowers The number of towers the policy builds at most.
+     */
+    public GreedyTowerPolicy(int maxTowers) {
+        this.maxTowers = maxTowers;
+    }
+
+    /**
+     * Builds towers on the best tiles first, in the order they are ranked.
+     */
+    @Override
+    public void act(Simulation simulation) {
+        if (this.buildOrder == null) {
+            this.buildOrder = rankTiles(simulation);
+            this.nextTile = 0;
+        }
+
+        float cost = simulation.getConfig().getTowerCost();
+        while (this.nextTile < this.buildOrder.size() && this.nextTile < this.maxTowers &&
+         simulation.getManaPool().getCurrentMana() >= cost) {
+            Tile tile = this.buildOrder.get(this.nextTile);
+            this.nextTile++;
+            simulation.placeTower(tile.getX(), tile.getY());
+        }
+    }
+
+    /**
+     * Ranks the grass tiles of the board by the number of path tiles a tower on them
+     * would be able to shoot at. Tiles that cannot reach any path are left out.
+     *
+     * @param simulation The game being played.
+     * @return The grass tiles from the best to the worst.
+     */
+    private static ArrayList<Tile> rankTiles(Simulation simulation) {
+        Board board = simulation.getBoard();
+        float range = simulation.getConfig().getInitialTowerRange();
+        final HashMap<Tile, Integer> coverage = new HashMap<Tile, Integer>();
+
+        for (Tile[] column : board.getTiles()) {
+            for (Tile tile : column) {
+                if (!"grass".equals(tile.getType())) {
+                    continue;
+                }
+
+                // Measured the same way as the tower finds monsters in range
+                float centerX = tile.getXPixel() + Simulation.CELLSIZE / 2;
+                float centerY = tile.getYPixel() + Simulation.CELLSIZE / 2;
+                int paths = 0;
+                for (Tile[] otherColumn : board.getTiles()) {
+                    for (Tile other : otherColumn) {
+                        if ("path".equals(other.getType()) && Math.hypot(centerX - other.getXPixel(),
+                         centerY - other.getYPixel()) <= range) {
+                            paths++;
+                        }
+                    }
+                }
+
+                if (paths > 0) {
+                    coverage.put(tile, paths);
+                }
+            }
+        }
+
+        ArrayList<Tile> ranked = new ArrayList<Tile>(coverage.keySet());
+        // Ties are broken by position so every game builds in the same order
+        ranked.sort(Comparator.comparingInt((Tile tile) -> -coverage.get(tile))
+         .thenComparingInt(Tile::getY).thenComparingInt(Tile::getX));
+        return ranked;
+    }
+}
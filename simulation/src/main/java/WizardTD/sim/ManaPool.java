@@ -0,0 +1,141 @@
+package WizardTD.sim;
+
+/**
+ * The ManaPool holds the player's mana, including passive mana gain and the mana pool spell.
+ * It also determines whether the player has lost the game (mana less than 0).
+ */
+public class ManaPool {
+    private int frameCounter = 0;
+
+    private float currentMana;
+    private float passiveManaGain;
+    private float maxMana;
+    private float currentManaPoolCost;
+    private float manaPoolCostIncreasePerUse;
+    private float manaPoolCapMulitpler;
+    private float manaGainedMulitpler;
+
+    private float leakedMana = 0;
+
+    private boolean player_lost = false;
+
+    /**
+     * Constructs the mana pool with the initial mana values of the configuration.
+     *
+     * @param config The configuration of the game.
+     */
+    public ManaPool(GameConfig config) {
+        this.currentMana = config.getInitialMana();
+        this.maxMana = config.getInitialManaCap();
+        this.currentManaPoolCost = config.getManaPoolSpellInitialCost();
+        this.passiveManaGain = config.getInitialManaGainedPerSecond();
+        this.manaPoolCostIncreasePerUse = config.getManaPoolSpellCostIncreasePerUse();
+        this.manaPoolCapMulitpler = config.getManaPoolSpellCapMultiplier();
+        this.manaGainedMulitpler = config.getManaPoolSpellManaGainedMultiplier();
+    }
+
+    /**
+     * Updates the player's passive mana gain per frame.
+     */
+    public void tick() {
+
+        this.frameCounter++;
+
+        // Update player mana every second
+        if (this.frameCounter%Simulation.FPS == 0) {
+            increaseMana(this.passiveManaGain);
+            this.frameCounter = 0;
+        }
+    }
+
+    public float getCurrentMana() {
+        return this.currentMana;
+    }
+
+    /**
+     * Gets the current rate of passive mana gain per second.
+     *
+     * @return The rate of passive mana gain per second.
+     */
+    public float getPassiveMana() {
+        return this.passiveManaGain;
+    }
+
+    /**
+     * Casts the mana pool spell, increasing the player's maximum mana, passive mana gain,
+     * and increase the cost of the subsequent mana pool spell.
+     */
+    public void manaPoolSpell() {
+        if (this.currentMana >= this.currentManaPoolCost) {
+            this.currentMana -= this.currentManaPoolCost;
+            this.currentManaPoolCost += this.manaPoolCostIncreasePerUse;
+            this.maxMana = this.maxMana * this.manaPoolCapMulitpler;
+            this.passiveManaGain += this.passiveManaGain*(this.manaGainedMulitpler - 1);
+        }
+    }
+
+    /**
+     * Decrease the player's mana. This can occur when placing/upgrading towers,
+     * casting the mana pool spell or banishing monsters.
+     *
+     * @param cost The amount of mana taken from the player.
+     */
+    public void decreaseMana(float cost) {
+        this.currentMana -= cost;
+        // Check if player lost
+        if (this.currentMana < 0) {
+            this.player_lost = true;
+            // To simply display 0
+            this.currentMana = 0;
+        }
+
+    }
+
+    /**
+     * Takes mana from the player for a monster that reached the wizard's house.
+     *
+     * @param amount The remaining hp of the monster.
+     */
+    public void leakMana(float amount) {
+        this.leakedMana += amount;
+        this.decreaseMana(amount);
+    }
+
+    /**
+     * Gets the total mana the player has lost to monsters reaching the wizard's house.
+     *
+     * @return The total leaked mana.
+     */
+    public float getLeakedMana() {
+        return this.leakedMana;
+    }
+
+    /**
+     * Increase the player's mana.
+     *
+     * @param amount The amount of mana to add to the player.
+     */
+    public void increaseMana(float amount) {
+        if (this.currentMana < this.maxMana) {
+            float remainingManaToGain = this.maxMana - this.currentMana;
+            this.currentMana += Math.min(remainingManaToGain, amount);
+        }
+    }
+
+    public float getCurrentManaPoolCost() {
+        return this.currentManaPoolCost;
+    }
+
+    public float getMaxMana() {
+        return this.maxMana;
+    }
+
+    /**
+     * Checks if the player has lost the game.
+     *
+     * @return <code>true</code> if the player has lost, <code>false</code> otherwise.
+     */
+    public boolean playerLost() {
+        return this.player_lost;
+    }
+}
@@ -0,0 +1,233 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The Monster class represents the game's monsters that move through the
+ * game board towards the wizard's house via path tiles. The state of a monster that changes
+ * while it walks is stored in the simulation's monster pool, and a Monster is a handle
+ * to it.
+ * @see WizardTD.sim.MonsterPool MonsterPool
+ */
+public class Monster extends Entity {
+
+    private float startingHp;
+    private float speed;
+    private float armour;
+    private float mana_gained_on_kill;
+
+    private String type;
+    private Simulation simulation;
+    private MonsterPool pool;
+    /**
+     * The monster's slot in the pool, -1 once it has been removed from the pool.
+     */
+    private int slot;
+
+    // State kept when the monster is removed from the pool
+    private float hp;
+    private boolean alive;
+    private int deathAnimationCount;
+    private Tile destination;
+    private float remainingDistance;
+
+    /**
+     * Constructor for the Monster class. This includes basic attributes and
+     * placing the monster just off the board next to its spawn.
+     *
+     * @param simulation The simulation the monster belongs to.
+     * @param type The type of monster.
+     * @param x The x-coordinate on the game board.
+     * @param y The y-coordinate on the game board.
+     * @param hp The monster's health points.
+     * @param speed The monster's movement speed in pixels per frame.
+     * @param armour The monster's armor value, the percentage of damage taken.
+     * @param mana_gained_on_kill The amount of mana gained by the player when the monster is killed.
+     */
+    public Monster(Simulation simulation, String type, int x, int y, float hp, float speed,
+     float armour, float mana_gained_on_kill) {
+        super(x, y); // x and y are grid reference, whereas pixel is centred
+        this.startingHp = hp;
+        this.speed = speed;
+        this.armour = armour;
+        this.mana_gained_on_kill = mana_gained_on_kill;
+        this.simulation = simulation;
+        this.type = type;
+        this.pool = simulation.getMonsterPool();
+        this.slot = this.pool.add(this, hp, speed, armour, mana_gained_on_kill);
+
+        // Start off screen next to the spawn, worked out once by the board for each spawn point
+        Board board = simulation.getBoard();
+        SpawnPoint spawn = board.getSpawnPoint(x, y);
+        if (spawn == null) {
+            Tile tile = board.getTile(x, y);
+            if (!tile.getEdge()) {
+                System.err.println("Error in monster spawn.");
+            }
+            spawn = new SpawnPoint(tile, board.getWidth(), board.getHeight());
+        }
+        this.pool.enter(this.slot, spawn);
+
+        if (!(this.type.equals("gremlin") || this.type.equals("beetle") || this.type.equals("worm"))) {
+            System.err.println("Unknown monster type detected in config file.");
+        }
+
+        }
+     /**
+     * Update the state of the monster. This includes movement and progressing the death animation.
+     * Spawned monsters are updated together by the pool instead.
+     * @see WizardTD.sim.MonsterPool#tick() tick
+     */
+    public void tick() {
+        if (this.slot >= 0) {
+            this.pool.tick(this.slot);
+        }
+    }
+
+    /**
+     * Progress the monster's death animation.
+     */
+    public void updateDeathAnimation() {
+        if (this.slot >= 0) {
+            this.pool.updateDeathAnimation(this.slot);
+        }
+    }
+
+    /**
+     * Update the monster's health after taking damage.
+     *
+     * @param damage The amount of damage taken by the monster.
+     */
+    public void updateHealth(float damage){
+        if (this.slot >= 0) {
+            this.pool.updateHealth(this.slot, damage);
+        }
+        else {
+            this.hp -= (this.armour*damage);
+        }
+    }
+
+    /**
+     * Respawn the monster at a random spawn tile after reaching the wizard's house.
+     */
+    public void respawn() {
+        if (this.slot >= 0) {
+            this.pool.respawn(this.slot);
+        }
+    }
+
+    /**
+     * Keeps the monster's current state in the handle when it is removed from the pool.
+     */
+    void detach() {
+        this.x = this.getX();
+        this.y = this.getY();
+        this.xPixel = this.getXPixel();
+        this.yPixel = this.getYPixel();
+        this.hp = this.getHp();
+        this.alive = this.isAlive();
+        this.deathAnimationCount = this.getDeathAnimationFrame();
+        this.destination = this.getDestination();
+        this.remainingDistance = this.getRemainingDistance();
+        this.slot = -1;
+    }
+
+    int getSlot() {
+        return this.slot;
+    }
+
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    // Getter methods
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the tile the monster is currently walking to.
+     *
+     * @return The next tile on the monster's path, or null if it cannot reach the wizard's
+     *         house. A monster removed from the pool keeps the tile it was walking to.
+     */
+    public Tile getDestination() {
+        if (this.slot < 0) {
+            return this.destination;
+        }
+        return this.pool.getDestination(this.slot);
+    }
+
+    /**
+     * Gets how far the monster still has to walk to reach the wizard's house, the
+     * distance to its destination plus the path from there. A monster removed from the pool
+     * keeps the distance it had left when it was removed.
+     *
+     * @return The remaining distance in pixels, or infinity if it cannot reach the house.
+     */
+    public float getRemainingDistance() {
+        return this.slot >= 0 ? this.pool.getRemainingDistance(this.slot) : this.remainingDistance;
+    }
+
+    @Override
+    public int getX() {
+        return this.slot >= 0 ? this.pool.getX(this.slot) : this.x;
+    }
+
+    @Override
+    public int getY() {
+        return this.slot >= 0 ? this.pool.getY(this.slot) : this.y;
+    }
+
+    @Override
+    public float getXPixel() {
+        return this.slot >= 0 ? this.pool.getXPixel(this.slot) : this.xPixel;
+    }
+
+    @Override
+    public float getYPixel() {
+        return this.slot >= 0 ? this.pool.getYPixel(this.slot) : this.yPixel;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public float getHp() {
+        return this.slot >= 0 ? this.pool.getHp(this.slot) : this.hp;
+    }
+
+    /**
+     * Gets the health points the monster started with.
+     *
+     * @return The monster's starting health points.
+     */
+    public float getStartingHp() {
+        return startingHp;
+    }
+
+    /**
+     * Gets the current image of the monster's death animation.
+     *
+     * @return 0 while the monster has not started dying, otherwise the image number (1-4).
+     */
+    public int getDeathAnimationFrame() {
+        return this.slot >= 0 ? this.pool.getDeathAnimationFrame(this.slot) : this.deathAnimationCount;
+    }
+
+    public boolean isAlive() {
+        return this.slot >= 0 ? this.pool.isAlive(this.slot) : this.alive;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public float getArmour() {
+        return armour;
+    }
+
+    public float getManaGainedOnKill() {
+        return mana_gained_on_kill;
+    }
+}
@@ -0,0 +1,60 @@
+package WizardTD.sim;
+
+/**
+ * The MonsterConfig describes one type of monster in a wave, as read from the
+ * configuration file.
+ * @see WizardTD.sim.WaveConfig WaveConfig
+ */
+public class MonsterConfig {
+
+    private String type;
+    private float hp;
+    private float speed;
+    private float armour;
+    private float mana_gained_on_kill;
+    private int quantity;
+
+    /**
+     * Constructs a new monster description.
+     *
+     * @param type The type of monster ("gremlin", "beetle" or "worm").
+     * @param hp The monster's health points.
+     * @param speed The monster's movement speed in pixels per frame.
+     * @param armour The monster's armor value, the percentage of damage taken.
+     * @param mana_gained_on_kill The amount of mana gained by the player when the monster is killed.
+     * @param quantity The number of monsters of this type in the wave.
+     */
+    public MonsterConfig(String type, float hp, float speed, float armour,
+    float mana_gained_on_kill, int quantity) {
+        this.type = type;
+        this.hp = hp;
+        this.speed = speed;
+        this.armour = armour;
+        this.mana_gained_on_kill = mana_gained_on_kill;
+        this.quantity = quantity;
+    }
+
+    public String getType() {
+        return this.type;
+    }
+
+    public float getHp() {
+        return this.hp;
+    }
+
+    public float getSpeed() {
+        return this.speed;
+    }
+
+    public float getArmour() {
+        return this.armour;
+    }
+
+    public float getManaGainedOnKill() {
+        return this.mana_gained_on_kill;
+    }
+
+    public int getQuantity() {
+        return this.quantity;
+    }
+}
@@ -0,0 +1,345 @@
+package WizardTD.sim;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * The MonsterGrid is a spatial index of the spawned monsters, bucketed by the board tile
+ * they are over. It is rebuilt once every step so towers only have to look at the monsters
+ * in the tiles around them instead of every monster in every wave. Monsters are also
+ * ranked by how far along the path they are, so the first or last monster in a tile is
+ * found without checking the rest.
+ * @see WizardTD.sim.Tower#findMonster() findMonster
+ */
+public class MonsterGrid {
+    private Simulation simulation;
+    private int columns;
+    private int rows;
+
+    /**
+     * Index of the first monster of each cell in the monsters array, the monsters of cell i
+     * are stored from cellStart[i] up to cellEnd[i]. Both are 0 for an empty cell.
+     */
+    private int[] cellStart;
+    private int[] cellEnd;
+    /**
+     * The cells holding monsters, so a rebuild only touches those cells rather than every
+     * cell of the board, which matters on large boards.
+     */
+    private int[] occupied;
+    private int occupiedCount;
+    private Monster[] monsters;
+    /**
+     * The ranking key of each monster, its remaining distance to the wizard's house in the
+     * high bits and its index in wave order in the low bits. Smaller keys are closer to
+     * the house, and each cell is sorted by key.
+     */
+    private long[] keys;
+    /**
+     * The position of each monster and whether it has hp when the grid was built. Towers
+     * read these instead of following each monster back to its pool, and nothing hurts the
+     * monsters between the rebuild and the towers looking for targets.
+     */
+    private float[] xPixels;
+    private float[] yPixels;
+    private boolean[] targetable;
+    /**
+     * Monsters in wave order and the cell each one is over, reused between rebuilds.
+     */
+    private Monster[] gathered;
+    private int[] monsterCell;
+    private long[] gatheredKeys;
+    private int size;
+
+    /**
+     * Constructs an empty grid covering the board of the simulation, with an extra ring of
+     * cells for monsters walking onto the board.
+     *
+     * @param simulation The simulation the monsters belong to.
+     */
+    public MonsterGrid(Simulation simulation) {
+        this.simulation = simulation;
+        this.columns = simulation.getBoard().getWidth() + 2;
+        this.rows = simulation.getBoard().getHeight() + 2;
+        this.cellStart = new int[this.columns * this.rows];
+        this.cellEnd = new int[this.columns * this.rows];
+        this.occupied = new int[16];
+        this.occupiedCount = 0;
+        this.monsters = new Monster[16];
+        this.keys = new long[16];
+        this.xPixels = new float[16];
+        this.yPixels = new float[16];
+        this.targetable = new boolean[16];
+        this.gathered = new Monster[16];
+        this.monsterCell = new int[16];
+        this.gatheredKeys = new long[16];
+        this.size = 0;
+    }
+
+    /**
+     * Re-indexes every spawned monster of every wave at its current position.
+     */
+    public void rebuild() {
+        // Empty the cells of the last rebuild
+        for (int i = 0; i < this.occupiedCount; i++) {
+            this.cellStart[this.occupied[i]] = 0;
+            this.cellEnd[this.occupied[i]] = 0;
+        }
+        this.occupiedCount = 0;
+
+        // Gather the monsters and count them per cell
+        int count = 0;
+        for (Wave wave : this.simulation.getWaveManager().getWaves()) {
+            for (Monster monster : wave.getSpawnedMonsters()) {
+                if (count == this.gathered.length) {
+                    this.gathered = Arrays.copyOf(this.gathered, count * 2);
+                    this.monsterCell = Arrays.copyOf(this.monsterCell, count * 2);
+                    this.gatheredKeys = Arrays.copyOf(this.gatheredKeys, count * 2);
+                }
+                this.gathered[count] = monster;
+                int cell = this.getCell(monster.getXPixel(), monster.getYPixel());
+                this.monsterCell[count] = cell;
+                if (this.cellEnd[cell]++ == 0) {
+                    if (this.occupiedCount == this.occupied.length) {
+                        this.occupied = Arrays.copyOf(this.occupied, this.occupiedCount * 2);
+                    }
+                    this.occupied[this.occupiedCount++] = cell;
+                }
+                // Distances are never negative, so their bits sort in the same order
+                this.gatheredKeys[count] = ((long)Float.floatToIntBits(monster.getRemainingDistance()) << 32) |
+                 count;
+                count++;
+            }
+        }
+
+        // Give each occupied cell its run of the monsters array. The end of each cell is
+        // the next free index while placing monsters, and ends up at the end of the cell.
+        int start = 0;
+        for (int i = 0; i < this.occupiedCount; i++) {
+            int cell = this.occupied[i];
+            this.cellStart[cell] = start;
+            start += this.cellEnd[cell];
+            this.cellEnd[cell] = this.cellStart[cell];
+        }
+
+        if (this.monsters.length < count) {
+            this.monsters = new Monster[this.gathered.length];
+            this.keys = new long[this.gathered.length];
+            this.xPixels = new float[this.gathered.length];
+            this.yPixels = new float[this.gathered.length];
+            this.targetable = new boolean[this.gathered.length];
+        }
+        else if (count < this.size) {
+            // Let go of monsters from the previous step
+            Arrays.fill(this.monsters, count, this.size, null);
+        }
+
+        // Place the keys in their cells and sort each cell, which is much cheaper than
+        // sorting every monster at once. Keys are unique, so they still rank every monster.
+        for (int i = 0; i < count; i++) {
+            this.keys[this.cellEnd[this.monsterCell[i]]++] = this.gatheredKeys[i];
+        }
+        for (int i = 0; i < this.occupiedCount; i++) {
+            int cell = this.occupied[i];
+            if (this.cellEnd[cell] - this.cellStart[cell] > 1) {
+                Arrays.sort(this.keys, this.cellStart[cell], this.cellEnd[cell]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Monster monster = this.gathered[(int)this.keys[i]];
+            this.monsters[i] = monster;
+            this.xPixels[i] = monster.getXPixel();
+            this.yPixels[i] = monster.getYPixel();
+            this.targetable[i] = monster.getHp() > 0;
+        }
+        Arrays.fill(this.gathered, 0, count, null);
+        this.size = count;
+    }
+
+    /**
+     * Finds the monster in range with hp that a tower using the given strategy would target.
+     * Only the cells the range covers are checked, and monsters in cells that are wholly in
+     * range are not measured.
+     *
+     * @param centerX  The x pixel location to measure the range from.
+     * @param centerY  The y pixel location to measure the range from.
+     * @param range    The range in pixels.
+     * @param strategy How to choose between the monsters in range.
+     * @return The monster to target, or null if there is none in range.
+     */
+    public Monster findTarget(float centerX, float centerY, float range, TargetingStrategy strategy) {
+        int minColumn = this.getColumn(centerX - range);
+        int maxColumn = this.getColumn(centerX + range);
+        int minRow = this.getRow(centerY - range);
+        int maxRow = this.getRow(centerY + range);
+        double rangeSquared = (double)range * range;
+
+        Monster target = null;
+        long targetKey = 0;
+        double targetScore = 0;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * this.columns + column;
+                int start = this.cellStart[cell];
+                int end = this.cellEnd[cell];
+                if (start == end) {
+                    continue;
+                }
+
+                // Skip cells out of range. Monsters in cells wholly in range are not measured,
+                // unless the strategy needs their distance.
+                if (this.nearestSquared(column, row, centerX, centerY) > rangeSquared) {
+                    continue;
+                }
+                boolean inside = strategy != TargetingStrategy.CLOSEST &&
+                 this.furthestSquared(column, row, centerX, centerY) <= rangeSquared;
+
+                if (strategy == TargetingStrategy.LAST) {
+                    // Walk the cell backwards, the first monster in range is the furthest back
+                    for (int i = end - 1; i >= start; i--) {
+                        if (target != null && this.keys[i] < targetKey) {
+                            break;
+                        }
+                        if (this.inRange(i, centerX, centerY, rangeSquared, inside) >= 0) {
+                            target = this.monsters[i];
+                            targetKey = this.keys[i];
+                            break;
+                        }
+                    }
+                    continue;
+                }
+
+                for (int i = start; i < end; i++) {
+                    // Later monsters in the cell cannot come first
+                    if (strategy == TargetingStrategy.FIRST && target != null && this.keys[i] > targetKey) {
+                        break;
+                    }
+
+                    double distanceSquared = this.inRange(i, centerX, centerY, rangeSquared, inside);
+                    if (distanceSquared < 0) {
+                        continue;
+                    }
+
+                    double score = strategy.score(this.monsters[i], distanceSquared);
+                    if (target == null || score > targetScore ||
+                     (score == targetScore && this.keys[i] < targetKey)) {
+                        target = this.monsters[i];
+                        targetKey = this.keys[i];
+                        targetScore = score;
+                    }
+
+                    if (strategy == TargetingStrategy.FIRST) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Visits the monsters over the cells a rectangle of the board touches, so only those
+     * monsters are looked at rather than every monster in every wave. Cells are visited row
+     * by row, and within a cell monsters closer to the wizard's house come first.
+     *
+     * @param left   The x pixel location of the left of the rectangle.
+     * @param top    The y pixel location of the top of the rectangle.
+     * @param right  The x pixel location of the right of the rectangle.
+     * @param bottom The y pixel location of the bottom of the rectangle.
+     * @param action What to do with each monster.
+     */
+    public void forEachIn(float left, float top, float right, float bottom, Consumer<Monster> action) {
+        int minColumn = this.getColumn(left);
+        int maxColumn = this.getColumn(right);
+        int minRow = this.getRow(top);
+        int maxRow = this.getRow(bottom);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * this.columns + column;
+                for (int i = this.cellStart[cell]; i < this.cellEnd[cell]; i++) {
+                    action.accept(this.monsters[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a monster in the grid has hp and is in range. Monsters in a cell that is
+     * wholly in range are not measured.
+     *
+     * @return The squared distance to the monster, 0 if it was not measured, or -1 if it
+     *         cannot be targeted.
+     */
+    private double inRange(int index, float centerX, float centerY, double rangeSquared,
+    boolean inside) {
+        if (!this.targetable[index]) {
+            return -1;
+        }
+        if (inside) {
+            return 0;
+        }
+        double deltaX = centerX - this.xPixels[index];
+        double deltaY = centerY - this.yPixels[index];
+        double distanceSquared = deltaX * deltaX + deltaY * deltaY;
+        if (distanceSquared <= rangeSquared) {
+            return distanceSquared;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of monsters in the grid.
+     *
+     * @return The number of monsters indexed by the last rebuild.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the squared distance from a point to the nearest monster position a cell can
+     * hold. The cells around the board reach out forever.
+     */
+    private double nearestSquared(int column, int row, float centerX, float centerY) {
+        double deltaX = Math.max(0, Math.max(getStart(column) - centerX,
+         centerX - getEnd(column, this.columns)));
+        double deltaY = Math.max(0, Math.max(getStart(row) - centerY, centerY - getEnd(row, this.rows)));
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    /**
+     * Gets the squared distance from a point to the furthest monster position a cell can
+     * hold, infinite for the cells around the board.
+     */
+    private double furthestSquared(int column, int row, float centerX, float centerY) {
+        double deltaX = Math.max(centerX - getStart(column), getEnd(column, this.columns) - centerX);
+        double deltaY = Math.max(centerY - getStart(row), getEnd(row, this.rows) - centerY);
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    // The pixel locations covered by a column or row of cells out of count
+    private static double getStart(int cell) {
+        return cell == 0 ? Double.NEGATIVE_INFINITY : (cell - 1) * Simulation.CELLSIZE;
+    }
+
+    private static double getEnd(int cell, int count) {
+        return cell == count - 1 ? Double.POSITIVE_INFINITY : cell * Simulation.CELLSIZE;
+    }
+
+    private int getColumn(float xPixel) {
+        int column = (int)Math.floor(xPixel / Simulation.CELLSIZE) + 1;
+        return Math.max(0, Math.min(this.columns - 1, column));
+    }
+
+    private int getRow(float yPixel) {
+        int row = (int)Math.floor(yPixel / Simulation.CELLSIZE) + 1;
+        return Math.max(0, Math.min(this.rows - 1, row));
+    }
+
+    private int getCell(float xPixel, float yPixel) {
+        return this.getRow(yPixel) * this.columns + this.getColumn(xPixel);
+    }
+}
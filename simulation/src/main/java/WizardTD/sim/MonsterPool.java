@@ -0,0 +1,467 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The MonsterPool stores the state of every monster in the simulation in parallel arrays,
+ * so all of the monsters can be moved in one pass over contiguous memory instead of
+ * following a reference to each monster. A Monster is a handle to its slot in the pool.
+ * <p>
+ * Spawned monsters are kept at the front of the pool and monsters that have not been
+ * spawned yet behind them. Removing a monster moves the last monster of its part of the
+ * pool into its slot, so the pool never has gaps.
+ * @see WizardTD.sim.Monster Monster
+ */
+public class MonsterPool {
+    private Simulation simulation;
+    private Board board;
+    private int size;
+    private int active; // Slots 0 to active - 1 hold spawned monsters
+    private int dead; // Monsters in the pool that have finished dying
+
+    private Monster[] handles;
+    private float[] xPixel;
+    private float[] yPixel;
+    private int[] x;
+    private int[] y;
+    private float[] hp;
+    private float[] speed;
+    private float[] armour;
+    private float[] manaGainedOnKill;
+    /**
+     * The pixel location of the tile each monster is walking to, kept as floats so moving
+     * needs no conversions. destinationXPixel is -1 if the monster cannot reach the
+     * wizard's house.
+     */
+    private float[] destinationXPixel;
+    private float[] destinationYPixel;
+    private int[] deathFrameCount; // Frame count to make each image last 4 frames
+    private int[] deathAnimationCount;
+    private boolean[] alive;
+
+    /**
+     * Constructs an empty pool for the monsters of a simulation.
+     *
+     * @param simulation The simulation the monsters belong to.
+     */
+    public MonsterPool(Simulation simulation) {
+        this.simulation = simulation;
+        this.board = simulation.getBoard();
+        this.size = 0;
+        this.active = 0;
+        this.dead = 0;
+        this.allocate(16);
+    }
+
+    /**
+     * Resizes every array of the pool, keeping the monsters in it.
+     *
+     * @param capacity The number of monsters the pool can hold.
+     */
+    private void allocate(int capacity) {
+        if (this.handles == null) {
+            this.handles = new Monster[capacity];
+            this.xPixel = new float[capacity];
+            this.yPixel = new float[capacity];
+            this.x = new int[capacity];
+            this.y = new int[capacity];
+            this.hp = new float[capacity];
+            this.speed = new float[capacity];
+            this.armour = new float[capacity];
+            this.manaGainedOnKill = new float[capacity];
+            this.destinationXPixel = new float[capacity];
+            this.destinationYPixel = new float[capacity];
+            this.deathFrameCount = new int[capacity];
+            this.deathAnimationCount = new int[capacity];
+            this.alive = new boolean[capacity];
+            return;
+        }
+
+        this.handles = Arrays.copyOf(this.handles, capacity);
+        this.xPixel = Arrays.copyOf(this.xPixel, capacity);
+        this.yPixel = Arrays.copyOf(this.yPixel, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.hp = Arrays.copyOf(this.hp, capacity);
+        this.speed = Arrays.copyOf(this.speed, capacity);
+        this.armour = Arrays.copyOf(this.armour, capacity);
+        this.manaGainedOnKill = Arrays.copyOf(this.manaGainedOnKill, capacity);
+        this.destinationXPixel = Arrays.copyOf(this.destinationXPixel, capacity);
+        this.destinationYPixel = Arrays.copyOf(this.destinationYPixel, capacity);
+        this.deathFrameCount = Arrays.copyOf(this.deathFrameCount, capacity);
+        this.deathAnimationCount = Arrays.copyOf(this.deathAnimationCount, capacity);
+        this.alive = Arrays.copyOf(this.alive, capacity);
+    }
+
+    /**
+     * Adds a monster that has not been spawned to the end of the pool.
+     *
+     * @param monster             The handle of the monster.
+     * @param hp                  The monster's health points.
+     * @param speed               The monster's movement speed in pixels per frame.
+     * @param armour              The percentage of damage the monster takes.
+     * @param mana_gained_on_kill The mana gained by the player when the monster is killed.
+     * @return The slot of the monster.
+     */
+    int add(Monster monster, float hp, float speed, float armour, float mana_gained_on_kill) {
+        if (this.size == this.handles.length) {
+            this.allocate(this.size * 2);
+        }
+
+        int slot = this.size++;
+        this.handles[slot] = monster;
+        this.hp[slot] = hp;
+        this.speed[slot] = speed;
+        this.armour[slot] = armour;
+        this.manaGainedOnKill[slot] = mana_gained_on_kill;
+        this.destinationXPixel[slot] = -1;
+        this.deathFrameCount[slot] = 0;
+        this.deathAnimationCount[slot] = 0;
+        this.alive[slot] = true;
+        return slot;
+    }
+
+    /**
+     * Moves a monster to the spawned part of the pool, so it is updated every step.
+     *
+     * @param monster The monster that has been spawned.
+     */
+    public void activate(Monster monster) {
+        int slot = monster.getSlot();
+        if (slot < this.active) {
+            return;
+        }
+        this.swap(slot, this.active);
+        this.active++;
+    }
+
+    /**
+     * Removes a monster from the pool. The monster keeps the state it had when it was
+     * removed but is no longer updated.
+     *
+     * @param monster The monster to remove.
+     */
+    public void remove(Monster monster) {
+        int slot = monster.getSlot();
+        if (slot < 0) {
+            return;
+        }
+        if (!this.alive[slot]) {
+            this.dead--;
+        }
+        monster.detach();
+
+        // Fill the slot from the end of its part of the pool, then fill that from the end
+        if (slot < this.active) {
+            this.move(this.active - 1, slot);
+            slot = --this.active;
+        }
+        this.move(this.size - 1, slot);
+        this.size--;
+        this.handles[this.size] = null;
+    }
+
+    private void swap(int a, int b) {
+        if (a == b) {
+            return;
+        }
+        Monster handle = this.handles[a];
+        float xPixel = this.xPixel[a];
+        float yPixel = this.yPixel[a];
+        int x = this.x[a];
+        int y = this.y[a];
+        float hp = this.hp[a];
+        float speed = this.speed[a];
+        float armour = this.armour[a];
+        float manaGainedOnKill = this.manaGainedOnKill[a];
+        float destinationXPixel = this.destinationXPixel[a];
+        float destinationYPixel = this.destinationYPixel[a];
+        int deathFrameCount = this.deathFrameCount[a];
+        int deathAnimationCount = this.deathAnimationCount[a];
+        boolean alive = this.alive[a];
+
+        this.move(b, a);
+
+        this.handles[b] = handle;
+        this.xPixel[b] = xPixel;
+        this.yPixel[b] = yPixel;
+        this.x[b] = x;
+        this.y[b] = y;
+        this.hp[b] = hp;
+        this.speed[b] = speed;
+        this.armour[b] = armour;
+        this.manaGainedOnKill[b] = manaGainedOnKill;
+        this.destinationXPixel[b] = destinationXPixel;
+        this.destinationYPixel[b] = destinationYPixel;
+        this.deathFrameCount[b] = deathFrameCount;
+        this.deathAnimationCount[b] = deathAnimationCount;
+        this.alive[b] = alive;
+        handle.setSlot(b);
+    }
+
+    private void move(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        this.handles[to] = this.handles[from];
+        this.xPixel[to] = this.xPixel[from];
+        this.yPixel[to] = this.yPixel[from];
+        this.x[to] = this.x[from];
+        this.y[to] = this.y[from];
+        this.hp[to] = this.hp[from];
+        this.speed[to] = this.speed[from];
+        this.armour[to] = this.armour[from];
+        this.manaGainedOnKill[to] = this.manaGainedOnKill[from];
+        this.destinationXPixel[to] = this.destinationXPixel[from];
+        this.destinationYPixel[to] = this.destinationYPixel[from];
+        this.deathFrameCount[to] = this.deathFrameCount[from];
+        this.deathAnimationCount[to] = this.deathAnimationCount[from];
+        this.alive[to] = this.alive[from];
+        this.handles[to].setSlot(to);
+    }
+
+    /**
+     * Updates every spawned monster, moving it along the path or progressing its death animation.
+     */
+    public void tick() {
+        this.tick(0, this.active);
+    }
+
+    /**
+     * Updates the monster in a slot. This includes movement and progressing the death animation.
+     *
+     * @param slot The slot of the monster.
+     */
+    void tick(int slot) {
+        this.tick(slot, slot + 1);
+    }
+
+    /**
+     * Updates the monsters in a range of slots. The arrays are read into locals so the
+     * loop runs straight over them.
+     *
+     * @param from The first slot to update.
+     * @param to   The slot after the last slot to update.
+     */
+    private void tick(int from, int to) {
+        float[] xPixel = this.xPixel;
+        float[] yPixel = this.yPixel;
+        float[] hp = this.hp;
+        float[] speed = this.speed;
+        float[] destinationXPixel = this.destinationXPixel;
+        float[] destinationYPixel = this.destinationYPixel;
+
+        for (int i = from; i < to; i++) {
+            if (hp[i] > 0 && destinationXPixel[i] >= 0) {
+                // Calculate the distance between the current position and the destination tile
+                double deltaX = destinationXPixel[i] - xPixel[i];
+                double deltaY = destinationYPixel[i] - yPixel[i];
+                double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+
+                // Define the speed based on config
+                double moveSpeed = speed[i];
+
+                // If the distance is greater than the speed, move towards the destination
+                if (distance > moveSpeed) {
+                    double ratio = moveSpeed / distance;
+                    xPixel[i] += ratio * deltaX;
+                    yPixel[i] += ratio * deltaY;
+                } else {
+                    this.arrive(i);
+                }
+            }
+            else {
+                this.updateDeathAnimation(i);
+            }
+        }
+    }
+
+    /**
+     * Moves a monster onto its destination tile, then sends it on to the next tile or back
+     * to a spawn if it has reached the wizard's house. Kept out of the update loop so the
+     * common case of walking between tiles stays small.
+     *
+     * @param slot The slot of the monster.
+     */
+    private void arrive(int slot) {
+        // If the distance is smaller than the speed, directly reach the destination
+        this.xPixel[slot] = this.destinationXPixel[slot];
+        this.yPixel[slot] = this.destinationYPixel[slot];
+        int destinationX = (int)this.destinationXPixel[slot] / Simulation.CELLSIZE;
+        int destinationY = (int)this.destinationYPixel[slot] / Simulation.CELLSIZE;
+        this.x[slot] = destinationX;
+        this.y[slot] = destinationY;
+
+        // If the monster reaches the wizard's house, it should respawn and deal damage
+        if (this.board.getDistance(destinationX, destinationY) == 0) {
+            this.respawn(slot);
+            this.simulation.getManaPool().leakMana(this.hp[slot]);
+
+            GameEvents.MonsterBanish event = new GameEvents.MonsterBanish();
+            if (event.shouldCommit()) {
+                event.type = this.handles[slot].getType();
+                event.manaLeaked = this.hp[slot];
+                event.manaLeft = this.simulation.getManaPool().getCurrentMana();
+                event.liveMonsters = this.active;
+                event.commit();
+            }
+        }
+        // Otherwise move to the next step, one tile closer to the house
+        else {
+            Tile next = this.board.getNextStep(this.board.getTile(destinationX, destinationY),
+            this.simulation.getRandom());
+            this.setDestination(slot, next);
+        }
+    }
+
+    /**
+     * Progresses the death animation of the monster in a slot.
+     *
+     * @param slot The slot of the monster.
+     */
+    void updateDeathAnimation(int slot) {
+        // first checks if the monster is still alive
+        if (this.alive[slot]) {
+            this.deathFrameCount[slot]++;
+
+            // Only move to the next image if 4 frames have passed
+            if (this.deathFrameCount[slot] % 4 == 0) {
+                this.deathAnimationCount[slot]++;
+            }
+
+            // If all frames have been shown, monster is dead and increase player mana
+            if (this.deathAnimationCount[slot] == 4) {
+                this.alive[slot] = false;
+                this.dead++;
+                this.simulation.getManaPool().increaseMana(this.manaGainedOnKill[slot]);
+            }
+        }
+    }
+
+    /**
+     * Damages the monster in a slot, reduced by its armour.
+     *
+     * @param slot   The slot of the monster.
+     * @param damage The amount of damage dealt.
+     */
+    void updateHealth(int slot, float damage) {
+        this.hp[slot] -= (this.armour[slot] * damage);
+    }
+
+    /**
+     * Places the monster in a slot at a random spawn point.
+     *
+     * @param slot The slot of the monster.
+     */
+    void respawn(int slot) {
+        List<SpawnPoint> spawnPoints = this.board.getSpawnPoints();
+        this.enter(slot, spawnPoints.get(this.simulation.getRandom().nextInt(spawnPoints.size())));
+    }
+
+    /**
+     * Places the monster in a slot off the board next to a spawn point, walking onto the
+     * spawn first.
+     *
+     * @param slot  The slot of the monster.
+     * @param spawn The spawn point to enter the board from.
+     */
+    void enter(int slot, SpawnPoint spawn) {
+        Tile tile = spawn.getTile();
+        this.x[slot] = tile.getX();
+        this.y[slot] = tile.getY();
+        this.xPixel[slot] = spawn.getEntryXPixel();
+        this.yPixel[slot] = spawn.getEntryYPixel();
+
+        // The spawn is the first destination, unless the house cannot be reached from it
+        if (this.board.getDistance(tile.getX(), tile.getY()) < 0) {
+            this.setDestination(slot, null);
+        }
+        else {
+            this.setDestination(slot, tile);
+        }
+    }
+
+    private void setDestination(int slot, Tile tile) {
+        if (tile == null) {
+            this.destinationXPixel[slot] = -1;
+            return;
+        }
+        this.destinationXPixel[slot] = tile.getXPixel();
+        this.destinationYPixel[slot] = tile.getYPixel();
+    }
+
+    float getXPixel(int slot) {
+        return this.xPixel[slot];
+    }
+
+    float getYPixel(int slot) {
+        return this.yPixel[slot];
+    }
+
+    int getX(int slot) {
+        return this.x[slot];
+    }
+
+    int getY(int slot) {
+        return this.y[slot];
+    }
+
+    float getHp(int slot) {
+        return this.hp[slot];
+    }
+
+    int getDeathAnimationFrame(int slot) {
+        return this.deathAnimationCount[slot];
+    }
+
+    boolean isAlive(int slot) {
+        return this.alive[slot];
+    }
+
+    float getRemainingDistance(int slot) {
+        float destinationXPixel = this.destinationXPixel[slot];
+        if (destinationXPixel < 0) {
+            return Float.POSITIVE_INFINITY;
+        }
+        float destinationYPixel = this.destinationYPixel[slot];
+        int steps = this.board.getDistance((int)destinationXPixel / Simulation.CELLSIZE,
+        (int)destinationYPixel / Simulation.CELLSIZE);
+        return Math.abs(destinationXPixel - this.xPixel[slot]) +
+         Math.abs(destinationYPixel - this.yPixel[slot]) + steps * Simulation.CELLSIZE;
+    }
+
+    Tile getDestination(int slot) {
+        if (this.destinationXPixel[slot] < 0) {
+            return null;
+        }
+        return this.board.getTile((int)this.destinationXPixel[slot] / Simulation.CELLSIZE,
+        (int)this.destinationYPixel[slot] / Simulation.CELLSIZE);
+    }
+
+    /**
+     * Gets the number of monsters in the pool.
+     *
+     * @return The number of spawned and unspawned monsters.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of monsters that have finished dying and are waiting to be removed.
+     *
+     * @return The number of dead monsters in the pool.
+     */
+    public int getDeadCount() {
+        return this.dead;
+    }
+
+    /**
+     * Gets the number of spawned monsters, which are updated every step.
+     *
+     * @return The number of spawned monsters.
+     */
+    public int getActiveCount() {
+        return this.active;
+    }
+}
@@ -0,0 +1,48 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The Path class is a shortest path from a given starting point to the wizard's house (W)
+ * on a map. It follows the distances to the house stored by the board, so it does not need
+ * to search the map.
+ * @see WizardTD.sim.Board#getNextStep(Tile, SplittableRandom) getNextStep
+ */
+public class Path {
+
+    private ArrayList<Tile> steps; // ArrayList to store tile steps of path
+
+    /**
+     * Initializes a Path object with starting coordinates and the game board,
+     * choosing between equally short paths with the given random number generator.
+     *
+     * @param x      The starting x coordinate.
+     * @param y      The starting y coordinate.
+     * @param board  The Board object representing the game environment.
+     * @param random The random number generator of the game.
+     */
+    public Path(int x, int y, Board board, SplittableRandom random) {
+
+        // No path if the house cannot be reached
+        if (board.getDistance(x, y) < 0) {
+            return;
+        }
+
+        this.steps = new ArrayList<Tile>();
+        Tile current = board.getTile(x, y);
+        while (current != null) {
+            this.steps.add(current);
+            current = board.getNextStep(current, random);
+        }
+    }
+
+    /**
+     * Gets the steps of the path generated.
+     * 
+     * @return An array list of tiles of the shortest path from the starting x,y to the wizard's house,
+     *         or null if there is no path.
+     */
+    public ArrayList<Tile> getSteps() {
+        return this.steps;
+    }
+}
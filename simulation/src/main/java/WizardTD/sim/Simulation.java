@@ -0,0 +1,359 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The Simulation is the game logic of Wizard Tower Defense, independent of how (or whether)
+ * the game is drawn. It owns the board, waves, towers, fireballs and the player's mana,
+ * and advances all of them one frame at a time.
+ * @see WizardTD.sim.WaveManager WaveManager
+ * @see WizardTD.sim.ManaPool ManaPool
+ */
+public class Simulation {
+
+    public static final int CELLSIZE = 32;
+    public static final int FPS = 60;
+    /**
+     * Speed multiplier to run as many steps per frame as the CPU allows.
+     */
+    public static final float MAX_SPEED = Float.POSITIVE_INFINITY;
+    /**
+     * Time in nanoseconds that may be spent stepping per frame at the maximum speed,
+     * half a frame so there is still time left to draw.
+     */
+    private static final long MAX_SPEED_FRAME_TIME = 1000000000L / FPS / 2;
+
+    private GameConfig config;
+    private Board board;
+    private ManaPool manaPool;
+    private WaveManager waveManager;
+    private ArrayList<Tower> towers;
+    private MonsterPool monsterPool;
+    private FireballPool fireballPool;
+    /**
+     * Spawned monsters bucketed by tile, rebuilt every step for towers to find targets.
+     */
+    private MonsterGrid monsterGrid;
+    /**
+     * The only source of randomness in the game, so a game can be replayed from its seed.
+     */
+    private SplittableRandom random;
+    private long seed;
+
+    /**
+     * Number of fixed-length steps run each frame.
+     */
+    private float speed;
+    /**
+     * Steps owed from previous frames when the speed is not a whole number.
+     */
+    private float stepAccumulator;
+    private boolean endless;
+
+    /**
+     * Times the parts of each step, kept when the game is restarted.
+     */
+    private FrameProfiler profiler;
+    private int wavesSection;
+    private int fireballsSection;
+    private int gridSection;
+    private int towersSection;
+
+    /**
+     * Constructs a new simulation, loading the board from the layout in the configuration
+     * at the size the configuration gives.
+     *
+     * @param config The configuration of the game.
+     */
+    public Simulation(GameConfig config) {
+        this(config, config.getWidth(), config.getHeight());
+    }
+
+    /**
+     * Constructs a new simulation, loading the board from the layout in the configuration.
+     *
+     * @param config The configuration of the game.
+     * @param width  The width of the board in tiles.
+     * @param height The height of the board in tiles.
+     */
+    public Simulation(GameConfig config, int width, int height) {
+        this(config, new Board(config.getLayout(), width, height));
+    }
+
+    /**
+     * Constructs a new simulation on an existing board.
+     *
+     * @param config The configuration of the game.
+     * @param board  The board to play on.
+     */
+    public Simulation(GameConfig config, Board board) {
+        this(config, board, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new simulation on an existing board, seeding its random number generator
+     * so the game can be replayed.
+     *
+     * @param config The configuration of the game.
+     * @param board  The board to play on.
+     * @param seed   The seed of the game.
+     */
+    public Simulation(GameConfig config, Board board, long seed) {
+        this.config = config;
+        this.board = board;
+        this.profiler = new FrameProfiler();
+        this.wavesSection = this.profiler.addSection("step: waves");
+        this.fireballsSection = this.profiler.addSection("step: fireballs");
+        this.gridSection = this.profiler.addSection("step: monster grid");
+        this.towersSection = this.profiler.addSection("step: towers");
+        this.restart(seed);
+    }
+
+    /**
+     * Starts the game again from the beginning on the same board, with a new random seed.
+     * The configuration and the board, with its paths, are kept, while the waves, towers,
+     * monsters, fireballs and mana are rebuilt.
+     */
+    public void restart() {
+        this.restart(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Starts the game again from the beginning on the same board. The configuration and the
+     * board, with its paths, are kept, while the waves, towers, monsters, fireballs and mana
+     * are rebuilt. The game is no longer in 'Endless mode' and runs at normal speed.
+     *
+     * @param seed The seed of the new game.
+     */
+    public void restart(long seed) {
+        this.board.clearTowers();
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.manaPool = new ManaPool(config);
+        this.towers = new ArrayList<Tower>();
+        this.speed = 1;
+        this.stepAccumulator = 0;
+        this.endless = false;
+        this.monsterPool = new MonsterPool(this);
+        this.fireballPool = new FireballPool(this);
+        this.waveManager = new WaveManager(this);
+        this.monsterGrid = new MonsterGrid(this);
+    }
+
+    /**
+     * Advances the game by one rendered frame at the current speed multiplier. The game
+     * always moves in fixed steps of 1/FPS seconds, a faster speed runs more steps each
+     * frame so that spawn timings, fire rates and mana gain are the same at every speed.
+     *
+     * @return The number of steps that were run.
+     */
+    public int update() {
+        int steps = 0;
+
+        if (this.speed == MAX_SPEED) {
+            // Step until the time for this frame runs out
+            long deadline = System.nanoTime() + MAX_SPEED_FRAME_TIME;
+            do {
+                this.tick();
+                steps++;
+            } while (!this.playerLost() && !this.playerWon() && System.nanoTime() < deadline);
+            return steps;
+        }
+
+        this.stepAccumulator += this.speed;
+        while (this.stepAccumulator >= 1) {
+            this.tick();
+            this.stepAccumulator--;
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Advances the game by one fixed step of 1/FPS seconds. Updates the waves and monsters, the fireballs,
+     * the towers and the player's mana. Nothing is updated once the player has lost.
+     */
+    public void tick() {
+        if (this.playerLost()) {
+            return;
+        }
+
+        long start = this.profiler.start();
+        this.waveManager.start_game();
+        this.profiler.stop(this.wavesSection, start);
+
+        // Monsters reaching the wizard's house may have ended the game this frame
+        if (this.playerLost()) {
+            return;
+        }
+
+        start = this.profiler.start();
+        this.fireballPool.tick();
+        this.profiler.stop(this.fireballsSection, start);
+
+        // Index the monsters where they are after moving, before towers look for targets
+        start = this.profiler.start();
+        this.monsterGrid.rebuild();
+        this.profiler.stop(this.gridSection, start);
+
+        start = this.profiler.start();
+        for (Tower tower : this.towers) {
+            tower.tick();
+        }
+        this.profiler.stop(this.towersSection, start);
+
+        this.manaPool.tick();
+    }
+
+    public FrameProfiler getProfiler() {
+        return this.profiler;
+    }
+
+    /**
+     * Builds a tower with the initial attributes from the configuration, if the player
+     * has enough mana and the tile is an empty grass tile.
+     *
+     * @param x The x-coordinate of the tile to build on.
+     * @param y The y-coordinate of the tile to build on.
+     * @return The new tower, or null if no tower could be built.
+     */
+    public Tower placeTower(int x, int y) {
+        float initCost = this.config.getTowerCost();
+        Tile tile = this.board.getTile(x, y);
+
+        if (tile == null || this.manaPool.getCurrentMana() < initCost ||
+         !"grass".equals(tile.getType()) || tile.hasTower()) {
+            return null;
+        }
+
+        Tower newTower = new Tower(this, x, y, initCost, this.config.getInitialTowerRange(),
+        this.config.getInitialTowerFiringSpeed(), this.config.getInitialTowerDamage());
+        this.towers.add(newTower);
+        tile.placeTower(newTower);
+
+        this.manaPool.decreaseMana(initCost);
+        return newTower;
+    }
+
+    /**
+     * Checks if the player has lost the game.
+     *
+     * @return <code>true</code> if the player has lost, <code>false</code> otherwise.
+     */
+    public boolean playerLost() {
+        return this.manaPool.playerLost();
+    }
+
+    /**
+     * Checks if the player has won the game.
+     *
+     * @return <code>true</code> if the player has won, <code>false</code> otherwise.
+     */
+    public boolean playerWon() {
+        return this.waveManager.playerWon();
+    }
+
+    public GameConfig getConfig() {
+        return this.config;
+    }
+
+    public Board getBoard() {
+        return this.board;
+    }
+
+    public ManaPool getManaPool() {
+        return this.manaPool;
+    }
+
+    public WaveManager getWaveManager() {
+        return this.waveManager;
+    }
+
+    public ArrayList<Tower> getTowers() {
+        return this.towers;
+    }
+
+    /**
+     * Gets the pool that stores the state of every monster in the game.
+     *
+     * @return The monster pool of the game.
+     */
+    public MonsterPool getMonsterPool() {
+        return this.monsterPool;
+    }
+
+    /**
+     * Gets the pool of every fireball fired by the towers.
+     *
+     * @return The fireball pool of the game.
+     */
+    public FireballPool getFireballPool() {
+        return this.fireballPool;
+    }
+
+    /**
+     * Gets the spatial index of the spawned monsters. It is rebuilt each step, so monsters
+     * added outside of a step are only found after {@link MonsterGrid#rebuild()}.
+     *
+     * @return The monster grid of the game.
+     */
+    public MonsterGrid getMonsterGrid() {
+        return this.monsterGrid;
+    }
+
+    /**
+     * Gets the random number generator of the game. Every random choice in the game, such as
+     * spawn points, paths and endless monsters, must be drawn from it.
+     *
+     * @return The random number generator of the game.
+     */
+    public SplittableRandom getRandom() {
+        return this.random;
+    }
+
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public float getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * Sets the speed multiplier of the game, the number of steps run by each call
+     * to {@link #update()}. The part of a step carried over from earlier frames is only
+     * dropped when the speed changes.
+     *
+     * @param speed The speed multiplier, 1 for normal speed or MAX_SPEED to run
+     *              as fast as possible.
+     */
+    public void setSpeed(float speed) {
+        if (speed != this.speed) {
+            this.speed = speed;
+            this.stepAccumulator = 0;
+        }
+    }
+
+    /**
+     * Checks if the game is running faster than normal speed.
+     *
+     * @return <code>true</code> if the speed multiplier is above 1, <code>false</code> otherwise.
+     */
+    public boolean isFastForward() {
+        return this.speed > 1;
+    }
+
+    public boolean isEndless() {
+        return this.endless;
+    }
+
+    /**
+     * Sets whether the game is played in 'Endless mode', where new waves are created
+     * once the last wave of the configuration is complete.
+     *
+     * @param endless Whether the game is endless.
+     */
+    public void setEndless(boolean endless) {
+        this.endless = endless;
+    }
+}
@@ -0,0 +1,63 @@
+package WizardTD.sim;
+
+/**
+ * A SpawnPoint is a path tile on the edge of the board where monsters enter the map.
+ * Monsters start one tile off the board on the outer side of the spawn, so they walk on
+ * screen; that entry position is worked out once when the spawn point is created.
+ * @see WizardTD.sim.Board#getSpawnPoints() getSpawnPoints
+ */
+public final class SpawnPoint {
+    private final Tile tile;
+    private final float entryXPixel;
+    private final float entryYPixel;
+
+    /**
+     * Constructs the spawn point of a tile on the edge of the board.
+     *
+     * @param tile   The edge tile.
+     * @param width  The width of the board in tiles.
+     * @param height The height of the board in tiles.
+     */
+    public SpawnPoint(Tile tile, int width, int height) {
+        this.tile = tile;
+
+        float xPixel = tile.getXPixel();
+        float yPixel = tile.getYPixel();
+
+        // Move off screen depending on which edge the tile is on
+        if (tile.getX() == 0) {
+            xPixel -= Simulation.CELLSIZE;
+        } else if (tile.getX() == width - 1) {
+            xPixel += Simulation.CELLSIZE;
+        } else if (tile.getY() == 0) {
+            yPixel -= Simulation.CELLSIZE;
+        } else if (tile.getY() == height - 1) {
+            yPixel += Simulation.CELLSIZE;
+        }
+
+        this.entryXPixel = xPixel;
+        this.entryYPixel = yPixel;
+    }
+
+    public Tile getTile() {
+        return this.tile;
+    }
+
+    /**
+     * Gets the x pixel location monsters enter the board from.
+     *
+     * @return The x pixel location, off the board on the left or right edge.
+     */
+    public float getEntryXPixel() {
+        return this.entryXPixel;
+    }
+
+    /**
+     * Gets the y pixel location monsters enter the board from.
+     *
+     * @return The y pixel location, off the board on the top or bottom edge.
+     */
+    public float getEntryYPixel() {
+        return this.entryYPixel;
+    }
+}
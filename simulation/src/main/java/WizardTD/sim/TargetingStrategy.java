@@ -0,0 +1,59 @@
+package WizardTD.sim;
+
+/**
+ * The ways a tower can choose which monster in its range to shoot at.
+ * @see WizardTD.sim.MonsterGrid#findTarget(float, float, float, TargetingStrategy) findTarget
+ */
+public enum TargetingStrategy {
+    /**
+     * The monster closest to the wizard's house along the path.
+     */
+    FIRST,
+    /**
+     * The monster furthest from the wizard's house along the path.
+     */
+    LAST,
+    /**
+     * The monster with the most hp.
+     */
+    STRONGEST,
+    /**
+     * The monster with the least hp.
+     */
+    WEAKEST,
+    /**
+     * The monster closest to the tower.
+     */
+    CLOSEST;
+
+    /**
+     * Scores a monster in range, the monster with the highest score is targeted. Monsters
+     * with the same score are targeted in order along the path.
+     *
+     * @param monster          The monster in range.
+     * @param distanceSquared  The squared distance from the tower to the monster.
+     * @return The monster's score, always 0 for FIRST and LAST which only use the path order.
+     */
+    double score(Monster monster, double distanceSquared) {
+        switch (this) {
+            case STRONGEST:
+                return monster.getHp();
+            case WEAKEST:
+                return -monster.getHp();
+            case CLOSEST:
+                return -distanceSquared;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Gets the strategy after this one, wrapping around to the first.
+     *
+     * @return The next targeting strategy.
+     */
+    public TargetingStrategy next() {
+        TargetingStrategy[] strategies = values();
+        return strategies[(this.ordinal() + 1) % strategies.length];
+    }
+}
@@ -1,15 +1,13 @@
-package WizardTD;
-
-import processing.core.PImage;
+package WizardTD.sim;
 
     /**
      * The Tile class is an individual tile on the game board in the game.
-     * It extends the Drawable class and contains information about the tile's properties
-     * including its type, sprite and whether it has a tower placed.
+     * It contains information about the tile's properties
+     * including its type and the tower placed on it, if any.
      */
-    public class Tile extends Drawable {
-        
-        private boolean hasTower;
+    public class Tile extends Entity {
+
+        private Tower tower; // The tower on this tile, so it can be found from where it stands
         private boolean edge; // Boolean attribute that represents whether the tile is on the edge of the board
         private String type;
 
@@ -19,13 +17,15 @@ import processing.core.PImage;
          *
          * @param x The x-coordinate of the tile.
          * @param y The y-coordinate of the tile.
+         * @param width The width of the game board in tiles.
+         * @param height The height of the game board in tiles.
          */
-        public Tile(int x, int y) {
-            super(x, y); 
-            this.hasTower = false;
+        public Tile(int x, int y, int width, int height) {
+            super(x, y);
+            this.tower = null;
 
             // Determine whether tile is on an edge
-            if (this.x == 0 || this.x == (App.BOARD_WIDTH - 1) || this.y == 0 ||  this.y == (App.BOARD_WIDTH - 1)) {
+            if (this.x == 0 || this.x == (width - 1) || this.y == 0 ||  this.y == (height - 1)) {
                 this.edge = true;
             }
             else {
@@ -34,13 +34,11 @@ import processing.core.PImage;
         }
 
         /**
-         * Sets the sprite and type for this tile.
+         * Sets the type for this tile.
          *
-         * @param sprite The image representing the tile's appearance.
          * @param type   The type of the tile ("grass," "shrub," "wizard," or "path").
          */
-        public void setSprite(PImage sprite, String type) {
-            this.sprite = sprite;
+        public void setType(String type) {
             this.type = type;
         }
 
@@ -59,9 +57,18 @@ import processing.core.PImage;
 
         /**
          * Places a tower on this tile.
+         *
+         * @param tower The tower placed.
+         */
+        public void placeTower(Tower tower) {
+            this.tower = tower;
+        }
+
+        /**
+         * Removes the tower on this tile, if any.
          */
-        public void placeTower() {
-            this.hasTower = true;
+        public void removeTower() {
+            this.tower = null;
         }
 
         /**
@@ -70,7 +77,16 @@ import processing.core.PImage;
          * @return true if a tower has been placed, false otherwise.
          */
         public boolean hasTower() {
-            return this.hasTower;
+            return this.tower != null;
+        }
+
+        /**
+         * Gets the tower placed on this tile.
+         *
+         * @return The tower, or null if there is none.
+         */
+        public Tower getTower() {
+            return this.tower;
         }
 
-    }
\ No newline at end of file
+    }
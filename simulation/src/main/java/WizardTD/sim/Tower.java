@@ -0,0 +1,245 @@
+package WizardTD.sim;
+
+/**
+ * Towers can be built by the user to  target and shoot fireballs at nearby monsters.
+ */
+public class Tower extends Entity {
+    private Simulation simulation;
+    private float range;
+    private float firingSpeed;
+    private float damage;
+    private float initDamage;
+    private float firerate;
+    private Monster target;
+    private TargetingStrategy targeting;
+    private int frameCounter;
+
+    private float towerCenterX;
+    private float towerCenterY;
+
+    private int speedLvl = 0;
+    private int rangeLvl = 0;
+    private int damageLvl = 0;
+
+    /**
+     * Constructs a new Tower with initial values as stated in the configuration file.
+     *
+     * @param simulation The simulation the tower belongs to.
+     * @param x         The x-coordinate of the tower's position.
+     * @param y         The y-coordinate of the tower's position.
+     * @param initCost  The initial cost of the tower.
+     * @param initRange The initial range of the tower.
+     * @param initSpeed The initial firing speed of the tower.
+     * @param initDamage The initial damage of the tower.
+     */
+    public Tower(Simulation simulation, int x, int y, float initCost, float initRange, float initSpeed,
+    float initDamage) {
+        super(x, y); // Need to make the x and y equal to the top left values (round)
+        this.simulation = simulation;
+        this.range = initRange;
+        this.firingSpeed = initSpeed;
+        this.damage = initDamage;
+        this.initDamage = initDamage;
+        this.target = null;
+        this.targeting = TargetingStrategy.FIRST;
+        this.frameCounter = 0;
+        this.firerate = (Simulation.FPS/this.firingSpeed);
+        this.towerCenterX = getXPixel() + Simulation.CELLSIZE / 2;
+        this.towerCenterY = getYPixel() + Simulation.CELLSIZE / 2;
+
+
+    }
+
+    /**
+     * Updates the tower's state during the game, including firing fireballs
+     *  and targeting monsters.
+     */
+    public void tick() {
+
+        this.findMonster();
+
+        // Need to round to avoid modular arithmetic with decimal
+        if (frameCounter%Math.round(this.firerate) == 0){
+            if (this.target != null) {
+                this.shootFireball();
+                this.frameCounter = 0;
+            }
+
+        }
+        // Update time passed
+        this.frameCounter++;
+
+
+    }
+
+   /**
+     * Finds monsters within the tower's range and assigns a monster as the tower's target,
+     * chosen by the tower's targeting strategy. Only the monsters in the tiles around the
+     * tower are checked, using the simulation's monster grid.
+     */
+    public void findMonster() {
+        this.target = this.simulation.getMonsterGrid().findTarget(this.towerCenterX,
+        this.towerCenterY, this.range, this.targeting);
+    }
+
+    /**
+     * Creates a fireball that tracks the target monster.
+     */
+    public void shootFireball() {
+        this.simulation.getFireballPool().fire(this.getX(), this.getY(), this.damage, this.target);
+
+        GameEvents.TowerShot event = new GameEvents.TowerShot();
+        if (event.shouldCommit()) {
+            event.x = this.getX();
+            event.y = this.getY();
+            event.damage = this.damage;
+            event.activeFireballs = this.simulation.getFireballPool().size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Upgrades the range of the tower if the player has enough mana.
+     *
+     * @return true if the tower was upgraded, false otherwise.
+     */
+    public boolean upgradeRange() {
+        float range_price = this.getRangeUpgradeCost();
+
+        if (this.simulation.getManaPool().getCurrentMana() >= range_price) {
+            this.rangeLvl += 1;
+            this.range += 32;
+            this.simulation.getManaPool().decreaseMana(range_price);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Upgrades the firing speed of the tower if the player has enough mana.
+     *
+     * @return true if the tower was upgraded, false otherwise.
+     */
+    public boolean upgradeSpeed() {
+        float speed_price = this.getSpeedUpgradeCost();
+
+        if (this.simulation.getManaPool().getCurrentMana() >= speed_price) {
+            this.speedLvl += 1;
+            this.firingSpeed += 0.5;
+            // Re-calculate firerate
+            this.firerate = (Simulation.FPS/this.firingSpeed);
+            this.simulation.getManaPool().decreaseMana(speed_price);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Upgrades the damage of the tower if the player has enough mana.
+     *
+     * @return true if the tower was upgraded, false otherwise.
+     */
+    public boolean upgradeDamage() {
+        float damage_price = this.getDamageUpgradeCost();
+
+        if (this.simulation.getManaPool().getCurrentMana() >= damage_price) {
+            this.damageLvl += 1;
+            this.damage += 0.5*this.initDamage;
+            this.simulation.getManaPool().decreaseMana(damage_price);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the mana cost of the next range upgrade.
+     *
+     * @return The cost of the next range upgrade.
+     */
+    public int getRangeUpgradeCost() {
+        return 20 + 10*(this.rangeLvl);
+    }
+
+    /**
+     * Gets the mana cost of the next speed upgrade.
+     *
+     * @return The cost of the next speed upgrade.
+     */
+    public int getSpeedUpgradeCost() {
+        return 20 + 10*(this.speedLvl);
+    }
+
+    /**
+     * Gets the mana cost of the next damage upgrade.
+     *
+     * @return The cost of the next damage upgrade.
+     */
+    public int getDamageUpgradeCost() {
+        return 20 + 10*(this.damageLvl);
+    }
+
+    public Monster getTarget() {
+        return this.target;
+    }
+
+    public TargetingStrategy getTargeting() {
+        return this.targeting;
+    }
+
+    /**
+     * Sets how the tower chooses which monster in its range to shoot at.
+     *
+     * @param targeting The targeting strategy of the tower.
+     */
+    public void setTargeting(TargetingStrategy targeting) {
+        this.targeting = targeting;
+    }
+
+    /**
+     * Gets the range of the tower in pixels, measured from the tower's centre.
+     *
+     * @return The tower's range in pixels.
+     */
+    public float getRadius() {
+        return this.range;
+    }
+
+    public float getCenterX() {
+        return this.towerCenterX;
+    }
+
+    public float getCenterY() {
+        return this.towerCenterY;
+    }
+
+    public int getDamage() {
+        return this.damageLvl;
+    }
+
+    public int getSpeed() {
+        return this.speedLvl;
+    }
+
+    public int getRange() {
+        return this.rangeLvl;
+    }
+
+    // Setters for testing drawing
+    // Are not implemented in the game and do not increase tower stats
+    public void setDamage(int lvl) {
+        this.damageLvl = lvl;
+    }
+
+    public void setRange(int lvl) {
+        this.rangeLvl = lvl;
+    }
+
+    public void setSpeed(int lvl) {
+        this.speedLvl = lvl;
+    }
+
+
+
+
+
+}
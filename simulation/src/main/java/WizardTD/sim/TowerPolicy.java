@@ -0,0 +1,17 @@
+package WizardTD.sim;
+
+/**
+ * A TowerPolicy decides where and when towers are built in a game without a player,
+ * such as the games played by the BatchRunner.
+ * @see WizardTD.sim.BatchRunner BatchRunner
+ */
+public interface TowerPolicy {
+
+    /**
+     * Called once every step before the simulation is advanced, so the policy can
+     * build or upgrade towers.
+     *
+     * @param simulation The game being played.
+     */
+    void act(Simulation simulation);
+}
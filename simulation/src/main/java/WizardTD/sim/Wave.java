@@ -0,0 +1,257 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * A wave of monsters in the game that are spawned periodically.
+ * @see WizardTD.sim.Monster Monster
+ */
+public class Wave {
+
+    private double duration;
+    private double pre_wave_pause;
+     // HashMap to store monster and quantity of each monster type
+    private HashMap<Monster, Integer>  monsters_quantity;
+    // List to store monsters
+    private ArrayList<Monster> monsters; 
+    // List to store monsters currently spawned
+    private ArrayList<Monster> monsters_spawned; 
+    private boolean complete;
+    private boolean started;
+    private int total_monsters;
+    private int number; // Counted from 1, as shown to the player
+    private int steps; // Steps since the first monster spawned
+    private MonsterPool pool;
+    private GameEvents.WaveEnd end; // Times the wave from its start until it is finished
+
+    /**
+     * Constructs a new wave of monsters.
+     *
+     * @param duration         The duration of the wave.
+     * @param pre_wave_pause   The pause time before the wave starts.
+     * @param monsters_quantity A map containing monster types and their quantities for this wave.
+     */
+    public Wave(double duration, double pre_wave_pause, HashMap<Monster, Integer>  monsters_quantity) {
+        this.duration = duration;
+        this.pre_wave_pause = pre_wave_pause;
+        this.monsters_quantity = monsters_quantity;
+        this.monsters = new ArrayList<>();
+        this.monsters_spawned = new ArrayList<>();
+        this.complete = false;
+        this.started = false;
+
+        // Create a list of monsters based on passed in monsters_quantity
+
+        for (Map.Entry<Monster, Integer> entry : this.monsters_quantity.entrySet()) {
+
+            Monster monsterType = entry.getKey();
+            int quantityToAdd = entry.getValue();
+            this.total_monsters += quantityToAdd;
+
+             for (int j = 0; j < quantityToAdd; j++) {
+
+                Monster newMonster = new Monster(monsterType.getSimulation(),monsterType.getType(), 
+                monsterType.getX(), monsterType.getY(), monsterType.getHp(), monsterType.getSpeed(), 
+                monsterType.getArmour(), monsterType.getManaGainedOnKill());
+                 
+                this.monsters.add(newMonster);
+            }
+        }
+
+
+    }
+
+    /**
+     * Spawns a monster in the wave.
+     */
+    public void spawn_monster() {
+
+        if (!this.started) {
+            this.start();
+        }
+        this.started = true;
+
+        if (!this.monsters.isEmpty()) {
+            // Pick a random monster
+            SplittableRandom random = this.monsters.get(0).getSimulation().getRandom();
+            int min = 0;
+            int max = this.monsters.size();
+
+            int random_num = random.nextInt((max - min));
+             // Remove the monster from the list after spawning and add it to a monsters_spawned list
+            Monster random_monster = this.monsters.get(random_num);
+            
+            // Pick a random spawn
+            random_monster.respawn();
+            random_monster.getSimulation().getMonsterPool().activate(random_monster);
+
+            this.monsters_spawned.add(random_monster);
+            this.monsters.remove(random_monster);
+
+            GameEvents.MonsterSpawn event = new GameEvents.MonsterSpawn();
+            if (event.shouldCommit()) {
+                event.wave = this.number;
+                event.type = random_monster.getType();
+                event.hp = random_monster.getHp();
+                event.liveMonsters = this.pool.getActiveCount();
+                event.commit();
+            }
+
+        }
+        // If the list is empty, toggle wave complete
+        else {
+            this.complete = true;
+        }
+    }
+
+    /**
+     * Removes monsters from the wave when they die and checks if the wave is complete.
+     * The spawned monsters are moved by the simulation's monster pool.
+     * @see WizardTD.sim.MonsterPool#tick() tick
+     */
+    public void wave_action() {
+
+        // Swap-remove dead monsters, the order of the spawned monsters does not matter.
+        // Nothing to look for if no monster in the game has died
+        int i = 0;
+        boolean anyDead = !this.monsters_spawned.isEmpty() &&
+         this.monsters_spawned.get(0).getSimulation().getMonsterPool().getDeadCount() > 0;
+        while (anyDead && i < this.monsters_spawned.size()) {
+            Monster cur_monster = this.monsters_spawned.get(i);
+            if (!cur_monster.isAlive()) {
+                cur_monster.getSimulation().getMonsterPool().remove(cur_monster);
+                int last = this.monsters_spawned.size() - 1;
+                this.monsters_spawned.set(i, this.monsters_spawned.get(last));
+                this.monsters_spawned.remove(last);
+            }
+            else {
+                i++;
+            }
+        }
+
+
+        // Check if wave is complete
+        if (this.monsters.isEmpty()) {
+            this.complete = true;
+        }
+
+        if (this.started) {
+            this.steps++;
+        }
+        if (this.end != null && this.isFinished()) {
+            this.finish();
+        }
+
+    }
+
+    /**
+     * Records the start of the wave, when its first monster spawns, and starts timing it.
+     */
+    private void start() {
+        if (!this.monsters.isEmpty()) {
+            this.pool = this.monsters.get(0).getSimulation().getMonsterPool();
+        }
+        this.end = new GameEvents.WaveEnd();
+        this.end.begin();
+
+        GameEvents.WaveStart event = new GameEvents.WaveStart();
+        if (event.shouldCommit()) {
+            event.wave = this.number;
+            event.monsters = this.total_monsters;
+            event.liveMonsters = this.pool == null ? 0 : this.pool.getActiveCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the end of the wave, once every one of its monsters has died.
+     */
+    private void finish() {
+        this.end.end();
+        if (this.end.shouldCommit()) {
+            this.end.wave = this.number;
+            this.end.monsters = this.total_monsters;
+            this.end.steps = this.steps;
+            this.end.liveMonsters = this.pool == null ? 0 : this.pool.getActiveCount();
+            this.end.commit();
+        }
+        this.end = null;
+    }
+
+    /**
+     * Gets a list of monsters that are yet to be spawned in the wave.
+     *
+     * @return A list of monsters to be spawned.
+     */
+    public ArrayList<Monster> getMonstersToSpawn() {
+        return this.monsters;
+    }
+
+    /**
+     * Gets a list of monsters that have been spawned in the wave and are
+     * still alive.
+     *
+     * @return A list of spawned monsters.
+     */
+    public ArrayList<Monster> getSpawnedMonsters() {
+        return this.monsters_spawned;
+    }
+
+    public double getDuration() {
+        return this.duration;
+    }
+
+    public double getPreWavePause() {
+        return this.pre_wave_pause;
+    }
+
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    /**
+     * Checks if every monster of the wave has been spawned and has died, so there is
+     * nothing left in the wave to update.
+     *
+     * @return true if the wave is finished, false otherwise.
+     */
+    public boolean isFinished() {
+        return this.complete && this.monsters.isEmpty() && this.monsters_spawned.isEmpty();
+    }
+
+    public boolean hasStarted() {
+        return this.started;
+    }
+
+    /**
+     * Gets the number of the wave, counted from 1 as shown to the player.
+     *
+     * @return The number of the wave, or 0 if it has not been numbered.
+     */
+    public int getNumber() {
+        return this.number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    /**
+     * Gets the number of steps since the first monster of the wave spawned.
+     *
+     * @return The number of steps the wave has lasted.
+     */
+    public int getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Gets the total number of monsters in the wave.
+     *
+     * @return The total number of monsters in the wave.
+     */
+    public int getTotalMonsters() {
+        return this.total_monsters;
+    }
+    
+}
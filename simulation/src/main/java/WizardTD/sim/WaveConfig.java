@@ -0,0 +1,39 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The WaveConfig describes a single wave of monsters, as read from the configuration file.
+ * @see WizardTD.sim.GameConfig GameConfig
+ */
+public class WaveConfig {
+
+    private double duration;
+    private double pre_wave_pause;
+    private ArrayList<MonsterConfig> monsters;
+
+    /**
+     * Constructs a new wave description.
+     *
+     * @param duration       The duration of the wave in seconds.
+     * @param pre_wave_pause The pause time in seconds before the wave starts.
+     * @param monsters       The types of monsters in the wave and their quantities.
+     */
+    public WaveConfig(double duration, double pre_wave_pause, ArrayList<MonsterConfig> monsters) {
+        this.duration = duration;
+        this.pre_wave_pause = pre_wave_pause;
+        this.monsters = monsters;
+    }
+
+    public double getDuration() {
+        return this.duration;
+    }
+
+    public double getPreWavePause() {
+        return this.pre_wave_pause;
+    }
+
+    public ArrayList<MonsterConfig> getMonsters() {
+        return this.monsters;
+    }
+}
@@ -0,0 +1,325 @@
+package WizardTD.sim;
+
+import java.util.*;
+
+/**
+ * The Wave Manager controls the waves of monsters in the game, including wave spawning
+ * and timings as well as game completion.
+ * @see WizardTD.sim.Wave Wave
+ */
+public class WaveManager {
+    private int number_of_waves;
+    /**
+     * Index of the current wave in the list of waves.
+     */
+    private int waveCount;
+    /**
+     * Index of the first wave that still has monsters to spawn or update, every wave
+     * before it has finished.
+     */
+    private int firstLiveWave;
+    /**
+     * Number of finished waves dropped from the front of the list in 'Endless mode'.
+     */
+    private int retiredWaves;
+    private float nextWaveTimer;
+    private int nextWave;
+    private ArrayList<Wave> waves;
+    private Simulation simulation;
+    private int frameCounter;
+    private int spawnFrameCounter;
+    private ArrayList<WaveConfig> waves_config;
+    private boolean player_won;
+
+    // Endless mode monster values
+    private float EndlessHp = 100;
+    private float EndlessSpeed = 1;
+    private float EndlessArmour = 1;
+    private float EndlessManaGainedOnKill = 10;
+    private int EndlessQuantity = 20;
+
+    /**
+     * Constructs a new WaveManager for the game and constructs Wave objects based on
+     * the configuration.
+     *
+     * @param simulation The simulation the waves are played in.
+     */
+    public WaveManager(Simulation simulation) {
+        this.simulation = simulation;
+        this.waves = new ArrayList<Wave>();
+        this.frameCounter = 0;
+        this.spawnFrameCounter = 0;
+        this.waveCount = 0;
+        this.firstLiveWave = 0;
+        this.retiredWaves = 0;
+        this.nextWave = 1;
+        this.nextWaveTimer = 0;
+        this.waves_config = simulation.getConfig().getWaves(); // Get waves
+        this.number_of_waves = this.waves_config.size();
+
+
+        // Create waves
+        for (int i = 0; i<(this.number_of_waves); i++) {
+            WaveConfig currentWave = waves_config.get(i);
+
+            double duration = currentWave.getDuration();
+            double pre_wave_pause = currentWave.getPreWavePause();
+            // Insertion ordered so the same seed spawns the same monsters
+            HashMap<Monster, Integer>  monsters_quantity = new LinkedHashMap<Monster, Integer>();
+
+            // Create monsters in the current wave
+            for (MonsterConfig currentMonster : currentWave.getMonsters()) {
+
+                // Pick a new spawn - Arbitrary - spawn is regenerated when spawned in Wave class
+                Tile newSpawnTile = this.simulation.getBoard().getSpawnPoints().get(0).getTile();
+
+                int spawnX = newSpawnTile.getX();
+                int spawnY = newSpawnTile.getY();
+
+                Monster newMonster = new Monster(simulation, currentMonster.getType(), spawnX, spawnY,
+                currentMonster.getHp(), currentMonster.getSpeed(), currentMonster.getArmour(),
+                currentMonster.getManaGainedOnKill());
+
+                monsters_quantity.put(newMonster, currentMonster.getQuantity());
+            }
+
+            // Create wave
+            Wave newWave = new Wave(duration, pre_wave_pause, monsters_quantity);
+            newWave.setNumber(i + 1);
+            this.waves.add(newWave);
+            this.releaseMonsterTypes(monsters_quantity);
+
+
+        }
+
+        // Starting timer
+        this.nextWaveTimer = (60*(float)(this.waves.get(0).getPreWavePause()));
+
+    }
+
+   /**
+    * Starts the game and is called every frame to update waves and monsters and the timer.
+    * Also checks if the player has won.
+    */
+    public void start_game() {
+
+        Wave currentWave = this.waves.get(this.waveCount);
+        float spawnRate = Math.round((float)(currentWave.getDuration()*Simulation.FPS/currentWave.getTotalMonsters()));
+        float startFrame = Math.round((float)(currentWave.getPreWavePause()*Simulation.FPS));
+
+        // Waves with more monsters than steps, such as late endless waves, spawn several
+        // monsters every step instead of never spawning
+        int spawnsPerStep = 1;
+        if (spawnRate < 1) {
+            spawnRate = 1;
+            spawnsPerStep = Math.round((float)(currentWave.getTotalMonsters()/(currentWave.getDuration()*Simulation.FPS)));
+        }
+
+        // Check for correct spawn frames and that pre-wave pause has passed
+        if (frameCounter%spawnRate == 0 && spawnFrameCounter > startFrame) {
+            for (int i = 0; i < spawnsPerStep; i++) {
+                currentWave.spawn_monster();
+            }
+            frameCounter = 0;
+        }
+
+        // Update Wave timer
+        if (this.nextWaveTimer > 0) {
+            this.nextWaveTimer--;
+        }
+
+        // Update frame
+        frameCounter++;
+        spawnFrameCounter++;
+
+        // Update every spawned monster, then remove the dead from their waves
+        this.simulation.getMonsterPool().tick();
+        for (int i = this.firstLiveWave; i < waveCount + 1; i++) {
+            this.waves.get(i).wave_action();
+        }
+        this.retireWaves();
+
+
+        // Increment wave
+        if (currentWave.isComplete()) {
+
+            if (this.simulation.isEndless()) {
+                CreateEndlessWave();
+            }
+
+            if (this.waveCount < (this.waves.size() - 1)) {
+                this.waveCount++;
+                spawnFrameCounter = 0;
+            }
+
+        }
+
+        // Check next wave timer
+        if (this.nextWaveTimer <= 0) {
+            if (waveCount < (this.waves.size() - 1)) {
+                this.nextWaveTimer = (60*(float)(currentWave.getDuration() +
+                this.waves.get(this.waveCount+1).getPreWavePause()));
+            }
+            if (nextWave < this.getTotalWaves() + 1) {
+                this.nextWave++;
+            }
+        }
+
+        // Check win
+        if (!this.simulation.isEndless() && this.waveCount == this.waves.size() - 1) {
+            checkWin();
+        }
+
+
+    }
+
+    /**
+     * Retrieves the list of waves in the game. In 'Endless mode' finished waves are
+     * removed from the front of the list.
+     *
+     * @return An array list of Wave objects.
+     */
+    public ArrayList<Wave> getWaves() {
+        return this.waves;
+    }
+
+    /**
+     * Moves past the waves before the current wave that have finished, so they are no
+     * longer updated. In 'Endless mode' they are dropped from the list of waves as well,
+     * so the list only holds the waves that still have monsters.
+     */
+    private void retireWaves() {
+        while (this.firstLiveWave < this.waveCount && this.waves.get(this.firstLiveWave).isFinished()) {
+            this.firstLiveWave++;
+        }
+
+        if (this.simulation.isEndless() && this.firstLiveWave > 0) {
+            this.waves.subList(0, this.firstLiveWave).clear();
+            this.retiredWaves += this.firstLiveWave;
+            this.waveCount -= this.firstLiveWave;
+            this.firstLiveWave = 0;
+        }
+    }
+
+    /**
+     * Checks if the player has won the game by killing every monster in all waves.
+     * Every wave before the first live wave has finished, so only the last wave is checked.
+     */
+    public void checkWin() {
+        int lastWave = this.waves.size() - 1;
+        this.player_won = this.firstLiveWave >= lastWave &&
+         this.waves.get(lastWave).getSpawnedMonsters().isEmpty() &&
+         this.waves.get(lastWave).getMonstersToSpawn().isEmpty();
+    }
+
+    public float getTimer() {
+        return this.nextWaveTimer;
+    }
+
+    /**
+     * Gets the number of the next wave to start, as displayed to the player.
+     *
+     * @return The next wave number, starting from 1.
+     */
+    public int getNextWave() {
+        return this.nextWave;
+    }
+
+    /**
+     * Creates a wave to be used in 'Endless mode' with progressively stronger monsters.
+     */
+    public void CreateEndlessWave() {
+        GameEvents.EndlessWaveGeneration event = new GameEvents.EndlessWaveGeneration();
+        event.begin();
+
+        float duration = 8;
+        float pre_wave_pause = 10;
+        HashMap<Monster, Integer>  monsters_quantity = new LinkedHashMap<Monster, Integer>();
+
+        // Create random monster
+        String[] monsters = {"gremlin", "beetle", "worm"};
+        String type = monsters[this.simulation.getRandom().nextInt(3)];
+
+        // Pick a new spawn - Arbitrary - spawn is regenerated when spawned in Wave class
+        Tile newSpawnTile = this.simulation.getBoard().getSpawnPoints().get(0).getTile();
+
+        int spawnX = newSpawnTile.getX();
+        int spawnY = newSpawnTile.getY();
+
+        Monster newMonster = new Monster(this.simulation, type, spawnX, spawnY, EndlessHp,
+        EndlessSpeed, EndlessArmour, EndlessManaGainedOnKill);
+
+        monsters_quantity.put(newMonster, EndlessQuantity);
+
+        // Create wave
+        Wave newWave = new Wave(duration, pre_wave_pause, monsters_quantity);
+        newWave.setNumber(this.getTotalWaves() + 1);
+        this.waves.add(newWave);
+        this.releaseMonsterTypes(monsters_quantity);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.wave = newWave.getNumber();
+            event.type = type;
+            event.monsters = EndlessQuantity;
+            event.hp = EndlessHp;
+            event.speed = EndlessSpeed;
+            event.armour = EndlessArmour;
+            event.commit();
+        }
+
+        // Update endless values
+
+        this.EndlessHp += 10;
+        this.EndlessSpeed += 0.1;
+        if (this.EndlessArmour > 0.1) this.EndlessArmour -= 0.02;
+        this.EndlessManaGainedOnKill += 3;
+        this.EndlessQuantity += 5;
+
+    }
+
+    /**
+     * Removes the monsters used as types to build a wave from the monster pool, the wave
+     * has made its own copies of them.
+     *
+     * @param monsters_quantity The monster types of the wave and their quantities.
+     */
+    private void releaseMonsterTypes(HashMap<Monster, Integer> monsters_quantity) {
+        for (Monster monsterType : monsters_quantity.keySet()) {
+            this.simulation.getMonsterPool().remove(monsterType);
+        }
+    }
+
+    /**
+     * Sets the frame counter to a specific value.
+     *
+     * @param frame The value to set the frame counter to.
+     */
+    public void setFrameCounter(int frame) {
+        this.frameCounter = frame;
+        this.spawnFrameCounter = frame;
+    }
+
+    /**
+     * Gets the current wave index, counting the waves retired in 'Endless mode'.
+     *
+     * @return The current wave index.
+     */
+    public int getWaveCount() {
+        return this.retiredWaves + this.waveCount;
+    }
+
+    /**
+     * Gets the number of waves created so far, counting the waves retired in 'Endless mode'.
+     *
+     * @return The total number of waves.
+     */
+    public int getTotalWaves() {
+        return this.retiredWaves + this.waves.size();
+    }
+
+    public boolean playerWon() {
+        return this.player_won;
+    }
+
+}
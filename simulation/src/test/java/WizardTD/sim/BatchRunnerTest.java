@@ -0,0 +1,73 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class BatchRunnerTest {
+
+    private GameConfig createConfig(float initialMana) {
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 5));
+
+        GameConfig config = new GameConfig();
+        config.addWave(new WaveConfig(10, 0, monsters));
+        config.addWave(new WaveConfig(2, 1, monsters));
+        config.setInitialTowerRange(96);
+        config.setInitialTowerFiringSpeed(2);
+        config.setInitialTowerDamage(100);
+        config.setTowerCost(100);
+        config.setInitialMana(initialMana);
+        config.setInitialManaCap(1000);
+        config.setInitialManaGainedPerSecond(2);
+        config.setManaPoolSpellInitialCost(100);
+        config.setManaPoolSpellCostIncreasePerUse(100);
+        config.setManaPoolSpellCapMultiplier(1.1f);
+        config.setManaPoolSpellManaGainedMultiplier(1.1f);
+        return config;
+    }
+
+    private List<String> layout() {
+        return Arrays.asList(
+            "SSSSSSSS",
+            "XXXXXXXW",
+            "        ",
+            "        ");
+    }
+
+    // Test that every seed is played once and returned in order
+    @Test
+    public void testSeeds() {
+        BatchRunner runner = new BatchRunner(createConfig(300), layout(), 8, 4,
+        GreedyTowerPolicy::new, 60*60, 10, 21);
+        ArrayList<GameResult> results = runner.run();
+
+        assertEquals(results.size(), 21);
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).getSeed(), 10 + i);
+        }
+    }
+
+    // Test that the scripted towers defend the house when there is enough mana
+    @Test
+    public void testWin() {
+        GameResult result = new BatchRunner(createConfig(300), layout(), 8, 4,
+        GreedyTowerPolicy::new, 60*60, 0, 1).play(0);
+
+        assertTrue(result.isWon());
+        assertEquals(result.getWaveOfDeath(), 0);
+        assertEquals(result.getLeakedMana(), 0);
+    }
+
+    // Test the wave of death is recorded when no towers can be built
+    @Test
+    public void testLoss() {
+        GameResult result = new BatchRunner(createConfig(50), layout(), 8, 4,
+        GreedyTowerPolicy::new, 60*60, 0, 1).play(0);
+
+        assertFalse(result.isWon());
+        assertEquals(result.getWaveOfDeath(), 1);
+        assertTrue(result.getLeakedMana() > 50);
+    }
+}
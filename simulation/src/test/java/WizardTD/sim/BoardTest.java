@@ -0,0 +1,128 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class BoardTest {
+
+    // Two equally short routes around the shrubs, and a path cut off from the house
+    private Board createBoard() {
+        return new Board(Arrays.asList(
+            "XXXX ",
+            "X SX ",
+            "XXXW ",
+            "     ",
+            "XX   "), 5, 5);
+    }
+
+    // Test tile types are read from the layout
+    @Test
+    public void testTypes() {
+        Board board = createBoard();
+
+        assertEquals(board.getTile(0, 0).getType(), "path");
+        assertEquals(board.getTile(2, 1).getType(), "shrub");
+        assertEquals(board.getTile(3, 2).getType(), "wizard");
+        assertEquals(board.getTile(4, 4).getType(), "grass");
+        assertNull(board.getTile(5, 0));
+    }
+
+    // Test a board that is much wider than it is tall
+    @Test
+    public void testRectangular() {
+        StringBuilder path = new StringBuilder();
+        for (int x = 0; x < 119; x++) {
+            path.append('X');
+        }
+        Board board = new Board(Arrays.asList("", path + "W", ""), 120, 3);
+
+        assertEquals(board.getWidth(), 120);
+        assertEquals(board.getHeight(), 3);
+        assertEquals(board.getTile(119, 1).getType(), "wizard");
+        assertEquals(board.getTile(60, 2).getType(), "grass");
+        assertNull(board.getTile(0, 3));
+        assertEquals(board.getDistance(0, 1), 119);
+        assertTrue(board.getTile(60, 2).getEdge());
+        assertFalse(board.getTile(60, 1).getEdge());
+
+        // Only the end of the path away from the house is on the edge
+        assertEquals(board.getSpawnPoints().size(), 1);
+        assertEquals(board.getSpawnPoints().get(0).getTile(), board.getTile(0, 1));
+    }
+
+    // Test the distance of each tile to the wizard's house
+    @Test
+    public void testDistances() {
+        Board board = createBoard();
+
+        assertEquals(board.getDistance(3, 2), 0);
+        assertEquals(board.getDistance(2, 2), 1);
+        assertEquals(board.getDistance(3, 1), 1);
+        assertEquals(board.getDistance(0, 0), 5);
+        assertEquals(board.getDistance(3, 0), 2);
+
+        // Not a path, cut off from the house, or outside the board
+        assertEquals(board.getDistance(4, 0), -1);
+        assertEquals(board.getDistance(0, 4), -1);
+        assertEquals(board.getDistance(-1, 0), -1);
+    }
+
+    // Test monsters take both of the shortest routes
+    @Test
+    public void testNextStep() {
+        Board board = createBoard();
+        SplittableRandom random = new SplittableRandom(0);
+        Tile start = board.getTile(0, 0);
+
+        HashSet<Tile> steps = new HashSet<Tile>();
+        for (int i = 0; i < 100; i++) {
+            steps.add(board.getNextStep(start, random));
+        }
+
+        assertEquals(steps, new HashSet<Tile>(Arrays.asList(board.getTile(1, 0), board.getTile(0, 1))));
+        assertNull(board.getNextStep(board.getTile(3, 2), random));
+        assertNull(board.getNextStep(board.getTile(0, 4), random));
+    }
+
+    // Test a path follows the distances to the house
+    @Test
+    public void testPath() {
+        Board board = createBoard();
+
+        SplittableRandom random = new SplittableRandom(1);
+        ArrayList<Tile> steps = new Path(0, 0, board, random).getSteps();
+        assertEquals(steps.size(), 6);
+        assertEquals(steps.get(0), board.getTile(0, 0));
+        assertEquals(steps.get(5), board.getTile(3, 2));
+
+        assertNull(new Path(0, 4, board, random).getSteps());
+    }
+
+    // Test the spawn points and where monsters enter the board from them
+    @Test
+    public void testSpawnPoints() {
+        Board board = createBoard();
+        List<SpawnPoint> spawns = board.getSpawnPoints();
+
+        // Edge path tiles ordered by x then y
+        assertEquals(spawns.size(), 8);
+        assertEquals(spawns.get(0).getTile(), board.getTile(0, 0));
+        assertEquals(spawns.get(3).getTile(), board.getTile(0, 4));
+        assertEquals(spawns.get(7).getTile(), board.getTile(3, 0));
+
+        // Left edge enters from the left, top edge from above
+        assertEquals(spawns.get(1).getEntryXPixel(), -Simulation.CELLSIZE);
+        assertEquals(spawns.get(1).getEntryYPixel(), Simulation.CELLSIZE);
+        assertEquals(spawns.get(7).getEntryXPixel(), 3*Simulation.CELLSIZE);
+        assertEquals(spawns.get(7).getEntryYPixel(), -Simulation.CELLSIZE);
+
+        assertThrows(UnsupportedOperationException.class, () -> spawns.remove(0));
+
+        // The same spawn points are found by tile, and other tiles have none
+        assertSame(board.getSpawnPoint(3, 0), spawns.get(7));
+        assertNull(board.getSpawnPoint(1, 1));
+        assertNull(board.getSpawnPoint(-1, 0));
+    }
+}
@@ -0,0 +1,92 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.*;
+
+public class FireballPoolTest {
+
+    private Simulation simulation;
+
+    @BeforeEach
+    public void setup() {
+        // Straight path along the second row to the wizard's house
+        Board board = new Board(Arrays.asList(
+            "SSSSSSSS",
+            "XXXXXXXW",
+            "        ",
+            "        "), 8, 4);
+
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 2));
+
+        GameConfig config = new GameConfig();
+        config.addWave(new WaveConfig(1, 0, monsters));
+        config.setInitialTowerRange(96);
+        config.setInitialTowerFiringSpeed(1);
+        config.setInitialTowerDamage(40);
+        config.setTowerCost(100);
+        config.setInitialMana(200);
+        config.setInitialManaCap(1000);
+        config.setInitialManaGainedPerSecond(2);
+        config.setManaPoolSpellInitialCost(100);
+        config.setManaPoolSpellCostIncreasePerUse(100);
+        config.setManaPoolSpellCapMultiplier(1.1f);
+        config.setManaPoolSpellManaGainedMultiplier(1.1f);
+
+        this.simulation = new Simulation(config, board, 1);
+    }
+
+    // Test that fireballs hit their target and leave the pool
+    @Test
+    public void testHit() {
+        FireballPool pool = this.simulation.getFireballPool();
+        // The monster is not spawned, so it stays on the second path tile
+        Monster target = new Monster(this.simulation, "gremlin", 0, 1, 100, 32, 0.5f, 1);
+        target.tick();
+        target.tick();
+        pool.fire(2, 2, 40, target);
+        assertEquals(pool.size(), 1);
+
+        int i = 0;
+        while (pool.size() > 0 && i < 100) {
+            pool.tick();
+            i++;
+        }
+
+        assertEquals(pool.size(), 0);
+        assertEquals(target.getHp(), 80);
+    }
+
+    // Test that fireballs are reused once they are no longer active
+    @Test
+    public void testRecycle() {
+        FireballPool pool = this.simulation.getFireballPool();
+        Monster target = new Monster(this.simulation, "gremlin", 0, 1, 100, 0, 1, 1);
+        target.tick();
+        Fireball first = pool.fire(2, 2, 10, target);
+        Fireball second = pool.fire(3, 2, 10, target);
+
+        // The target dies, so both fireballs stop
+        target.updateHealth(100);
+        pool.tick();
+        assertEquals(pool.size(), 0);
+
+        Monster next = new Monster(this.simulation, "gremlin", 0, 1, 100, 0, 1, 1);
+        Fireball reused = pool.fire(4, 2, 10, next);
+        assertTrue(reused == first || reused == second);
+        assertTrue(reused.isActive());
+        assertEquals(reused.getXPixel(), 4 * Simulation.CELLSIZE);
+        assertEquals(reused.getYPixel(), 2 * Simulation.CELLSIZE);
+        assertEquals(pool.size(), 1);
+        assertSame(pool.get(0), reused);
+
+        // A third fireball is new
+        Fireball third = pool.fire(5, 2, 10, next);
+        Fireball fourth = pool.fire(5, 2, 10, next);
+        assertNotSame(third, fourth);
+        assertEquals(pool.size(), 3);
+    }
+}
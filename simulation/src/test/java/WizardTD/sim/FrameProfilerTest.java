@@ -0,0 +1,121 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.io.*;
+import java.util.*;
+
+public class FrameProfilerTest {
+
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    public void setup() {
+        this.profiler = new FrameProfiler();
+    }
+
+    // Test sections are only added once
+    @Test
+    public void testSections() {
+        int waves = this.profiler.addSection("waves");
+        int towers = this.profiler.addSection("towers");
+        assertEquals(this.profiler.addSection("waves"), waves);
+        assertEquals(this.profiler.getSectionCount(), 2);
+        assertEquals(this.profiler.getSectionName(towers), "towers");
+    }
+
+    // Test nothing is recorded while disabled
+    @Test
+    public void testDisabled() {
+        int section = this.profiler.addSection("waves");
+        assertEquals(this.profiler.start(), 0);
+        this.profiler.stop(section, 0);
+        this.profiler.endFrame();
+        assertEquals(this.profiler.getFrameCount(), 0);
+        assertEquals(this.profiler.getPercentile(section, 50), 0);
+    }
+
+    // Test a section started before the profiler was enabled is not timed
+    @Test
+    public void testEnabledWhileTiming() {
+        int section = this.profiler.addSection("frame");
+        long start = this.profiler.start();
+        this.profiler.setEnabled(true);
+        this.profiler.stop(section, start);
+        this.profiler.endFrame();
+
+        assertEquals(this.profiler.getFrameCount(), 1);
+        assertEquals(this.profiler.getPercentile(section, 100), 0);
+    }
+
+    // Test percentiles of the recorded frames, and that old frames roll out of the window
+    @Test
+    public void testPercentiles() throws InterruptedException {
+        int section = this.profiler.addSection("sleep");
+        this.profiler.setEnabled(true);
+
+        for (int i = 0; i < 10; i++) {
+            this.profiler.endFrame();
+        }
+        long start = this.profiler.start();
+        Thread.sleep(5);
+        this.profiler.stop(section, start);
+        this.profiler.endFrame();
+
+        assertEquals(this.profiler.getFrameCount(), 11);
+        assertEquals(this.profiler.getPercentile(section, 50), 0);
+        assertTrue(this.profiler.getPercentile(section, 100) >= 5000000);
+        assertTrue(this.profiler.getPercentile(section, 99) >= 5000000);
+
+        for (int i = 0; i < FrameProfiler.FRAMES; i++) {
+            this.profiler.endFrame();
+        }
+        assertEquals(this.profiler.getFrameCount(), FrameProfiler.FRAMES);
+        assertEquals(this.profiler.getPercentile(section, 100), 0);
+    }
+
+    // Test the CSV has a row for each section and the allocation
+    @Test
+    public void testCsv() throws IOException {
+        this.profiler.addSection("waves");
+        this.profiler.addSection("towers");
+        this.profiler.setEnabled(true);
+        this.profiler.endFrame();
+
+        StringWriter out = new StringWriter();
+        this.profiler.writeCsv(out);
+        String[] lines = out.toString().split("\n");
+        assertEquals(lines.length, 4);
+        assertTrue(lines[1].startsWith("waves,1,"));
+        assertTrue(lines[3].startsWith("allocated_kb_per_frame,1,"));
+    }
+
+    // Test the steps of a game are timed
+    @Test
+    public void testSimulation() {
+        Board board = new Board(Arrays.asList(
+            "SSSSSSSS",
+            "XXXXXXXW",
+            "        ",
+            "        "), 8, 4);
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 2));
+        GameConfig config = new GameConfig();
+        config.addWave(new WaveConfig(1, 0, monsters));
+        config.setInitialMana(200);
+        config.setInitialManaCap(1000);
+
+        Simulation simulation = new Simulation(config, board, 1);
+        FrameProfiler profiler = simulation.getProfiler();
+        profiler.setEnabled(true);
+
+        simulation.tick();
+        profiler.endFrame();
+
+        assertEquals(profiler.getFrameCount(), 1);
+        assertEquals(profiler.getSectionName(0), "step: waves");
+        assertTrue(profiler.getPercentile(0, 50) > 0);
+    }
+}
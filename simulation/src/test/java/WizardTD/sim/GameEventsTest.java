@@ -0,0 +1,80 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.*;
+import java.util.*;
+
+public class GameEventsTest {
+
+    private static final List<Class<? extends Event>> EVENTS = Arrays.asList(
+        GameEvents.MonsterSpawn.class, GameEvents.PathComputation.class,
+        GameEvents.MonsterBanish.class, GameEvents.TowerShot.class, GameEvents.FireballHit.class,
+        GameEvents.WaveStart.class, GameEvents.WaveEnd.class, GameEvents.EndlessWaveGeneration.class);
+
+    // Test an endless game with a tower records every kind of event
+    @Test
+    public void testRecording() throws IOException {
+        File file = File.createTempFile("game", ".jfr");
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            for (Class<? extends Event> event : EVENTS) {
+                recording.enable(event);
+            }
+            recording.start();
+
+            Board board = new Board(Arrays.asList(
+                "SSSSSSSS",
+                "XXXXXXXW",
+                "        ",
+                "        "), 8, 4);
+            ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+            monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 2));
+            GameConfig config = new GameConfig();
+            config.addWave(new WaveConfig(1, 0, monsters));
+            config.setInitialTowerRange(96);
+            config.setInitialTowerFiringSpeed(1);
+            config.setInitialTowerDamage(40);
+            config.setTowerCost(100);
+            config.setInitialMana(200);
+            config.setInitialManaCap(1000);
+
+            Simulation simulation = new Simulation(config, board, 1);
+            simulation.setEndless(true);
+            simulation.placeTower(2, 2);
+            for (int i = 0; i < 3000; i++) {
+                simulation.tick();
+            }
+
+            recording.stop();
+            recording.dump(file.toPath());
+            events = RecordingFile.readAllEvents(file.toPath());
+        }
+        finally {
+            file.delete();
+        }
+
+        HashMap<String, Integer> counts = new HashMap<String, Integer>();
+        for (RecordedEvent event : events) {
+            counts.merge(event.getEventType().getName(), 1, Integer::sum);
+        }
+        for (String name : new String[] {"MonsterSpawn", "PathComputation", "MonsterBanish",
+         "TowerShot", "FireballHit", "WaveStart", "WaveEnd", "EndlessWaveGeneration"}) {
+            assertTrue(counts.containsKey("WizardTD." + name), name);
+        }
+
+        // The first wave is numbered from 1 and both of its monsters spawn
+        RecordedEvent start = events.stream()
+            .filter(event -> event.getEventType().getName().equals("WizardTD.WaveStart"))
+            .min(Comparator.comparing(RecordedEvent::getStartTime)).get();
+        assertEquals(start.getInt("wave"), 1);
+        assertEquals(start.getInt("monsters"), 2);
+    }
+}
@@ -0,0 +1,185 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.*;
+
+public class MonsterGridTest {
+
+    private GameConfig config;
+    private Board board;
+
+    @BeforeEach
+    public void setup() {
+        // Several spawns and paths so monsters spread over the board
+        this.board = new Board(Arrays.asList(
+            "SSSXSSSS",
+            "XXXXXXXW",
+            "   X   X",
+            "   XXXXX"), 8, 4);
+
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 20));
+        monsters.add(new MonsterConfig("beetle", 100, 2, 1, 10, 20));
+
+        this.config = new GameConfig();
+        this.config.addWave(new WaveConfig(2, 0, monsters));
+        this.config.addWave(new WaveConfig(2, 0, monsters));
+        this.config.setInitialTowerRange(96);
+        this.config.setInitialTowerFiringSpeed(1);
+        this.config.setInitialTowerDamage(40);
+        this.config.setTowerCost(100);
+        this.config.setInitialMana(10000);
+        this.config.setInitialManaCap(10000);
+        this.config.setInitialManaGainedPerSecond(2);
+        this.config.setManaPoolSpellInitialCost(100);
+        this.config.setManaPoolSpellCostIncreasePerUse(100);
+        this.config.setManaPoolSpellCapMultiplier(1.1f);
+        this.config.setManaPoolSpellManaGainedMultiplier(1.1f);
+    }
+
+    // The target found by checking every monster, ranked along the path
+    private Monster findLinear(Simulation simulation, float centerX, float centerY, float range,
+    TargetingStrategy strategy) {
+        ArrayList<Monster> ranked = new ArrayList<Monster>();
+        for (Wave wave : simulation.getWaveManager().getWaves()) {
+            ranked.addAll(wave.getSpawnedMonsters());
+        }
+        ranked.sort((a, b) -> Float.compare(a.getRemainingDistance(), b.getRemainingDistance()));
+
+        Monster target = null;
+        double targetScore = 0;
+        for (Monster monster : ranked) {
+            double deltaX = centerX - monster.getXPixel();
+            double deltaY = centerY - monster.getYPixel();
+            double distanceSquared = deltaX * deltaX + deltaY * deltaY;
+            if (distanceSquared > (double)range * range || monster.getHp() <= 0) {
+                continue;
+            }
+
+            double score = strategy.score(monster, distanceSquared);
+            if (target == null || score > targetScore || strategy == TargetingStrategy.LAST) {
+                target = monster;
+                targetScore = score;
+            }
+        }
+        return target;
+    }
+
+    // Test that an empty grid finds nothing
+    @Test
+    public void testEmpty() {
+        Simulation simulation = new Simulation(this.config, this.board, 1);
+        simulation.getMonsterGrid().rebuild();
+
+        assertEquals(simulation.getMonsterGrid().size(), 0);
+        assertNull(simulation.getMonsterGrid().findTarget(128, 64, 1000, TargetingStrategy.FIRST));
+    }
+
+    // Test that the grid picks the same target as checking every monster, for every strategy
+    @Test
+    public void testMatchesLinearSearch() {
+        Simulation simulation = new Simulation(this.config, this.board, 7);
+        float[] ranges = {0, 16, 32, 96, 1000};
+        int found = 0;
+
+        for (int i = 0; i < 60*10; i++) {
+            simulation.tick();
+            // Spread out the hp of the monsters
+            if (i % 20 == 0) {
+                for (Wave wave : simulation.getWaveManager().getWaves()) {
+                    for (Monster monster : wave.getSpawnedMonsters()) {
+                        monster.updateHealth(simulation.getRandom().nextInt(10));
+                    }
+                }
+            }
+            simulation.getMonsterGrid().rebuild();
+
+            for (int x = -1; x <= 8; x++) {
+                for (int y = -1; y <= 4; y++) {
+                    float centerX = x * Simulation.CELLSIZE + Simulation.CELLSIZE / 2;
+                    float centerY = y * Simulation.CELLSIZE + Simulation.CELLSIZE / 2;
+                    for (float range : ranges) {
+                        for (TargetingStrategy strategy : TargetingStrategy.values()) {
+                            Monster expected = this.findLinear(simulation, centerX, centerY, range,
+                            strategy);
+                            assertSame(expected, simulation.getMonsterGrid().findTarget(centerX,
+                            centerY, range, strategy));
+                            if (expected != null) {
+                                found++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Make sure monsters were on the board to be found
+        assertTrue(found > 0);
+    }
+
+    // Test that monsters without hp are not targeted
+    @Test
+    public void testSkipsDeadMonsters() {
+        Simulation simulation = new Simulation(this.config, this.board, 1);
+        Wave wave = simulation.getWaveManager().getWaves().get(0);
+        Monster dead = new Monster(simulation, "gremlin", 0, 1, 0, 1, 1, 1);
+        Monster alive = new Monster(simulation, "gremlin", 0, 1, 10, 1, 1, 1);
+        wave.getSpawnedMonsters().add(dead);
+        wave.getSpawnedMonsters().add(alive);
+        simulation.getMonsterGrid().rebuild();
+
+        assertEquals(simulation.getMonsterGrid().size(), 2);
+        assertSame(alive, simulation.getMonsterGrid().findTarget(16, 48, 96,
+        TargetingStrategy.FIRST));
+    }
+
+    // Test each strategy on monsters spread along a straight path
+    @Test
+    public void testStrategies() {
+        Board board = new Board(Arrays.asList(
+            "SSSSSSSS",
+            "XXXXXXXW",
+            "        ",
+            "        "), 8, 4);
+        Simulation simulation = new Simulation(this.config, board, 1);
+        Wave wave = simulation.getWaveManager().getWaves().get(0);
+
+        // Monsters walking from the left, each one a tick further along with more hp
+        ArrayList<Monster> monsters = new ArrayList<Monster>();
+        for (int i = 0; i < 4; i++) {
+            Monster monster = new Monster(simulation, "gremlin", 0, 1, 10 + i, 16, 1, 1);
+            for (int j = 0; j < 3 + i * 2; j++) {
+                monster.tick();
+            }
+            monsters.add(monster);
+            wave.getSpawnedMonsters().add(monster);
+        }
+        simulation.getMonsterGrid().rebuild();
+        MonsterGrid grid = simulation.getMonsterGrid();
+
+        assertSame(monsters.get(3), grid.findTarget(64, 80, 1000, TargetingStrategy.FIRST));
+        assertSame(monsters.get(0), grid.findTarget(64, 80, 1000, TargetingStrategy.LAST));
+        assertSame(monsters.get(3), grid.findTarget(64, 80, 1000, TargetingStrategy.STRONGEST));
+        assertSame(monsters.get(0), grid.findTarget(64, 80, 1000, TargetingStrategy.WEAKEST));
+        assertSame(monsters.get(0), grid.findTarget(0, 32, 1000, TargetingStrategy.CLOSEST));
+        assertSame(monsters.get(3), grid.findTarget(224, 32, 1000, TargetingStrategy.CLOSEST));
+
+        // The first monster is out of a short range, so the next one is first
+        assertSame(monsters.get(2), grid.findTarget(0, 32, monsters.get(2).getXPixel(),
+        TargetingStrategy.FIRST));
+    }
+
+    // Test that the strategies cycle back to the first
+    @Test
+    public void testNextStrategy() {
+        TargetingStrategy strategy = TargetingStrategy.FIRST;
+        for (int i = 0; i < TargetingStrategy.values().length; i++) {
+            strategy = strategy.next();
+        }
+        assertEquals(strategy, TargetingStrategy.FIRST);
+        assertEquals(TargetingStrategy.FIRST.next(), TargetingStrategy.LAST);
+    }
+}
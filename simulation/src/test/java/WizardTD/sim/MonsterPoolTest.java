@@ -0,0 +1,133 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.*;
+
+public class MonsterPoolTest {
+
+    private GameConfig config;
+    private Board board;
+
+    @BeforeEach
+    public void setup() {
+        // Straight path along the second row to the wizard's house
+        this.board = new Board(Arrays.asList(
+            "SSSSSSSS",
+            "XXXXXXXW",
+            "        ",
+            "        "), 8, 4);
+
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 3));
+        monsters.add(new MonsterConfig("beetle", 100, 1, 1, 10, 2));
+
+        this.config = new GameConfig();
+        this.config.addWave(new WaveConfig(1, 0, monsters));
+        this.config.setInitialTowerRange(96);
+        this.config.setInitialTowerFiringSpeed(1);
+        this.config.setInitialTowerDamage(40);
+        this.config.setTowerCost(100);
+        this.config.setInitialMana(200);
+        this.config.setInitialManaCap(1000);
+        this.config.setInitialManaGainedPerSecond(2);
+        this.config.setManaPoolSpellInitialCost(100);
+        this.config.setManaPoolSpellCostIncreasePerUse(100);
+        this.config.setManaPoolSpellCapMultiplier(1.1f);
+        this.config.setManaPoolSpellManaGainedMultiplier(1.1f);
+    }
+
+    // Test that the pool only holds the monsters of the waves, not the types they were built from
+    @Test
+    public void testWaveMonsters() {
+        Simulation simulation = new Simulation(this.config, this.board, 1);
+
+        assertEquals(simulation.getMonsterPool().size(), 5);
+        assertEquals(simulation.getMonsterPool().getActiveCount(), 0);
+    }
+
+    // Test that monsters keep their own state as other monsters are activated and removed
+    @Test
+    public void testSwapRemove() {
+        Simulation simulation = new Simulation(this.config, this.board, 1);
+        MonsterPool pool = simulation.getMonsterPool();
+        int start = pool.size();
+
+        // Monsters told apart by hp
+        ArrayList<Monster> monsters = new ArrayList<Monster>();
+        for (int i = 0; i < 6; i++) {
+            monsters.add(new Monster(simulation, "gremlin", 0, 1, 10 + i, 2, 1, 1));
+        }
+        pool.activate(monsters.get(4));
+        pool.activate(monsters.get(1));
+        pool.activate(monsters.get(3));
+        pool.activate(monsters.get(3));
+        assertEquals(pool.getActiveCount(), 3);
+
+        // Only spawned monsters move
+        pool.tick();
+        assertEquals(monsters.get(1).getXPixel(), -30);
+        assertEquals(monsters.get(0).getXPixel(), -32);
+
+        pool.remove(monsters.get(1));
+        pool.remove(monsters.get(5));
+        pool.remove(monsters.get(5));
+        assertEquals(pool.getActiveCount(), 2);
+        assertEquals(pool.size(), start + 4);
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(monsters.get(i).getHp(), 10 + i);
+        }
+        assertEquals(monsters.get(4).getXPixel(), -30);
+        assertEquals(monsters.get(3).getXPixel(), -30);
+        assertEquals(monsters.get(2).getXPixel(), -32);
+    }
+
+    // Test that a removed monster keeps the state it had and is no longer updated
+    @Test
+    public void testDetach() {
+        Simulation simulation = new Simulation(this.config, this.board, 1);
+        Monster monster = new Monster(simulation, "gremlin", 0, 1, 10, 2, 0.5f, 1);
+        monster.tick();
+        monster.updateHealth(4);
+        Tile destination = monster.getDestination();
+        float distance = monster.getRemainingDistance();
+
+        simulation.getMonsterPool().remove(monster);
+        monster.tick();
+
+        assertEquals(monster.getXPixel(), -30);
+        assertEquals(monster.getYPixel(), 32);
+        assertEquals(monster.getHp(), 8);
+        assertTrue(monster.isAlive());
+        assertEquals(monster.getDestination(), destination);
+        assertEquals(monster.getRemainingDistance(), distance);
+        assertTrue(distance < Float.POSITIVE_INFINITY);
+
+        monster.updateHealth(4);
+        assertEquals(monster.getHp(), 6);
+    }
+
+    // Test that dead monsters leave the pool along with their wave
+    @Test
+    public void testDeadMonstersRemoved() {
+        Simulation simulation = new Simulation(this.config, this.board, 1);
+        Wave wave = simulation.getWaveManager().getWaves().get(0);
+        wave.spawn_monster();
+        wave.spawn_monster();
+        assertEquals(simulation.getMonsterPool().getActiveCount(), 2);
+
+        wave.getSpawnedMonsters().get(0).updateHealth(1000);
+        for (int i = 0; i < 16; i++) {
+            simulation.getMonsterPool().tick();
+            wave.wave_action();
+        }
+
+        assertEquals(wave.getSpawnedMonsters().size(), 1);
+        assertEquals(simulation.getMonsterPool().getActiveCount(), 1);
+        assertEquals(simulation.getMonsterPool().size(), 4);
+        assertEquals(simulation.getMonsterPool().getDeadCount(), 0);
+    }
+}
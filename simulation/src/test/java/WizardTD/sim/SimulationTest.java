@@ -0,0 +1,298 @@
+package WizardTD.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.*;
+
+public class SimulationTest {
+
+    private GameConfig config;
+    private Board board;
+
+    @BeforeEach
+    public void setup() {
+        // Straight path along the second row to the wizard's house
+        this.board = new Board(Arrays.asList(
+            "SSSSSSSS",
+            "XXXXXXXW",
+            "        ",
+            "        "), 8, 4);
+
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 2));
+
+        this.config = new GameConfig();
+        this.config.addWave(new WaveConfig(1, 0, monsters));
+        this.config.setInitialTowerRange(96);
+        this.config.setInitialTowerFiringSpeed(1);
+        this.config.setInitialTowerDamage(40);
+        this.config.setTowerCost(100);
+        this.config.setInitialMana(200);
+        this.config.setInitialManaCap(1000);
+        this.config.setInitialManaGainedPerSecond(2);
+        this.config.setManaPoolSpellInitialCost(100);
+        this.config.setManaPoolSpellCostIncreasePerUse(100);
+        this.config.setManaPoolSpellCapMultiplier(1.1f);
+        this.config.setManaPoolSpellManaGainedMultiplier(1.1f);
+    }
+
+    // Test that the simulation is created from the configuration without a window
+    @Test
+    public void testConstructor() {
+        Simulation simulation = new Simulation(this.config, this.board);
+
+        assertEquals(simulation.getManaPool().getCurrentMana(), 200);
+        assertEquals(simulation.getManaPool().getMaxMana(), 1000);
+        assertEquals(simulation.getWaveManager().getWaves().size(), 1);
+        assertTrue(simulation.getTowers().isEmpty());
+        assertFalse(simulation.playerLost());
+        assertFalse(simulation.playerWon());
+    }
+
+    // Test that towers can only be built on empty grass tiles with enough mana
+    @Test
+    public void testPlaceTower() {
+        Simulation simulation = new Simulation(this.config, this.board);
+
+        // Shrub, path and wizard tiles
+        assertNull(simulation.placeTower(0, 0));
+        assertNull(simulation.placeTower(0, 1));
+        assertNull(simulation.placeTower(7, 1));
+        // Off the board
+        assertNull(simulation.placeTower(8, 2));
+
+        Tower tower = simulation.placeTower(3, 2);
+        assertNotNull(tower);
+        assertEquals(simulation.getManaPool().getCurrentMana(), 100);
+        assertTrue(this.board.getTile(3, 2).hasTower());
+        assertEquals(this.board.getTile(3, 2).getTower(), tower);
+
+        // Tile is taken
+        assertNull(simulation.placeTower(3, 2));
+
+        // Not enough mana after the second tower
+        assertNotNull(simulation.placeTower(4, 2));
+        assertNull(simulation.placeTower(5, 2));
+        assertEquals(simulation.getTowers().size(), 2);
+    }
+
+    // Test that monsters reaching the wizard's house take the player's mana
+    @Test
+    public void testLeak() {
+        this.config.setInitialMana(50);
+        Simulation simulation = new Simulation(this.config, this.board);
+
+        int i = 0;
+        while (i < 60*20 && !simulation.playerLost()) {
+            simulation.tick();
+            i++;
+        }
+
+        assertTrue(simulation.playerLost());
+        assertEquals(simulation.getManaPool().getCurrentMana(), 0);
+    }
+
+    // Test that a headless game can be won by towers
+    @Test
+    public void testWin() {
+        this.config.setInitialMana(500);
+        this.config.setInitialTowerDamage(100);
+        Simulation simulation = new Simulation(this.config, this.board);
+        simulation.placeTower(3, 2);
+        simulation.placeTower(5, 2);
+
+        int i = 0;
+        while (i < 60*20 && !simulation.playerWon()) {
+            simulation.tick();
+            i++;
+        }
+
+        assertTrue(simulation.playerWon());
+        assertFalse(simulation.playerLost());
+    }
+
+    // Test that the game is the same at every speed after the same game time
+    @Test
+    public void testSpeedMultiplier() {
+        float[] speeds = {1, 4, 16};
+        ArrayList<String> states = new ArrayList<String>();
+
+        for (float speed : speeds) {
+            Board board = new Board(Arrays.asList(
+                "SSSSSSSS",
+                "XXXXXXXW",
+                "        ",
+                "        "), 8, 4);
+            Simulation simulation = new Simulation(this.config, board);
+            simulation.placeTower(3, 2);
+            simulation.setSpeed(speed);
+
+            // 4 seconds of game time
+            int frames = (int)(4*Simulation.FPS/speed);
+            for (int i = 0; i < frames; i++) {
+                simulation.update();
+            }
+
+            Wave wave = simulation.getWaveManager().getWaves().get(0);
+            states.add(simulation.getManaPool().getCurrentMana() + " " +
+            wave.getSpawnedMonsters().size() + " " + wave.getMonstersToSpawn().size() + " " +
+            simulation.getWaveManager().getTimer());
+        }
+
+        assertEquals(states.get(0), states.get(1));
+        assertEquals(states.get(0), states.get(2));
+    }
+
+    // Test that setting the same speed again keeps the part of a step carried between frames
+    @Test
+    public void testSameSpeed() {
+        Simulation simulation = new Simulation(this.config, this.board);
+        simulation.setSpeed(1.5f);
+
+        int steps = 0;
+        for (int i = 0; i < 4; i++) {
+            simulation.setSpeed(1.5f);
+            steps += simulation.update();
+        }
+        assertEquals(steps, 6);
+    }
+
+    // Test that the maximum speed runs at least one step each frame
+    @Test
+    public void testMaxSpeed() {
+        Simulation simulation = new Simulation(this.config, this.board);
+        simulation.setSpeed(Simulation.MAX_SPEED);
+
+        assertTrue(simulation.isFastForward());
+        assertTrue(simulation.update() >= 1);
+    }
+
+    // Plays a game on a board with several spawns and paths, recording where the monsters are
+    private String playSeed(long seed) {
+        Board board = new Board(Arrays.asList(
+            "SSSXSSSS",
+            "XXXXXXXW",
+            "   X   X",
+            "   XXXXX"), 8, 4);
+
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 5));
+        monsters.add(new MonsterConfig("beetle", 100, 2, 1, 10, 5));
+        this.config.addWave(new WaveConfig(2, 0, monsters));
+        this.config.setInitialMana(10000);
+
+        Simulation simulation = new Simulation(this.config, board, seed);
+        simulation.setEndless(true);
+
+        StringBuilder positions = new StringBuilder();
+        for (int i = 0; i < 60*20; i++) {
+            simulation.tick();
+            for (Wave wave : simulation.getWaveManager().getWaves()) {
+                for (Monster monster : wave.getSpawnedMonsters()) {
+                    positions.append(monster.getType() + monster.getXPixel() + "," + monster.getYPixel() + " ");
+                }
+            }
+        }
+        return positions.toString();
+    }
+
+    // Test that a game is replayed exactly from its seed
+    @Test
+    public void testSeed() {
+        String first = this.playSeed(42);
+        this.setup();
+        String second = this.playSeed(42);
+        this.setup();
+        String other = this.playSeed(43);
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    // Test that restarting a lost game starts again on the same board without its towers
+    @Test
+    public void testRestart() {
+        this.config.setInitialMana(150);
+        Simulation simulation = new Simulation(this.config, this.board);
+        assertNotNull(simulation.placeTower(0, 2));
+        simulation.setEndless(true);
+
+        int i = 0;
+        while (i < 60*20 && !simulation.playerLost()) {
+            simulation.tick();
+            i++;
+        }
+        assertTrue(simulation.playerLost());
+
+        simulation.restart(7);
+
+        assertSame(simulation.getBoard(), this.board);
+        assertEquals(simulation.getSeed(), 7);
+        assertFalse(simulation.playerLost());
+        assertFalse(simulation.isEndless());
+        assertTrue(simulation.getTowers().isEmpty());
+        assertFalse(this.board.getTile(0, 2).hasTower());
+        assertEquals(simulation.getManaPool().getCurrentMana(), 150);
+        assertEquals(simulation.getMonsterPool().getActiveCount(), 0);
+        assertEquals(simulation.getWaveManager().getWaveCount(), 0);
+
+        // The tile can be built on again
+        assertNotNull(simulation.placeTower(0, 2));
+    }
+
+    // Test that finished waves are dropped in endless mode so the wave list stays small
+    @Test
+    public void testEndlessRetiresWaves() {
+        Board board = new Board(Arrays.asList(
+            "        ",
+            "XXXXXXXW",
+            "        ",
+            "        "), 8, 4);
+        this.config.setInitialMana(1000000);
+        this.config.setInitialManaCap(10000000);
+        this.config.setInitialTowerDamage(10000);
+        this.config.setInitialTowerFiringSpeed(5);
+        Simulation simulation = new Simulation(this.config, board);
+        simulation.setEndless(true);
+        for (int x = 1; x < 7; x++) {
+            simulation.placeTower(x, 0);
+            simulation.placeTower(x, 2);
+        }
+
+        // 5 minutes of game time
+        int largest = 0;
+        for (int i = 0; i < 60*60*5; i++) {
+            simulation.tick();
+            largest = Math.max(largest, simulation.getWaveManager().getWaves().size());
+        }
+
+        WaveManager waveManager = simulation.getWaveManager();
+        assertTrue(waveManager.getWaveCount() > 10);
+        assertTrue(largest <= 3);
+        // The current wave is always the newest endless wave
+        assertEquals(waveManager.getTotalWaves(), waveManager.getWaveCount() + 1);
+        assertFalse(simulation.playerLost());
+    }
+
+    // Test that a wave with more monsters than steps in its duration still spawns them all
+    @Test
+    public void testCrowdedWaveSpawns() {
+        ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+        monsters.add(new MonsterConfig("gremlin", 100, 1, 1, 10, 200));
+        GameConfig config = new GameConfig();
+        config.addWave(new WaveConfig(1, 0, monsters));
+        config.setInitialMana(100000);
+        config.setInitialManaCap(100000);
+        Simulation simulation = new Simulation(config, this.board);
+
+        for (int i = 0; i < 60*2; i++) {
+            simulation.tick();
+        }
+
+        Wave wave = simulation.getWaveManager().getWaves().get(0);
+        assertTrue(wave.getMonstersToSpawn().isEmpty());
+        assertEquals(wave.getSpawnedMonsters().size(), 200);
+    }
+}
@@ -0,0 +1,148 @@
+package WizardTD;
+
+import WizardTD.sim.Board;
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.Monster;
+import WizardTD.sim.Simulation;
+import WizardTD.sim.SpawnPoint;
+import WizardTD.sim.Tile;
+import WizardTD.sim.Wave;
+
+import java.util.*;
+
+/**
+ * The BenchmarkGames sets up the games used by the benchmarks, using the shipped
+ * configuration on any of the shipped levels.
+ */
+public class BenchmarkGames {
+
+    public static final String CONFIG = "config.json";
+    /**
+     * A level where every spawn can reach the wizard's house, so monsters only die when shot.
+     */
+    public static final String LEVEL = "level3.txt";
+
+    /**
+     * Creates a seeded game of the shipped configuration on a level.
+     *
+     * @param level The path of the level (.txt) file.
+     * @return The new game.
+     */
+    public static Simulation createSimulation(String level) {
+        return createSimulation(loadConfig(level));
+    }
+
+    /**
+     * Loads the shipped configuration to play on a level.
+     *
+     * @param level The path of the level (.txt) file.
+     * @return The configuration, which can be changed before creating the game.
+     */
+    public static GameConfig loadConfig(String level) {
+        GameConfig config = ConfigLoader.load(CONFIG);
+        config.setLayout(level);
+        return config;
+    }
+
+    /**
+     * Creates a seeded game of a configuration on its level.
+     *
+     * @param config The configuration of the game.
+     * @return The new game.
+     */
+    public static Simulation createSimulation(GameConfig config) {
+        return new Simulation(config, new Board(config.getLayout(), config.getWidth(), config.getHeight()), 0);
+    }
+
+    /**
+     * Creates a seeded game of a configuration on a large board, with its level repeated
+     * across and down so every copy has its own wizard's house.
+     *
+     * @param config The configuration of the game.
+     * @param copies The number of copies of the level across and down.
+     * @return The new game.
+     */
+    public static Simulation createSimulation(GameConfig config, int copies) {
+        int size = GameConfig.DEFAULT_SIZE;
+        ArrayList<String> lines = new ArrayList<String>();
+        for (String line : Board.readLayout(config.getLayout())) {
+            // Lines are cut or padded to the width of the level
+            String row = String.format("%-" + size + "s", line).substring(0, size);
+            StringBuilder repeated = new StringBuilder();
+            for (int i = 0; i < copies; i++) {
+                repeated.append(row);
+            }
+            lines.add(repeated.toString());
+        }
+        ArrayList<String> layout = new ArrayList<String>();
+        for (int i = 0; i < copies; i++) {
+            layout.addAll(lines.subList(0, Math.min(size, lines.size())));
+        }
+
+        config.setWidth(size * copies);
+        config.setHeight(size * copies);
+        return new Simulation(config, new Board(layout, config.getWidth(), config.getHeight()), 0);
+    }
+
+    /**
+     * Finds the path tile on the edge of the board, where monsters spawn, with the longest
+     * path to the wizard's house. Spawns that cannot reach the house are skipped.
+     *
+     * @param board The board of the game.
+     * @return A spawn tile.
+     */
+    public static Tile findSpawnTile(Board board) {
+        Tile spawn = null;
+        int longest = 0;
+        for (SpawnPoint spawnPoint : board.getSpawnPoints()) {
+            Tile tile = spawnPoint.getTile();
+            if (board.getDistance(tile.getX(), tile.getY()) > longest) {
+                spawn = tile;
+                longest = board.getDistance(tile.getX(), tile.getY());
+            }
+        }
+        return spawn;
+    }
+
+    /**
+     * Creates a wave of gremlins.
+     *
+     * @param simulation The game the wave belongs to.
+     * @param quantity   The number of gremlins in the wave.
+     * @return The new wave, with no monsters spawned.
+     */
+    public static Wave createWave(Simulation simulation, int quantity) {
+        Tile spawn = findSpawnTile(simulation.getBoard());
+        HashMap<Monster, Integer> monsters_quantity = new LinkedHashMap<Monster, Integer>();
+        monsters_quantity.put(new Monster(simulation, "gremlin", spawn.getX(), spawn.getY(),
+        100, 1, 1, 10), quantity);
+        return new Wave(8, 0, monsters_quantity);
+    }
+
+    /**
+     * Replaces the waves of the game with a single wave where every monster has been spawned,
+     * with the monsters spread out along their paths.
+     *
+     * @param simulation The game to add the monsters to.
+     * @param quantity   The number of live monsters.
+     * @return The wave of live monsters.
+     */
+    public static Wave spawnWave(Simulation simulation, int quantity) {
+        Wave wave = createWave(simulation, quantity);
+        for (int i = 0; i < quantity; i++) {
+            wave.spawn_monster();
+        }
+
+        // Each monster has walked a different distance
+        ArrayList<Monster> monsters = wave.getSpawnedMonsters();
+        for (int i = 0; i < monsters.size(); i++) {
+            for (int j = 0; j < (i * 7) % 600; j++) {
+                monsters.get(i).tick();
+            }
+        }
+
+        simulation.getWaveManager().getWaves().clear();
+        simulation.getWaveManager().getWaves().add(wave);
+        return wave;
+    }
+}
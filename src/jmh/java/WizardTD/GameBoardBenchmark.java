@@ -0,0 +1,73 @@
+package WizardTD;
+
+import org.openjdk.jmh.annotations.*;
+import processing.core.PImage;
+
+import javax.imageio.ImageIO;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures choosing and rotating the tile sprites of the board on each shipped level.
+ * Rotations are cached by the application, so constructing a board after the first only
+ * looks them up. The images are read directly, as PApplet.loadImage needs a running sketch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    /**
+     * An application with the tile images loaded, without a window.
+     */
+    @State(Scope.Benchmark)
+    public static class Images {
+        private App app;
+
+        @Setup
+        public void setup() throws IOException {
+            this.app = new App();
+            this.app.images = new HashMap<>();
+            for (String image : new String[] {"grass", "shrub", "path0", "path1", "path2", "path3",
+             "wizard_house"}) {
+                this.app.images.put(image, new PImage(ImageIO.read(
+                new File("src/main/resources/WizardTD/" + image + ".png"))));
+            }
+        }
+    }
+
+    /**
+     * The game of a shipped level.
+     */
+    @State(Scope.Benchmark)
+    public static class Level {
+        @Param({"level1.txt", "level2.txt", "level3.txt", "level4.txt", "level5.txt", "level6.txt"})
+        public String level;
+
+        private App app;
+
+        @Setup
+        public void setup(Images images) {
+            this.app = images.app;
+            this.app.simulation = BenchmarkGames.createSimulation(this.level);
+        }
+    }
+
+    @Benchmark
+    public GameBoard construct(Level state) {
+        return new GameBoard(state.app);
+    }
+
+    @Benchmark
+    public PImage rotateImage(Images state) {
+        return state.app.rotateImage(state.app.images.get("path2"), 90);
+    }
+
+    @Benchmark
+    public PImage rotateImageByDegrees(Images state) {
+        return state.app.rotateImageByDegrees(state.app.images.get("path2"), 90);
+    }
+}
@@ -0,0 +1,50 @@
+package WizardTD;
+
+import WizardTD.sim.Board;
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.Path;
+import WizardTD.sim.Tile;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the distances to the wizard's house, and following them from a spawn,
+ * on each shipped level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathBenchmark {
+
+    @Param({"level1.txt", "level2.txt", "level3.txt", "level4.txt", "level5.txt", "level6.txt"})
+    public String level;
+
+    private List<String> lines;
+    private Board board;
+    private Tile spawn;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        this.lines = Board.readLayout(this.level);
+        this.board = new Board(this.lines, GameConfig.DEFAULT_SIZE, GameConfig.DEFAULT_SIZE);
+        this.spawn = BenchmarkGames.findSpawnTile(this.board);
+        this.random = new SplittableRandom(0);
+    }
+
+    @Benchmark
+    public Board newBoard() {
+        return new Board(this.lines, GameConfig.DEFAULT_SIZE, GameConfig.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public Path newPath() {
+        return new Path(this.spawn.getX(), this.spawn.getY(), this.board, this.random);
+    }
+}
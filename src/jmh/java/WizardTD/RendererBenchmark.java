@@ -0,0 +1,45 @@
+package WizardTD;
+
+import WizardTD.sim.GameConfig;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing the monsters in view and their health bars into an image in memory, with
+ * the same Java2D renderer as the game window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RendererBenchmark {
+
+    @Param({"100", "1000"})
+    public int monsters;
+
+    private App app;
+
+    @Setup
+    public void setup() throws IOException {
+        GameConfig config = BenchmarkGames.loadConfig(BenchmarkGames.LEVEL);
+        this.app = StressRunner.createApp(config, 0);
+        BenchmarkGames.spawnWave(this.app.simulation, this.monsters);
+        this.app.simulation.getMonsterGrid().rebuild();
+    }
+
+    @Benchmark
+    public App drawMonsters() {
+        this.app.g.beginDraw();
+        this.app.camera.begin(this.app);
+        this.app.renderer.drawMonsters();
+        this.app.renderer.drawOverlays();
+        this.app.camera.end(this.app);
+        this.app.g.endDraw();
+        return this.app;
+    }
+}
@@ -0,0 +1,66 @@
+package WizardTD;
+
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.GreedyTowerPolicy;
+import WizardTD.sim.Simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole step of a crowded late game, such as late waves of 'Endless mode'. At 60
+ * FPS a step has to fit into the 16.7 ms of a frame alongside drawing. The game is played on
+ * the shipped level, or on a large board of copies of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StressBenchmark {
+
+    @Param({"1000", "10000"})
+    public int monsters;
+
+    @Param({"200"})
+    public int towers;
+
+    @Param({"1", "5"})
+    public int copies;
+
+    private Simulation simulation;
+
+    @Setup
+    public void setup() {
+        // Free towers that reach enough grass tiles to build them all. They shoot but do no
+        // damage, so the number of monsters stays the same, and the player never runs out
+        // of mana as leaking monsters respawn.
+        GameConfig config = BenchmarkGames.loadConfig(BenchmarkGames.LEVEL);
+        config.setTowerCost(0);
+        config.setInitialTowerRange(160);
+        config.setInitialTowerDamage(0);
+        config.setInitialMana(Float.MAX_VALUE);
+        config.setInitialManaCap(Float.MAX_VALUE);
+
+        Simulation simulation = BenchmarkGames.createSimulation(config, this.copies);
+        BenchmarkGames.spawnWave(simulation, this.monsters);
+        new GreedyTowerPolicy(this.towers).act(simulation);
+        this.simulation = simulation;
+    }
+
+    @Benchmark
+    public Simulation step() {
+        this.simulation.tick();
+        return this.simulation;
+    }
+
+    @TearDown
+    public void check() {
+        // A lost game stops stepping, which would make the step look free
+        if (this.simulation.playerLost() || this.simulation.getTowers().size() < this.towers) {
+            throw new IllegalStateException("The game did not stay crowded");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package WizardTD;
+
+import WizardTD.sim.GreedyTowerPolicy;
+import WizardTD.sim.Monster;
+import WizardTD.sim.Simulation;
+import WizardTD.sim.TargetingStrategy;
+import WizardTD.sim.Tower;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a tower searching for a target among the live monsters, and indexing the
+ * monsters for the search once per step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TowerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int monsters;
+
+    @Param({"FIRST", "CLOSEST"})
+    public TargetingStrategy targeting;
+
+    private Simulation simulation;
+    private Tower tower;
+
+    @Setup
+    public void setup() {
+        Simulation simulation = BenchmarkGames.createSimulation(BenchmarkGames.LEVEL);
+        BenchmarkGames.spawnWave(simulation, this.monsters);
+        simulation.getMonsterGrid().rebuild();
+        this.simulation = simulation;
+
+        // One tower on the tile covering the most path
+        simulation.getManaPool().increaseMana(simulation.getConfig().getTowerCost() -
+        simulation.getManaPool().getCurrentMana());
+        new GreedyTowerPolicy().act(simulation);
+        this.tower = simulation.getTowers().get(0);
+        this.tower.setTargeting(this.targeting);
+    }
+
+    @Benchmark
+    public Monster findMonster() {
+        this.tower.findMonster();
+        return this.tower.getTarget();
+    }
+
+    @Benchmark
+    public int rebuildGrid() {
+        this.simulation.getMonsterGrid().rebuild();
+        return this.simulation.getMonsterGrid().size();
+    }
+}
@@ -0,0 +1,69 @@
+package WizardTD;
+
+import WizardTD.sim.Simulation;
+import WizardTD.sim.Wave;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures moving the monsters of a wave every frame, and creating the monsters of a wave.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveBenchmark {
+
+    /**
+     * A wave where every monster is walking along the path.
+     */
+    @State(Scope.Benchmark)
+    public static class SpawnedWave {
+        @Param({"10", "100", "1000"})
+        public int monsters;
+
+        private Simulation simulation;
+        private Wave wave;
+
+        // Monsters die and leak during an iteration, so every iteration starts over
+        @Setup(Level.Iteration)
+        public void setup() {
+            Simulation simulation = BenchmarkGames.createSimulation(BenchmarkGames.LEVEL);
+            simulation.getManaPool().increaseMana(Float.MAX_VALUE);
+            this.wave = BenchmarkGames.spawnWave(simulation, this.monsters);
+            this.simulation = simulation;
+        }
+    }
+
+    /**
+     * A game to create waves of many monsters in.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeWave {
+        @Param({"100", "1000", "10000"})
+        public int quantity;
+
+        private Simulation simulation;
+
+        @Setup
+        public void setup() {
+            this.simulation = BenchmarkGames.createSimulation(BenchmarkGames.LEVEL);
+        }
+    }
+
+    @Benchmark
+    public Wave waveAction(SpawnedWave state) {
+        state.simulation.getMonsterPool().tick();
+        state.wave.wave_action();
+        return state.wave;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Wave construct(LargeWave state) {
+        return BenchmarkGames.createWave(state.simulation, state.quantity);
+    }
+}
@@ -1,6 +1,14 @@
 package WizardTD;
 
+import WizardTD.sim.FrameProfiler;
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.MonsterConfig;
+import WizardTD.sim.Simulation;
+import WizardTD.sim.Tower;
+import WizardTD.sim.WaveConfig;
+
 import processing.core.PApplet;
+import processing.core.PGraphics;
 import processing.core.PImage;
 import processing.data.JSONObject;
 import processing.event.MouseEvent;
@@ -8,27 +16,65 @@ import processing.event.MouseEvent;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.File;
 
 import ddf.minim.*;
 
 import java.util.*;
+import java.util.concurrent.Future;
 
 /**
  * The main application class for the Wizard Tower Defense game.
  * This class extends PApplet to create the game's graphical interface and 
- * handles the main game loop.
+ * handles the main game loop. The game logic itself runs in the simulation,
+ * which this class advances and draws every frame.
+ * @see WizardTD.sim.Simulation Simulation
  */
 public class App extends PApplet {
 
-    public static final int CELLSIZE = 32;
+    public static final int CELLSIZE = Simulation.CELLSIZE;
     public static final int SIDEBAR = 120;
     public static final int TOPBAR = 40;
-    public static final int BOARD_WIDTH = 20;
+    /**
+     * The width and height of the board in tiles when the configuration does not set them.
+     * The window is never smaller than for a board of this size, which the top bar and
+     * sidebar are laid out for.
+     */
+    public static final int BOARD_WIDTH = GameConfig.DEFAULT_SIZE;
 
+    // Window size, set from the size of the board by setBoardSize
     public static int WIDTH = CELLSIZE*BOARD_WIDTH+SIDEBAR;
     public static int HEIGHT = BOARD_WIDTH*CELLSIZE+TOPBAR;
 
-    public static final int FPS = 60;
+    public static final int FPS = Simulation.FPS;
+    /**
+     * How far the arrow keys move the camera, in screen pixels.
+     */
+    public static final int PAN_STEP = CELLSIZE;
+    /**
+     * The speeds the fast-forward button cycles through.
+     */
+    public static final float[] SPEEDS = {2, 4, 16, Simulation.MAX_SPEED};
+    /**
+     * The folder the images are loaded from.
+     */
+    public static final String IMAGE_PATH = "src/main/resources/WizardTD/";
+    /**
+     * The names of the images used by the game, without the .png extension.
+     */
+    public static final String[] IMAGES = {"fireball", "grass", "shrub", "path0", "path1",
+     "path2", "path3", "wizard_house", "beetle", "beetle1", "beetle2", "beetle3", "beetle4",
+     "gremlin", "gremlin1", "gremlin2", "gremlin3", "gremlin4", "worm", "worm1", "worm2",
+     "worm3", "worm4", "tower0", "tower1", "tower2", "background"};
+    /**
+     * The images every game draws, whichever monsters its waves have.
+     */
+    public static final String[] GAME_IMAGES = {"grass", "shrub", "path0", "path1", "path2",
+     "path3", "wizard_house", "tower0", "tower1", "tower2", "fireball"};
+    /**
+     * The music played in a loop.
+     */
+    public static final String MUSIC = IMAGE_PATH + "music.mp3";
 
     public String configPath;
     /**
@@ -37,31 +83,57 @@ public class App extends PApplet {
      * and upgrade costs.
      */
     public JSONObject config; // Initialise JSONObject
+    private GameConfig gameConfig; // The configuration file read into the simulation's terms
     public GameBoard gameboard; // Initialise GameBoard
     
     public HashMap<String,PImage> images; // Hashmap to store String, Image pairs
 
-    public WaveManager wavemanager; // Initialise WaveManager
+    public AssetLoader assets; // Loads images and music in the background
+
+    public Simulation simulation; // Initialise Simulation
+
+    public EntityRenderer renderer; // Initialise EntityRenderer
 
     public GUI gui; // Intialise GUI
 
+    public Camera camera; // The part of the board in view
+
+    public ProfilerOverlay profilerOverlay; // Shows the time taken by each section of a frame
+
+    // Sections of the frame timed by the simulation's profiler
+    private int stepSection;
+    private int boardSection;
+    private int monstersSection;
+    private int towersSection;
+    private int fireballsSection;
+    private int overlaysSection;
+    private int hudSection;
+    private int guiSection;
+    private int frameSection;
+
     public boolean paused; // Initalise pause state
 
     public boolean dead; // Intialise death state
 
-    public boolean fastforward; // Initliase fastforward state
+    public int speedSetting; // Index of the fast-forward speed
 
-    public Random random = new Random();
-
-    public boolean mouseReleased = true;
+    public InputQueue input; // Commands asked for since the last frame
 
     // Extension variables
     public StartMenu startmenu;
     public boolean start;
+    private boolean menuShown; // Whether the start menu has been drawn, so the game can be built
     public boolean endless;
 
     public Minim minim;
     public AudioPlayer player;
+    private Future<AudioPlayer> music;
+
+    /**
+     * Rotated copies of sprites by angle, so each orientation is only computed once. Kept
+     * across restarts, and dropped with the sprite when it is no longer used.
+     */
+    private WeakHashMap<PImage, HashMap<Double, PImage>> rotatedSprites;
 
    /**
      * Constructor for the App class.
@@ -69,6 +141,8 @@ public class App extends PApplet {
      */
     public App() {
         this.configPath = "config.json";
+        this.rotatedSprites = new WeakHashMap<PImage, HashMap<Double, PImage>>();
+        this.input = new InputQueue();
     }
     /**
      * Pauses the game.
@@ -85,28 +159,63 @@ public class App extends PApplet {
     }
 
     /**
-     * Activates the "fast-forwarded" state of the game.
+     * Activates the "fast-forwarded" state of the game at the current speed setting.
      */
     public void fastforward() {
-        this.fastforward = true;
+        this.simulation.setSpeed(SPEEDS[this.speedSetting]);
     }
     /**
      * Resets the "fast-forwarded" state of the game.
      */
 
     public void resetFastForward() {
-        this.fastforward = false;
+        this.speedSetting = 0;
+        this.simulation.setSpeed(1);
     }
 
 
     /**
-     * Initialise the setting of the window size.
+     * Initialise the setting of the window size, which fits the board of the configuration.
      */
 	@Override
     public void settings() {
+        this.loadConfig();
+        setBoardSize(this.gameConfig.getWidth(), this.gameConfig.getHeight());
+        fitScreen(this.displayWidth, this.displayHeight - TOPBAR);
         size(WIDTH, HEIGHT);
     }
 
+    /**
+     * Reads the configuration file, once for both the window size and the game.
+     */
+    private void loadConfig() {
+        this.config = PApplet.loadJSONObject(new File(this.configPath)); // Load in config file as JSON Object
+        this.gameConfig = ConfigLoader.load(this.config);
+    }
+
+    /**
+     * Sizes the window to fit a board with the top bar above it and the sidebar to its right.
+     *
+     * @param width  The width of the board in tiles.
+     * @param height The height of the board in tiles.
+     */
+    public static void setBoardSize(int width, int height) {
+        WIDTH = Math.max(width, BOARD_WIDTH)*CELLSIZE + SIDEBAR;
+        HEIGHT = Math.max(height, BOARD_WIDTH)*CELLSIZE + TOPBAR;
+    }
+
+    /**
+     * Shrinks the window to fit a screen, so a board larger than the screen is seen through
+     * the camera. The window is never smaller than for the default board.
+     *
+     * @param width  The most width available in pixels.
+     * @param height The most height available in pixels.
+     */
+    public static void fitScreen(int width, int height) {
+        WIDTH = Math.max(Math.min(WIDTH, width), BOARD_WIDTH*CELLSIZE + SIDEBAR);
+        HEIGHT = Math.max(Math.min(HEIGHT, height), BOARD_WIDTH*CELLSIZE + TOPBAR);
+    }
+
     /**
      * Load all resources such as images. Initialise the elements such as the player,
      *  enemies and map elements.
@@ -114,58 +223,35 @@ public class App extends PApplet {
 	@Override
     public void setup() {
 
-
-        this.config = loadJSONObject(this.configPath); // Load in config file as JSON Object
+        // The configuration was read when the window was sized
+        if (this.gameConfig == null) {
+            this.loadConfig();
+        }
+        GameConfig gameConfig = this.gameConfig;
 
         frameRate(FPS);
 
-        // Load images during setup
-
+        // Load images in the background, the start menu's first, and the music after them.
+        // Each image is only waited for when it is first used.
         this.images = new HashMap<>();
+        this.assets = new AssetLoader(this, IMAGE_PATH);
+        this.requestImages(gameConfig);
 
-        this.images.put("fireball", loadImage("src/main/resources/WizardTD/fireball.png"));
-        this.images.put("grass", loadImage("src/main/resources/WizardTD/grass.png"));
-        this.images.put("shrub", loadImage("src/main/resources/WizardTD/shrub.png"));
-        this.images.put("path0", loadImage("src/main/resources/WizardTD/path0.png"));
-        this.images.put("path1",loadImage("src/main/resources/WizardTD/path1.png"));
-        this.images.put("path2", loadImage("src/main/resources/WizardTD/path2.png"));
-        this.images.put("path3", loadImage("src/main/resources/WizardTD/path3.png"));
-        this.images.put("wizard_house", loadImage("src/main/resources/WizardTD/wizard_house.png"));
-        this.images.put("beetle", loadImage("src/main/resources/WizardTD/beetle.png"));
-        this.images.put("beetle1", loadImage("src/main/resources/WizardTD/beetle1.png"));
-        this.images.put("beetle2", loadImage("src/main/resources/WizardTD/beetle2.png"));
-        this.images.put("beetle3", loadImage("src/main/resources/WizardTD/beetle3.png"));
-        this.images.put("beetle4", loadImage("src/main/resources/WizardTD/beetle4.png"));
-        this.images.put("gremlin", loadImage("src/main/resources/WizardTD/gremlin.png"));
-        this.images.put("gremlin1", loadImage("src/main/resources/WizardTD/gremlin1.png"));
-        this.images.put("gremlin2", loadImage("src/main/resources/WizardTD/gremlin2.png"));
-        this.images.put("gremlin3", loadImage("src/main/resources/WizardTD/gremlin3.png"));
-        this.images.put("gremlin4", loadImage("src/main/resources/WizardTD/gremlin4.png"));
-        this.images.put("worm", loadImage("src/main/resources/WizardTD/worm.png"));
-        this.images.put("worm1", loadImage("src/main/resources/WizardTD/worm1.png"));
-        this.images.put("worm2", loadImage("src/main/resources/WizardTD/worm2.png"));
-        this.images.put("worm3", loadImage("src/main/resources/WizardTD/worm3.png"));
-        this.images.put("worm4", loadImage("src/main/resources/WizardTD/worm4.png"));
-        this.images.put("tower0", loadImage("src/main/resources/WizardTD/tower0.png"));
-        this.images.put("tower1", loadImage("src/main/resources/WizardTD/tower1.png"));
-        this.images.put("tower2", loadImage("src/main/resources/WizardTD/tower2.png"));
-        this.images.put("background", loadImage("src/main/resources/WizardTD/background.png"));
-
-        // Load audio
         this.minim = new Minim(this);
-        this.player = minim.loadFile("src/main/resources/WizardTD/music.mp3");
-       
+        this.player = null;
+        this.music = this.assets.submit(() -> this.minim.loadFile(MUSIC));
 
-        this.gameboard = new GameBoard(this); // Create new gameboard
-        this.wavemanager = new WaveManager(this);
-        this.gui = new GUI(this);
+        // Create the game logic and the start menu. The board and the GUI wait for the images
+        // of the board, so they are built once the menu is on screen
+        this.simulation = new Simulation(gameConfig);
         this.startmenu = new StartMenu(this);
+        this.setupProfiler();
+        this.registerCommands();
         this.paused = false;
-        this.fastforward = false;
-        this.mouseReleased = true;
         this.dead = false;
         this.start = false;
         this.endless = false;
+        this.menuShown = false;
         
          // Load ellipse shape
          ellipse(WIDTH/2,HEIGHT/2,100,100);
@@ -174,11 +260,90 @@ public class App extends PApplet {
     }
 
     /**
-     * Receive key pressed signal from the keyboard.
+     * Builds the board, the camera and the GUI of the game, waiting for the images of the
+     * board to load. Does nothing if they have already been built.
+     */
+    public void createGame() {
+        if (this.gameboard != null) {
+            return;
+        }
+        this.renderer = new EntityRenderer(this);
+        this.gameboard = new GameBoard(this); // Create new gameboard
+        this.camera = new Camera(this.gameboard.getWidth()*CELLSIZE, this.gameboard.getHeight()*CELLSIZE,
+        WIDTH - SIDEBAR, HEIGHT - TOPBAR);
+        this.gui = new GUI(this);
+        this.registerCommands();
+    }
+
+    /**
+     * Sets what is done for each command the player can ask for. The buttons of the GUI
+     * are pressed by their commands, so this is done again whenever the GUI is replaced.
+     */
+    private void registerCommands() {
+        for (Button button : this.startmenu.getButtons()) {
+            this.input.register(button.getCommand(), input -> button.press());
+        }
+        if (this.gui != null) {
+            for (Button button : this.gui.getButtons()) {
+                this.input.register(button.getCommand(), input -> button.press());
+            }
+        }
+        this.input.register(Command.CLICK, input -> this.gui.click(input.getX(), input.getY(),
+        input.getButton()));
+        this.input.register(Command.RESTART, input -> {
+            if (this.dead) {
+                this.resetGame();
+            }
+        });
+        this.input.register(Command.PROFILER, input -> this.profilerOverlay.toggle());
+        this.input.register(Command.EXPORT_PROFILE, input -> this.profilerOverlay.export());
+    }
+
+    /**
+     * Adds the sections of a frame to the simulation's profiler, which also times the parts
+     * of each step, and creates the overlay that shows them. The profiler is off until
+     * turned on with 'o'.
+     */
+    public void setupProfiler() {
+        FrameProfiler profiler = this.simulation.getProfiler();
+        this.stepSection = profiler.addSection("step");
+        this.boardSection = profiler.addSection("draw: board");
+        this.monstersSection = profiler.addSection("draw: monsters");
+        this.towersSection = profiler.addSection("draw: towers");
+        this.fireballsSection = profiler.addSection("draw: fireballs");
+        this.overlaysSection = profiler.addSection("draw: overlays");
+        this.hudSection = profiler.addSection("draw: hud");
+        this.guiSection = profiler.addSection("gui tick");
+        this.frameSection = profiler.addSection("frame");
+        this.profilerOverlay = new ProfilerOverlay(this);
+    }
+
+    /**
+     * Receive key pressed signal from the keyboard. The arrow keys move the camera, and
+     * the keys of the buttons queue their commands.
      */
 	@Override
     public void keyPressed(){
-        
+        if (this.key != CODED) {
+            Command command = Command.forKey(this.key);
+            if (command != null && this.start) {
+                this.input.add(command);
+            }
+        }
+        else if (this.camera != null) {
+            if (this.keyCode == LEFT) {
+                this.camera.pan(-PAN_STEP, 0);
+            }
+            else if (this.keyCode == RIGHT) {
+                this.camera.pan(PAN_STEP, 0);
+            }
+            else if (this.keyCode == UP) {
+                this.camera.pan(0, -PAN_STEP);
+            }
+            else if (this.keyCode == DOWN) {
+                this.camera.pan(0, PAN_STEP);
+            }
+        }
     }
 
     /**
@@ -190,26 +355,46 @@ public class App extends PApplet {
     }
     
     /**
-     * Receive mouse pressed signal from the user.
+     * Receive mouse pressed signal from the user. A click on a button queues its command,
+     * and a click on the board queues a click where it lands on the board.
      */
     @Override
     public void mousePressed(MouseEvent e) {
-        
+        boolean playing = this.start && this.gui != null;
+        List<Button> buttons = playing ? this.gui.getButtons() : this.startmenu.getButtons();
+        for (Button button : buttons) {
+            if (button.isMouseOver(this) && button.getCommand() != null) {
+                this.input.add(button.getCommand());
+                return;
+            }
+        }
+
+        if (playing && this.camera.isInView(this.mouseX, this.mouseY)) {
+            this.input.add(new InputQueue.Input(Command.CLICK, this.camera.toBoardX(this.mouseX),
+            this.camera.toBoardY(this.mouseY), this.mouseButton));
+        }
     }
 
     /**
-     * Receive mouse released signal from the user.
+     * Receive mouse dragged signal from the user. Dragging with the right or middle button
+     * moves the camera along with the mouse.
      */
     @Override
-    public void mouseReleased(MouseEvent e) {
-        this.mouseReleased = true;
-
-    }
-
-    /*@Override
     public void mouseDragged(MouseEvent e) {
+        if (this.camera != null && (this.mouseButton == RIGHT || this.mouseButton == CENTER)) {
+            this.camera.pan(this.pmouseX - this.mouseX, this.pmouseY - this.mouseY);
+        }
+    }
 
-    }*/
+    /**
+     * Receive mouse wheel signal from the user. The wheel zooms the camera around the mouse.
+     */
+    @Override
+    public void mouseWheel(MouseEvent e) {
+        if (this.camera != null && this.camera.isInView(this.mouseX, this.mouseY)) {
+            this.camera.zoom((float)Math.pow(Camera.ZOOM_STEP, -e.getCount()), this.mouseX, this.mouseY);
+        }
+    }
 
     /**
      * Draw all elements in the game by current frame and updates
@@ -217,77 +402,142 @@ public class App extends PApplet {
      */
 	@Override
     public void draw() {
+        FrameProfiler profiler = this.simulation.getProfiler();
+        long frameStart = profiler.start();
 
-        //System.out.println(frameRate);
-        
-        this.player.setGain(-30);
-        if (!player.isPlaying()) {
-            player.rewind();
-            player.play();
-          }
+        // Carry out what the player asked for since the last frame, before the game is stepped.
+        // Processing hands over key and mouse events just before draw(), so none can arrive
+        // between the steps of a frame and draining once here is the same as before each step
+        this.input.drain();
 
-        if (start) {
-            // Green rectangle behind main board
-            fill(147,170,132);
-            noStroke();
-            rect(0, 40, 640, 640);
-
-            // Gameboard
-            this.gameboard.drawBoard(this);
-
-            this.wavemanager.start_game();
-
-            // Draw towers and fireballs
-            for (Tower tower : this.gui.getTowers()) {
-                tower.draw(this);
-                tower.drawFireballs();
-                tower.drawRadius();
-                tower.upgradeTower();
-                tower.drawUpgrades();
+        // The music starts playing once it has loaded
+        if (this.player == null && this.music != null && this.music.isDone()) {
+            this.awaitMusic();
+        }
+        if (this.player != null) {
+            this.player.setGain(-30);
+            if (!player.isPlaying()) {
+                player.rewind();
+                player.play();
             }
+        }
 
-            // Draw side bars
-            fill(136,116,76);
-            noStroke();
-            rect(0, 0, App.WIDTH, App.TOPBAR);
-            rect(App.WIDTH - App.SIDEBAR, 0, App.SIDEBAR , App.HEIGHT);
-            
-            // Update GUI
-            this.gui.draw();
-            this.gui.tick(this);
-
-            this.wavemanager.drawWaveTimer();
+        // The board is built on the frame after the menu is first shown, so the menu does not
+        // wait for the board's images. The menu stays up until the board is ready
+        if (this.menuShown || this.start) {
+            this.createGame();
+        }
 
-            for (Tower tower : this.gui.getTowers()) {
-                tower.drawUpgradeTip();
+        if (start) {
+            // Update game state
+            if (!this.paused && !this.dead) {
+                long start = profiler.start();
+                this.simulation.update();
+                profiler.stop(this.stepSection, start);
             }
 
-            // Draw Wizard's house last
-            this.gameboard.drawWizard(this);
-
-            // Win/Lose conditions
-            this.wavemanager.allowRestart();
-            this.wavemanager.drawWin();
-
-            if (endless) {
-                this.textSize(12);
-                this.fill(0);
-                this.textAlign(LEFT, BASELINE);
-                this.text("ENDLESS", WIDTH - 55, HEIGHT - 10);
+            // Check loss
+            if (this.simulation.playerLost()) {
+                this.dead = true;
             }
 
+            this.drawGame();
+
+            profiler.stop(this.frameSection, frameStart);
+            profiler.endFrame();
     }
     else {
         
         this.startmenu.drawMenu();
+        this.menuShown = true;
 
     }
         
     }
 
+    /**
+     * Draws the board, the entities of the simulation and the user interface for the
+     * current frame of a game that has started.
+     */
+    public void drawGame() {
+        // Gameboard, with the sidebar colour around a board smaller than the window
+        if (!this.camera.coversView()) {
+            background(136,116,76);
+        }
+
+        FrameProfiler profiler = this.simulation.getProfiler();
+
+        // Only what is in view of the camera is drawn
+        this.camera.begin(this);
+        long start = profiler.start();
+        this.gameboard.drawBoard(this);
+        profiler.stop(this.boardSection, start);
+
+        start = profiler.start();
+        this.renderer.drawMonsters();
+        profiler.stop(this.monstersSection, start);
+
+        // Draw towers and fireballs, with the range of the tower under the mouse
+        start = profiler.start();
+        Tower hovered = this.gui.getHoveredTower();
+        for (Tower tower : this.simulation.getTowers()) {
+            if (this.renderer.isVisible(tower)) {
+                this.renderer.drawTower(tower);
+                this.renderer.drawUpgrades(tower);
+            }
+        }
+        if (hovered != null) {
+            this.renderer.drawRadius(hovered);
+        }
+        profiler.stop(this.towersSection, start);
+
+        start = profiler.start();
+        this.renderer.drawFireballs();
+        profiler.stop(this.fireballsSection, start);
+
+        // Health bars, range rings and upgrades, over every entity
+        start = profiler.start();
+        this.renderer.drawOverlays();
+        profiler.stop(this.overlaysSection, start);
+        this.camera.end(this);
+
+        // Draw the top bar and sidebar, then update the GUI
+        start = profiler.start();
+        this.gui.draw();
+        profiler.stop(this.hudSection, start);
+
+        start = profiler.start();
+        this.gui.tick(this);
+        profiler.stop(this.guiSection, start);
+
+        if (hovered != null) {
+            this.renderer.drawUpgradeTip(hovered);
+        }
+
+        // Draw Wizard's house last
+        this.camera.begin(this);
+        this.gameboard.drawWizard(this);
+        this.camera.end(this);
+
+        // Win/Lose conditions
+        this.gui.allowRestart();
+        this.gui.drawWin();
+
+        if (endless) {
+            this.textSize(12);
+            this.fill(0);
+            this.textAlign(LEFT, BASELINE);
+            this.text("ENDLESS", WIDTH - 55, HEIGHT - 10);
+        }
+
+        this.profilerOverlay.draw();
+    }
+
     /**
      * Resets the game to starting state. Gamemode remains the same as 
      * what as initially chosen in the start screen (Normal/Endless).
+     * Only the state of the game is rebuilt: the configuration, the board and
+     * its sprites, the images and the music are kept from the last game.
      * 
      * @see WizardTD.StartMenu startMenu
      */
@@ -295,26 +545,130 @@ public class App extends PApplet {
         boolean keepEndless = false;
         if (endless) keepEndless = true;
 
-        this.player.close();
-    
-        setup();
+        // Start the music again from the beginning, as in a new game
+        if (this.player != null) {
+            this.player.rewind();
+        }
+
+        this.simulation.restart();
+        this.gui = new GUI(this);
+        this.registerCommands();
+        this.paused = false;
+        this.dead = false;
 
         this.start = true;
-        if (keepEndless) this.endless = true;
+        if (keepEndless) {
+            this.endless = true;
+            this.simulation.setEndless(true);
+        }
+    }
+
+
+    /**
+     * Gets an image of the game, waiting for it to finish loading if needed. Images that were
+     * not requested when the game was set up, such as those of monsters only found in
+     * 'Endless mode', are loaded when first asked for.
+     *
+     * @param name The name of the image, without the .png extension.
+     * @return The image, or null if there is no such image.
+     */
+    public PImage getImage(String name) {
+        PImage image = this.images.get(name);
+        if (image == null && this.assets != null) {
+            image = this.assets.get(name);
+            this.images.put(name, image);
+        }
+        return image;
+    }
+
+    /**
+     * Creates an offscreen image to draw a layer of the game into, with the same renderer as
+     * the window.
+     *
+     * @param width  The width of the layer in pixels.
+     * @param height The height of the layer in pixels.
+     * @return The graphics of the layer.
+     */
+    public PGraphics createLayer(int width, int height) {
+        // A game drawn without a window cannot ask the screen for an image
+        if (this.g instanceof HeadlessGraphics) {
+            return new HeadlessGraphics(this, width, height);
+        }
+        return this.createGraphics(width, height);
     }
 
+    /**
+     * Waits for the music to finish loading.
+     *
+     * @return The music player, or null if the music could not be loaded.
+     */
+    public AudioPlayer awaitMusic() {
+        if (this.player == null && this.music != null) {
+            this.player = AssetLoader.join(this.music);
+        }
+        return this.player;
+    }
+
+    /**
+     * Starts loading the images a game uses: the start menu's background first, then the
+     * board, towers and fireballs, and last the monsters of the configured waves.
+     *
+     * @param gameConfig The configuration of the game.
+     */
+    private void requestImages(GameConfig gameConfig) {
+        this.assets.request("background");
+        for (String image : GAME_IMAGES) {
+            this.assets.request(image);
+        }
+
+        HashSet<String> types = new HashSet<String>();
+        for (WaveConfig wave : gameConfig.getWaves()) {
+            for (MonsterConfig monster : wave.getMonsters()) {
+                if (types.add(monster.getType())) {
+                    // Images are named "type" + i for the death animation
+                    this.assets.request(monster.getType());
+                    for (int i = 1; i < 5; i++) {
+                        this.assets.request(monster.getType() + i);
+                    }
+                }
+            }
+        }
+    }
 
     public static void main(String[] args) {
         PApplet.main("WizardTD.App");
     }
 
+    /**
+     * Gets a rotated copy of an image. Each orientation of an image is only computed once,
+     * so the returned image is shared and must not be changed.
+     *
+     * @param pimg The image to be rotated
+     * @param angle between 0 and 360 degrees
+     * @return the rotated image
+     */
+    public PImage rotateImageByDegrees(PImage pimg, double angle) {
+        HashMap<Double, PImage> rotations = this.rotatedSprites.get(pimg);
+        if (rotations == null) {
+            rotations = new HashMap<Double, PImage>();
+            this.rotatedSprites.put(pimg, rotations);
+        }
+
+        PImage rotated = rotations.get(angle);
+        if (rotated == null) {
+            rotated = this.rotateImage(pimg, angle);
+            rotations.put(angle, rotated);
+        }
+        return rotated;
+    }
+
     /**
      * Source: https://stackoverflow.com/questions/37758061/rotate-a-buffered-image-in-java
      * @param pimg The image to be rotated
      * @param angle between 0 and 360 degrees
      * @return the new rotated image
      */
-    public PImage rotateImageByDegrees(PImage pimg, double angle) {
+    public PImage rotateImage(PImage pimg, double angle) {
         BufferedImage img = (BufferedImage) pimg.getNative();
         double rads = Math.toRadians(angle);
         double sin = Math.abs(Math.sin(rads)), cos = Math.abs(Math.cos(rads));
@@ -337,11 +691,11 @@ public class App extends PApplet {
         g2d.setTransform(at);
         g2d.drawImage(img, 0, 0, null);
         g2d.dispose();
-        for (int i = 0; i < newWidth; i++) {
-            for (int j = 0; j < newHeight; j++) {
-                result.set(i, j, rotated.getRGB(i, j));
-            }
-        }
+
+        // Copy the rotated image in one go rather than pixel by pixel
+        result.loadPixels();
+        rotated.getRGB(0, 0, newWidth, newHeight, result.pixels, 0, newWidth);
+        result.updatePixels();
 
         return result;
     }
@@ -0,0 +1,115 @@
+package WizardTD;
+
+import processing.core.PApplet;
+import processing.core.PImage;
+
+import java.util.concurrent.*;
+
+/**
+ * The AssetLoader reads the images and sounds of the game on a small pool of worker threads,
+ * so they are decoded at the same time rather than one after another. An image is requested
+ * before it is needed and only waited for when it is first used, and an image that was never
+ * requested is loaded when it is first asked for.
+ * @see WizardTD.App App
+ */
+public class AssetLoader {
+
+    /**
+     * The most worker threads used, as a handful of small images gain nothing from more.
+     */
+    public static final int MAX_WORKERS = 4;
+
+    private PApplet app;
+    private String path;
+    private ExecutorService workers;
+    private ConcurrentHashMap<String, Future<PImage>> images;
+
+    /**
+     * Constructs a loader for the images in a folder.
+     *
+     * @param app  The application used to decode the images.
+     * @param path The folder the images are loaded from.
+     */
+    public AssetLoader(PApplet app, String path) {
+        this.app = app;
+        this.path = path;
+        this.images = new ConcurrentHashMap<String, Future<PImage>>();
+
+        // Daemon threads, so loading never keeps the game from closing
+        int count = Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors());
+        this.workers = Executors.newFixedThreadPool(Math.max(count, 1), task -> {
+            Thread thread = new Thread(task, "AssetLoader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts loading an image in the background, if it has not been requested already.
+     * Images are loaded in the order they are requested.
+     *
+     * @param name The name of the image, without the .png extension.
+     */
+    public void request(String name) {
+        this.images.computeIfAbsent(name, key ->
+         this.workers.submit(() -> this.app.loadImage(this.path + key + ".png")));
+    }
+
+    /**
+     * Gets an image, waiting for it to finish loading if needed.
+     *
+     * @param name The name of the image, without the .png extension.
+     * @return The image, or null if it could not be loaded.
+     */
+    public PImage get(String name) {
+        this.request(name);
+        return join(this.images.get(name));
+    }
+
+    /**
+     * Checks whether an image has been requested and has finished loading.
+     *
+     * @param name The name of the image, without the .png extension.
+     * @return true if the image is ready to use.
+     */
+    public boolean isLoaded(String name) {
+        Future<PImage> image = this.images.get(name);
+        return image != null && image.isDone();
+    }
+
+    /**
+     * Runs any other loading task on the worker threads, such as opening a sound.
+     *
+     * @param task The task that loads the asset.
+     * @return The asset, once the task is done.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return this.workers.submit(task);
+    }
+
+    /**
+     * Stops the worker threads once the assets already requested have loaded.
+     */
+    public void shutdown() {
+        this.workers.shutdown();
+    }
+
+    /**
+     * Waits for an asset to finish loading.
+     *
+     * @param asset The asset being loaded.
+     * @return The asset, or null if it could not be loaded.
+     */
+    public static <T> T join(Future<T> asset) {
+        try {
+            return asset.get();
+        }
+        catch (ExecutionException e) {
+            System.err.println("Asset could not be loaded: " + e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
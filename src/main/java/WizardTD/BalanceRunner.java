@@ -0,0 +1,115 @@
+package WizardTD;
+
+import WizardTD.sim.BatchRunner;
+import WizardTD.sim.Board;
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.GameResult;
+import WizardTD.sim.GreedyTowerPolicy;
+import WizardTD.sim.Simulation;
+
+import java.util.*;
+
+/**
+ * The BalanceRunner is a command line tool that plays many seeded games of one or more
+ * configurations without a window, using a scripted tower policy, and prints the win rate,
+ * leaked mana and wave of death of each configuration and level as CSV.
+ * <p>
+ * Usage: <code>BalanceRunner [--games N] [--seed S] [--max-seconds T] [--level level.txt]...
+ * config.json...</code>
+ * <p>
+ * Every configuration is played on every given level, or on the layout of the configuration
+ * if no level is given.
+ * @see WizardTD.sim.BatchRunner BatchRunner
+ */
+public class BalanceRunner {
+
+    /**
+     * Width of the leaked mana buckets.
+     */
+    public static final int LEAKED_MANA_BUCKET = 100;
+
+    public static void main(String[] args) {
+        int games = 100;
+        long seed = 0;
+        int maxSeconds = 60*60;
+        ArrayList<String> levels = new ArrayList<String>();
+        ArrayList<String> configs = new ArrayList<String>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--games") && i + 1 < args.length) {
+                games = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            }
+            else if (args[i].equals("--max-seconds") && i + 1 < args.length) {
+                maxSeconds = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("--level") && i + 1 < args.length) {
+                levels.add(args[++i]);
+            }
+            else {
+                configs.add(args[i]);
+            }
+        }
+
+        if (configs.isEmpty()) {
+            System.err.println("Usage: BalanceRunner [--games N] [--seed S] [--max-seconds T] " +
+            "[--level level.txt]... config.json...");
+            System.exit(1);
+        }
+
+        System.out.println("config,level,metric,bucket,value");
+        for (String configPath : configs) {
+            GameConfig config = ConfigLoader.load(configPath);
+
+            List<String> configLevels = levels;
+            if (configLevels.isEmpty()) {
+                configLevels = Collections.singletonList(config.getLayout());
+            }
+
+            for (String level : configLevels) {
+                BatchRunner runner = new BatchRunner(config, Board.readLayout(level),
+                config.getWidth(), config.getHeight(), GreedyTowerPolicy::new,
+                maxSeconds*Simulation.FPS, seed, games);
+
+                printResults(configPath, level, runner.run());
+            }
+        }
+    }
+
+    /**
+     * Prints the distributions of a batch of games as CSV rows.
+     *
+     * @param config  The path of the configuration file that was played.
+     * @param level   The path of the level that was played.
+     * @param results The results of the games.
+     */
+    public static void printResults(String config, String level, List<GameResult> results) {
+        int wins = 0;
+        TreeMap<Integer, Integer> leakedMana = new TreeMap<Integer, Integer>();
+        TreeMap<Integer, Integer> waveOfDeath = new TreeMap<Integer, Integer>();
+
+        for (GameResult result : results) {
+            if (result.isWon()) {
+                wins++;
+            }
+
+            int bucket = ((int)result.getLeakedMana() / LEAKED_MANA_BUCKET) * LEAKED_MANA_BUCKET;
+            leakedMana.merge(bucket, 1, Integer::sum);
+
+            // Wave 0 counts games that were not lost
+            waveOfDeath.merge(result.getWaveOfDeath(), 1, Integer::sum);
+        }
+
+        String prefix = config + "," + level + ",";
+        System.out.println(prefix + "games,," + results.size());
+        System.out.println(prefix + "win_rate,," + (results.isEmpty() ? 0 : (float)wins / results.size()));
+        for (Map.Entry<Integer, Integer> entry : leakedMana.entrySet()) {
+            System.out.println(prefix + "leaked_mana," + entry.getKey() + "," + entry.getValue());
+        }
+        for (Map.Entry<Integer, Integer> entry : waveOfDeath.entrySet()) {
+            System.out.println(prefix + "wave_of_death," + entry.getKey() + "," + entry.getValue());
+        }
+    }
+}
@@ -1,27 +1,30 @@
 package WizardTD;
 
+import WizardTD.sim.Simulation;
+
 import processing.core.PApplet;
+import processing.core.PGraphics;
 
 /**
  * The Button represents a graphical button in the game that takes user
  * input to perform various tasks based on its assigned "shorthand."
+ * Clicks and key presses reach a button as the command of its shorthand,
+ * through the application's input queue.
+ * @see WizardTD.Command Command
  */
 public class Button extends Drawable {
     /**
      * A string used to denote the type and purpose of the button.
      */
     private String shorthand; 
+    private Command command;
     private String description;
     private int[] fill;
     private boolean pressed;
     /**
-     * A boolean storing the previous state of the mouse press in the previous frame.
-     */
-    private boolean  wasMousePressed = false; 
-      /**
-     * A boolean storing the previous state of the key press in the previous frame.
+     * Whether the colour or text of the button changed since it was last drawn.
      */
-    private boolean wasKeyPressed = false; 
+    private boolean changed = true;
     private App app;
     
     /**
@@ -36,6 +39,7 @@ public class Button extends Drawable {
     public Button(int x, int y, String shorthand, String description, App app) {
         super(x, y);
         this.shorthand = shorthand;
+        this.command = Command.forShorthand(shorthand);
         this.description = description;
         this.pressed = false;
         this.fill = new int[] {136,116,76};
@@ -48,44 +52,46 @@ public class Button extends Drawable {
      */
    @Override
     public void draw(PApplet app) {
+        this.draw(app.g);
+    }
+
+    /**
+     * Draws the button with its current state and properties, such as into the
+     * layer of the sidebar.
+     *
+     * @param graphics The graphics to draw to.
+     */
+    public void draw(PGraphics graphics) {
         // Draw the square
-        app.fill(this.fill[0], this.fill[1], this.fill[2]);
-        app.rect(this.x, this.y, 40, 40); 
+        graphics.fill(this.fill[0], this.fill[1], this.fill[2]);
+        graphics.rect(this.x, this.y, 40, 40); 
 
-        // Set text size and alignment for shorthand
-        app.textAlign(App.LEFT, App.TOP);
-        app.textSize(24); 
+        // Set text size and alignment for shorthand, the description uses the same alignment
+        graphics.textAlign(App.LEFT, App.TOP);
+        graphics.textSize(24); 
         
         // Draw big letters inside the square
-        app.fill(0);
-        app.text(this.shorthand, this.x + 5, this.y + 5);
-
-        // Set text size and alignment for description
-        app.textAlign(App.LEFT, App.TOP);
-        app.textSize(12);
+        graphics.fill(0);
+        graphics.text(this.shorthand, this.x + 5, this.y + 5);
 
         // Draw the description next to the square
-        app.fill(0);
-        app.text(this.description, this.x + 45, this.y + 2, App.WIDTH, App.HEIGHT);
-
-
+        graphics.textSize(12);
+        graphics.text(this.description, this.x + 45, this.y + 2, App.WIDTH, App.HEIGHT);
 
+        this.changed = false;
     }
     /**
-     * Updates the button's state and behavior based on user interactions.
+     * Updates how the button looks based on user interactions.
      * This includes changing colour when the mouse is hovering over the button 
      * and displaying tooltips for the mana cost of certain user action.
-     * @see WizardTD.Button#buttonAction buttonAction
+     * What the button does is only carried out when it is pressed.
+     * @see WizardTD.Button#press press
      */
     public void tick() {
 
-       updatePress(this.app);
-
         // Change colour to grey if hovering
         if (isMouseOver(this.app)) {
-        this.fill[0] = 200;
-        this.fill[1] = 200;
-        this.fill[2] = 200;
+        this.setFill(200, 200, 200);
         
         // If the button is a Tower button or Mana button display cost
         if (this.shorthand.equals("T")) {
@@ -93,7 +99,7 @@ public class Button extends Drawable {
             this.app.strokeWeight((float)0.5);
             this.app.rect(this.x - 72, this.y, 60, 16);
 
-            float initCost = app.config.getFloat("tower_cost");
+            float initCost = app.simulation.getConfig().getTowerCost();
             if (app.gui.getUpgradeDamage()) {
                 initCost += 20;
             }
@@ -116,36 +122,43 @@ public class Button extends Drawable {
             
             this.app.textSize(11);
             this.app.fill(0);
-            this.app.text("Cost: " + (int)this.app.gui.getCurrentManaPoolCost(), this.x - 67,
+            this.app.text("Cost: " + (int)this.app.simulation.getManaPool().getCurrentManaPoolCost(), this.x - 67,
              this.y + 2, 100, 100);
         }
 
        }
        // Default colour
        else {
-        this.fill[0] = 136;
-        this.fill[1] = 116;
-        this.fill[2] = 76;
+        this.setFill(136, 116, 76);
        }
 
        // Change colour if pressed
        if (pressed) {
         if (!this.shorthand.equals("M")) {
-        this.fill[0] = 255;
-        this.fill[1] = 255;
-        this.fill[2] = 0;
+        this.setFill(255, 255, 0);
         }
         }
-    
-        // Performs button's method
-        this.buttonAction(this.app);
-    
-        // Update the previous mouse press flag
-        wasMousePressed = app.mousePressed;
-        wasKeyPressed = app.keyPressed;
 
     }
 
+    // Changes the colour of the button, noting if it is different
+    private void setFill(int red, int green, int blue) {
+        if (this.fill[0] != red || this.fill[1] != green || this.fill[2] != blue) {
+            this.fill[0] = red;
+            this.fill[1] = green;
+            this.fill[2] = blue;
+            this.changed = true;
+        }
+    }
+
+    // Changes the text next to the button, noting if it is different
+    private void setDescription(String description) {
+        if (!this.description.equals(description)) {
+            this.description = description;
+            this.changed = true;
+        }
+    }
+
     /**
      * Checks if the mouse is currently over the button.
      *
@@ -158,175 +171,147 @@ public class Button extends Drawable {
     }
 
     /**
-     * Updates the button's press state based on mouse and key
-     * interactions. Different keys toggle different buttons.
-     *
-     * @param app The App object for mouse press handling.
+     * Presses the button, as when it is clicked or its key is pressed, and carries out
+     * what it does. Most buttons are toggled, the fast-forward button moves to the next speed.
+     * @see WizardTD.Button#buttonAction buttonAction
      */
-    public void updatePress(App app) {
-        if (isMouseOver(app) && app.mousePressed && !wasMousePressed) {
+    public void press() {
+        if (this.command == Command.FAST_FORWARD) {
+            this.nextSpeed(this.app);
+        }
+        else {
             pressed = !pressed;
-        } 
+            this.buttonAction(this.app);
+        }
+    }
 
-        // Handles key presses
-        if (app.keyPressed && !wasKeyPressed) {
-            if (this.shorthand.equals("FF") && app.key == 'f') {
-                pressed = !pressed;   
-            }
-            else if (this.shorthand.equals("P") && app.key == 'p') {
-                pressed = !pressed;   
-            }
-            else if (this.shorthand.equals("T") && app.key == 't') {
-                pressed = !pressed;   
-            }
-            else if (this.shorthand.equals("U1") && app.key == '1') {
-                pressed = !pressed;   
-            }
-            else if (this.shorthand.equals("U2") && app.key == '2') {
-                pressed = !pressed;   
-            }
-            else if (this.shorthand.equals("U3") && app.key == '3') {
-                pressed = !pressed;   
-            }
-            else if (this.shorthand.equals("M") && app.key == 'm') {
-                pressed = !pressed;   
-            }
+    /**
+     * Moves the fast-forward button to the next speed and sets the game to it. Pressing the
+     * button while it is already pressed speeds the game up further, after the fastest
+     * speed it is released. The speed is only set here, when it changes.
+     *
+     * @param app The App object storing the speed setting.
+     */
+    private void nextSpeed(App app) {
+        if (!pressed) {
+            pressed = true;
+            app.speedSetting = 0;
+        }
+        else if (app.speedSetting < App.SPEEDS.length - 1) {
+            app.speedSetting++;
+        }
+        else {
+            pressed = false;
+        }
+
+        if (this.pressed) {
+            app.fastforward();
+            float speed = App.SPEEDS[app.speedSetting];
+            this.setDescription(speed == Simulation.MAX_SPEED ? "max speed" : (int)speed + "x speed");
+        }
+        else {
+            app.resetFastForward();
+            this.setDescription("2x speed");
         }
     }
 
    /**
      * Performs different actions that affect the game state depending 
-     * on the button's shorthand code. These actions in include starting and choosing the gamemode,
-     * pausing the game, fastforwarding the game, placing towers, upgrading towers,
-     * casting the mana pool spell and muting game music.
+     * on the button's command, once each time the button is pressed. These actions
+     * include starting and choosing the gamemode, pausing the game, building towers,
+     * upgrading towers, casting the mana pool spell and muting game music. The
+     * fast-forward button sets the speed as it moves to the next speed instead.
      *
      * @param app The App object for handling button actions.
      */
     public void buttonAction(App app) {
-        if (this.shorthand.equals("FF")) {
-            if (this.pressed) {
-                app.fastforward();
-            }
-            else {
-                app.resetFastForward();
-            }
-        }
-        else if (this.shorthand.equals("P")) {
-            if (this.pressed) {
-                app.pause();
-            }
-            else {
-                app.unpause();
-            }
+        if (this.command == null) {
+            return;
         }
-        else if (this.shorthand.equals("T")) {
-
-            if (this.pressed) {
-                
-                // If mouse is pressed again, create and place tower
-
-                if (app.mousePressed) {
-                    
-                float initCost = app.config.getFloat("tower_cost");
-                float initRange = app.config.getFloat("initial_tower_range");
-                float initSpeed = app.config.getFloat("initial_tower_firing_speed");
-                float initDamage = app.config.getFloat("initial_tower_damage");
-                
-                /** Uses mouseReleased variable to determine if a tower can be placed
-                 *  mouseReleased is set to false after first click, 
-                 * therefore until mouse is next released, it will stay false
-                 *  This prevents multiple presses from mouse being held down
-                 * Also check if player has enough mana for tower
-                 */
-                if (app.mouseReleased && (app.gui.getCurrentMana() >= initCost)) {
-
-                // Find the x and y coordinates of the current mouse position
-                Tile current_tile =  app.gameboard.getTileMouse(app.mouseX, app.mouseY);
-                // Ensure the tile is a valid tile
-                if (current_tile != null && (current_tile.getSprite().equals(app.images.get("grass")))
-                    && (!current_tile.hasTower())) {
-                    
-                    Tower newTower = new Tower(app, current_tile.getX(), current_tile.getY(), initCost, 
-                    initRange, initSpeed, initDamage);
-                    app.gui.addTower(newTower);
-                    current_tile.placeTower();
-
-                    app.gui.decreaseMana(initCost);
-                    // Upgrade tower automatically if selected
-                    newTower.upgradeTower();
+        switch (this.command) {
+            case PAUSE:
+                if (this.pressed) {
+                    app.pause();
                 }
-
-                app.mouseReleased = false;
-
+                else {
+                    app.unpause();
                 }
-
+                break;
+            case BUILD_TOWER:
+                // Towers are placed by clicking the board while building
+                if (this.pressed) {
+                    this.app.gui.buildTower();
                 }
+                else {
+                    this.app.gui.resetBuildTower();
+                }
+                break;
+            case UPGRADE_RANGE:
+                if (this.pressed) {
+                    this.app.gui.upgradeRange();
+                }
+                else {
+                    this.app.gui.resetUpgradeRange();
+                }
+                break;
+            case UPGRADE_SPEED:
+                if (this.pressed) {
+                    this.app.gui.upgradeSpeed();
+                }
+                else {
+                    this.app.gui.resetUpgradeSpeed();
+                }
+                break;
+            case UPGRADE_DAMAGE:
+                if (this.pressed) {
+                    this.app.gui.upgradeDamage();
+                }
+                else {
+                    this.app.gui.resetUpgradeDamage();
+                }
+                break;
+            case MANA_POOL:
+                if (this.pressed) {
+                    // Call mana pool speel
+                    this.app.simulation.getManaPool().manaPoolSpell();
+                    this.setDescription("Mana pool \ncost: " + 
+                    Integer.toString((int)this.app.simulation.getManaPool().getCurrentManaPoolCost()));
 
-            }
-                
-        }
-        else if (this.shorthand.equals("U1")) {
-            if (this.pressed) {
-                this.app.gui.upgradeRange();
-            }
-            else {
-                this.app.gui.resetUpgradeRange();
-            }
-        }
-        else if (this.shorthand.equals("U2")) {
-            if (this.pressed) {
-                this.app.gui.upgradeSpeed();
-            }
-            else {
-                this.app.gui.resetUpgradeSpeed();
-            }
-        }
-        else if (this.shorthand.equals("U3")) {
-            if (this.pressed) {
-                this.app.gui.upgradeDamage();
-            }
-            else {
-                this.app.gui.resetUpgradeDamage();
-            }
-        }
-        else if (this.shorthand.equals("M")) {
-            if (this.pressed) {
-                // Call mana pool speel
-                this.app.gui.manaPoolSpell();
-                this.description = "Mana pool \ncost: " + 
-                Integer.toString((int)this.app.gui.getCurrentManaPoolCost());
-
-                // Reset pressed state
-                this.pressed = false;
-            }
-        }
-        // Extension buttons
-        else if (this.shorthand.equals("GO")) {
-            if (this.pressed) {
-                this.app.start = true;
-            }
-            
-        }
-        // Endless mode - infinity symbol
-        else if (this.shorthand.equals(Character.toString('\u221e'))) {
-            if (this.pressed) {
-                this.app.endless = true;
-                this.app.start = true;
-            }
-        }
-        else if (this.shorthand.equals("m")) {
-            if (this.pressed) {
-                this.app.player.mute();
-            }
-            else {
-                if (this.app.start) {
+                    // Reset pressed state
+                    this.pressed = false;
+                }
+                break;
+            // Extension buttons
+            case START:
+                if (this.pressed) {
+                    this.app.start = true;
+                }
+                break;
+            // Endless mode - infinity symbol
+            case ENDLESS:
+                if (this.pressed) {
+                    this.app.endless = true;
+                    this.app.simulation.setEndless(true);
+                    this.app.start = true;
+                }
+                break;
+            case MUTE:
+                // No music is loaded when the game is drawn without a window
+                if (this.app.player == null) {
+                    break;
+                }
+                if (this.pressed) {
+                    this.app.player.mute();
+                }
+                else if (this.app.start) {
                     this.app.player.unmute();
                 }
-                
-            }
-        }
+                break;
+            default:
+                break;
         }
-    
+    }
+
     /**
      * Gets the current pressed state of the button.
      *
@@ -345,5 +330,23 @@ public class Button extends Drawable {
         return this.fill;
     }
 
+    /**
+     * Gets the command asked for when the button is clicked.
+     *
+     * @return The command of the button, or null if it has none.
+     */
+    public Command getCommand() {
+        return this.command;
+    }
+
+    /**
+     * Checks whether the colour or text of the button changed since it was last drawn.
+     *
+     * @return true if the button looks different from when it was last drawn.
+     */
+    public boolean isChanged() {
+        return this.changed;
+    }
+
     
 }
@@ -0,0 +1,186 @@
+package WizardTD;
+
+import processing.core.PApplet;
+
+/**
+ * The Camera chooses the part of the board shown in the play area, the space below the top
+ * bar and left of the sidebar. It can be panned and zoomed, so boards larger than the window
+ * can be played, and it tells the drawing code what is on screen so nothing else is drawn.
+ * Positions on the board are in pixels at normal zoom, with the top left of the board at 0.
+ * @see WizardTD.GameBoard GameBoard
+ */
+public class Camera {
+
+    public static final float MAX_ZOOM = 2;
+    /**
+     * How far the zoom changes for each step of the mouse wheel.
+     */
+    public static final float ZOOM_STEP = 1.1f;
+
+    private int boardWidth;
+    private int boardHeight;
+    private int viewWidth;
+    private int viewHeight;
+
+    private float x; // Board pixel at the left of the view
+    private float y; // Board pixel at the top of the view
+    private float zoom;
+
+    /**
+     * Constructs a camera showing the top left of the board at normal zoom.
+     *
+     * @param boardWidth  The width of the board in pixels.
+     * @param boardHeight The height of the board in pixels.
+     * @param viewWidth   The width of the play area in pixels.
+     * @param viewHeight  The height of the play area in pixels.
+     */
+    public Camera(int boardWidth, int boardHeight, int viewWidth, int viewHeight) {
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.x = 0;
+        this.y = 0;
+        this.zoom = 1;
+    }
+
+    /**
+     * Moves the view across the board, stopping at its edges.
+     *
+     * @param deltaX The distance to move right, in screen pixels.
+     * @param deltaY The distance to move down, in screen pixels.
+     */
+    public void pan(float deltaX, float deltaY) {
+        this.x += deltaX / this.zoom;
+        this.y += deltaY / this.zoom;
+        this.clamp();
+    }
+
+    /**
+     * Zooms in or out, keeping the point of the board under a screen location where it is.
+     * The board can be zoomed out until it fits in the play area, but never below normal
+     * size for a board that already fits.
+     *
+     * @param factor  How much to enlarge the board, below 1 to zoom out.
+     * @param screenX The x pixel location on the screen to zoom around.
+     * @param screenY The y pixel location on the screen to zoom around.
+     */
+    public void zoom(float factor, float screenX, float screenY) {
+        float boardX = this.toBoardX(screenX);
+        float boardY = this.toBoardY(screenY);
+
+        this.zoom = Math.max(this.getMinZoom(), Math.min(MAX_ZOOM, this.zoom * factor));
+        this.x = boardX - screenX / this.zoom;
+        this.y = boardY - (screenY - App.TOPBAR) / this.zoom;
+        this.clamp();
+    }
+
+    private float getMinZoom() {
+        float fit = Math.min((float)this.viewWidth / this.boardWidth, (float)this.viewHeight / this.boardHeight);
+        return Math.min(1, fit);
+    }
+
+    // Keeps the view on the board, at the top left of a board smaller than the view
+    private void clamp() {
+        this.x = Math.max(0, Math.min(this.x, this.boardWidth - this.viewWidth / this.zoom));
+        this.y = Math.max(0, Math.min(this.y, this.boardHeight - this.viewHeight / this.zoom));
+    }
+
+    /**
+     * Starts drawing through the camera. Everything drawn until end() is called is placed as
+     * on an unscrolled board below the top bar, and moved and scaled to the view.
+     *
+     * @param app The application to draw to.
+     */
+    public void begin(PApplet app) {
+        app.pushMatrix();
+        app.translate(0, App.TOPBAR);
+        app.scale(this.zoom);
+        app.translate(-this.x, -this.y - App.TOPBAR);
+    }
+
+    /**
+     * Stops drawing through the camera.
+     *
+     * @param app The application to draw to.
+     */
+    public void end(PApplet app) {
+        app.popMatrix();
+    }
+
+    /**
+     * Checks if any of a rectangle of the board is in view.
+     *
+     * @param xPixel The x pixel location of the left of the rectangle on the board.
+     * @param yPixel The y pixel location of the top of the rectangle on the board.
+     * @param width  The width of the rectangle in pixels.
+     * @param height The height of the rectangle in pixels.
+     * @return true if the rectangle is at least partly in view.
+     */
+    public boolean isVisible(float xPixel, float yPixel, float width, float height) {
+        return xPixel + width > this.x && xPixel < this.getRight() &&
+         yPixel + height > this.y && yPixel < this.getBottom();
+    }
+
+    /**
+     * Checks if a screen location is in the play area, rather than over the top bar or sidebar.
+     *
+     * @param screenX The x pixel location on the screen.
+     * @param screenY The y pixel location on the screen.
+     * @return true if the location shows part of the board.
+     */
+    public boolean isInView(float screenX, float screenY) {
+        return screenX >= 0 && screenX < this.viewWidth && screenY >= App.TOPBAR &&
+         screenY < App.TOPBAR + this.viewHeight;
+    }
+
+    /**
+     * Checks if the board fills the play area, so nothing needs to be drawn around it.
+     *
+     * @return true if the board covers the whole play area.
+     */
+    public boolean coversView() {
+        return this.boardWidth * this.zoom >= this.viewWidth && this.boardHeight * this.zoom >= this.viewHeight;
+    }
+
+    /**
+     * Converts a screen location to the board pixel location shown there.
+     *
+     * @param screenX The x pixel location on the screen.
+     * @return The x pixel location on the board.
+     */
+    public float toBoardX(float screenX) {
+        return this.x + screenX / this.zoom;
+    }
+
+    /**
+     * Converts a screen location to the board pixel location shown there.
+     *
+     * @param screenY The y pixel location on the screen.
+     * @return The y pixel location on the board.
+     */
+    public float toBoardY(float screenY) {
+        return this.y + (screenY - App.TOPBAR) / this.zoom;
+    }
+
+    public float getX() {
+        return this.x;
+    }
+
+    public float getY() {
+        return this.y;
+    }
+
+    // The board pixel locations at the right and bottom of the view
+    public float getRight() {
+        return this.x + this.viewWidth / this.zoom;
+    }
+
+    public float getBottom() {
+        return this.y + this.viewHeight / this.zoom;
+    }
+
+    public float getZoom() {
+        return this.zoom;
+    }
+}
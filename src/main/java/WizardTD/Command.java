@@ -0,0 +1,80 @@
+package WizardTD;
+
+import java.util.*;
+
+/**
+ * A Command is an action the player asks for by clicking a button, pressing its key or
+ * clicking the board. Each command knows the shorthand of the button that asks for it and
+ * the key that does the same, so input can be turned into commands without comparing
+ * strings every frame.
+ * @see WizardTD.InputQueue InputQueue
+ */
+public enum Command {
+    FAST_FORWARD("FF", 'f'),
+    PAUSE("P", 'p'),
+    BUILD_TOWER("T", 't'),
+    UPGRADE_RANGE("U1", '1'),
+    UPGRADE_SPEED("U2", '2'),
+    UPGRADE_DAMAGE("U3", '3'),
+    MANA_POOL("M", 'm'),
+    MUTE("m", '\0'),
+    START("GO", '\0'),
+    ENDLESS(Character.toString('\u221e'), '\0'),
+    RESTART(null, 'r'),
+    PROFILER(null, 'o'),
+    EXPORT_PROFILE(null, 'e'),
+    /**
+     * A click on the board, which builds, upgrades or retargets a tower.
+     */
+    CLICK(null, '\0');
+
+    private static final HashMap<String, Command> SHORTHANDS = new HashMap<String, Command>();
+    private static final HashMap<Character, Command> KEYS = new HashMap<Character, Command>();
+
+    static {
+        for (Command command : values()) {
+            if (command.shorthand != null) {
+                SHORTHANDS.put(command.shorthand, command);
+            }
+            if (command.key != '\0') {
+                KEYS.put(command.key, command);
+            }
+        }
+    }
+
+    private final String shorthand;
+    private final char key;
+
+    Command(String shorthand, char key) {
+        this.shorthand = shorthand;
+        this.key = key;
+    }
+
+    /**
+     * Finds the command of a button.
+     *
+     * @param shorthand The shorthand shown on the button.
+     * @return The command, or null if the button has none.
+     */
+    public static Command forShorthand(String shorthand) {
+        return SHORTHANDS.get(shorthand);
+    }
+
+    /**
+     * Finds the command asked for by a key.
+     *
+     * @param key The key pressed.
+     * @return The command, or null if the key does nothing.
+     */
+    public static Command forKey(char key) {
+        return KEYS.get(key);
+    }
+
+    public String getShorthand() {
+        return this.shorthand;
+    }
+
+    public char getKey() {
+        return this.key;
+    }
+}
@@ -0,0 +1,87 @@
+package WizardTD;
+
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.MonsterConfig;
+import WizardTD.sim.WaveConfig;
+
+import processing.core.PApplet;
+import processing.data.JSONArray;
+import processing.data.JSONObject;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * The ConfigLoader reads the JSON configuration file into a GameConfig that
+ * can be used to construct the simulation.
+ * @see WizardTD.sim.GameConfig GameConfig
+ */
+public class ConfigLoader {
+
+    /**
+     * Loads a configuration file from disk.
+     *
+     * @param configPath The path of the configuration (.json) file.
+     * @return The game configuration described by the file.
+     */
+    public static GameConfig load(String configPath) {
+        return load(PApplet.loadJSONObject(new File(configPath)));
+    }
+
+    /**
+     * Converts a parsed configuration file into a game configuration.
+     *
+     * @param config The configuration file as a JSON object.
+     * @return The game configuration described by the JSON object.
+     */
+    public static GameConfig load(JSONObject config) {
+        GameConfig gameConfig = new GameConfig();
+
+        gameConfig.setLayout(config.getString("layout"));
+
+        // The board is 20 by 20 tiles unless its size is given
+        if (config.hasKey("width")) {
+            gameConfig.setWidth(config.getInt("width"));
+        }
+        if (config.hasKey("height")) {
+            gameConfig.setHeight(config.getInt("height"));
+        }
+
+        // Get waves
+        JSONArray waves = config.getJSONArray("waves");
+        for (int i = 0; i < waves.size(); i++) {
+            JSONObject currentWave = waves.getJSONObject(i);
+
+            ArrayList<MonsterConfig> monsters = new ArrayList<MonsterConfig>();
+            JSONArray monstersConfig = currentWave.getJSONArray("monsters");
+            for (int j = 0; j < monstersConfig.size(); j++) {
+                JSONObject currentMonster = monstersConfig.getJSONObject(j);
+
+                monsters.add(new MonsterConfig(currentMonster.getString("type"),
+                currentMonster.getFloat("hp"), currentMonster.getFloat("speed"),
+                currentMonster.getFloat("armour"), currentMonster.getFloat("mana_gained_on_kill"),
+                currentMonster.getInt("quantity")));
+            }
+
+            gameConfig.addWave(new WaveConfig(currentWave.getDouble("duration"),
+            currentWave.getDouble("pre_wave_pause"), monsters));
+        }
+
+        // Tower values
+        gameConfig.setInitialTowerRange(config.getFloat("initial_tower_range"));
+        gameConfig.setInitialTowerFiringSpeed(config.getFloat("initial_tower_firing_speed"));
+        gameConfig.setInitialTowerDamage(config.getFloat("initial_tower_damage"));
+        gameConfig.setTowerCost(config.getFloat("tower_cost"));
+
+        // Mana values
+        gameConfig.setInitialMana(config.getFloat("initial_mana"));
+        gameConfig.setInitialManaCap(config.getFloat("initial_mana_cap"));
+        gameConfig.setInitialManaGainedPerSecond(config.getFloat("initial_mana_gained_per_second"));
+        gameConfig.setManaPoolSpellInitialCost(config.getFloat("mana_pool_spell_initial_cost"));
+        gameConfig.setManaPoolSpellCostIncreasePerUse(config.getFloat("mana_pool_spell_cost_increase_per_use"));
+        gameConfig.setManaPoolSpellCapMultiplier(config.getFloat("mana_pool_spell_cap_multiplier"));
+        gameConfig.setManaPoolSpellManaGainedMultiplier(config.getFloat("mana_pool_spell_mana_gained_multiplier"));
+
+        return gameConfig;
+    }
+}
@@ -0,0 +1,318 @@
+package WizardTD;
+
+import WizardTD.sim.Fireball;
+import WizardTD.sim.FireballPool;
+import WizardTD.sim.Monster;
+import WizardTD.sim.Tower;
+
+import processing.core.PImage;
+
+import java.util.*;
+
+/**
+ * The EntityRenderer draws the monsters, towers and fireballs of the simulation to the screen.
+ * Entity positions are relative to the board, which is drawn below the top bar through the
+ * camera. Entities out of the camera's view are not drawn. Monsters are collected into a
+ * sprite batch, which leaves out monsters hidden under an identical one. Health bars, range
+ * rings and upgrade markers are collected into an overlay batch and drawn together over the
+ * entities.
+ * @see WizardTD.sim.Simulation Simulation
+ * @see WizardTD.Camera Camera
+ * @see WizardTD.SpriteBatch SpriteBatch
+ * @see WizardTD.OverlayBatch OverlayBatch
+ */
+public class EntityRenderer {
+    private App app;
+    /**
+     * Sprites of each monster type, followed by the images of its death animation.
+     */
+    private HashMap<String, PImage[]> monsterSprites;
+    private SpriteBatch monsters;
+    private OverlayBatch overlays;
+
+    /**
+     * Constructs a renderer for the simulation of the given application.
+     *
+     * @param app The main application instance.
+     */
+    public EntityRenderer(App app) {
+        this.app = app;
+        this.monsterSprites = new HashMap<String, PImage[]>();
+        this.monsters = new SpriteBatch();
+        this.overlays = new OverlayBatch();
+    }
+
+    /**
+     * Draws the health bars, range rings and upgrade markers added since the last call, over
+     * everything drawn before. Called once a frame after the entities are drawn.
+     */
+    public void drawOverlays() {
+        this.overlays.flush(this.app);
+    }
+
+    public OverlayBatch getOverlays() {
+        return this.overlays;
+    }
+
+    /**
+     * Draws a sprite centred within the tile at the given board location.
+     *
+     * @param sprite The image to draw, nothing is drawn if null.
+     * @param xPixel The x pixel location on the board.
+     * @param yPixel The y pixel location on the board.
+     */
+    public void drawSprite(PImage sprite, float xPixel, float yPixel) {
+        if (sprite != null) {
+
+            // Calculate the position to center the image within the tile
+            float xPos = xPixel + (App.CELLSIZE - sprite.width) / 2;
+            float yPos = yPixel + App.TOPBAR + (App.CELLSIZE - sprite.height) / 2;
+
+            this.app.image(sprite, xPos, yPos);
+        }
+    }
+
+    /**
+     * Draws every spawned monster in view, with a health bar if it has hp. Monsters are
+     * found through the simulation's grid of monsters around the view, so monsters off
+     * screen are not looked at.
+     */
+    public void drawMonsters() {
+        Camera camera = this.app.camera;
+
+        // A monster's tile reaches up to a tile past the cell it is indexed in
+        this.app.simulation.getMonsterGrid().forEachIn(camera.getX() - App.CELLSIZE,
+        camera.getY() - App.CELLSIZE, camera.getRight(), camera.getBottom(), this::drawMonster);
+        this.monsters.flush(this.app);
+    }
+
+    /**
+     * Adds a monster to the monsters drawn by drawMonsters(), with a health bar if it has hp,
+     * unless it is out of view.
+     *
+     * @param monster The monster to draw.
+     */
+    public void drawMonster(Monster monster) {
+        if (!this.app.camera.isVisible(monster.getXPixel(), monster.getYPixel(), App.CELLSIZE, App.CELLSIZE)) {
+            return;
+        }
+        PImage sprite = this.getSprite(monster);
+        if (sprite != null) {
+            // Centred within the tile, as drawSprite() does
+            this.monsters.add(sprite, monster.getXPixel() + (App.CELLSIZE - sprite.width) / 2,
+            monster.getYPixel() + App.TOPBAR + (App.CELLSIZE - sprite.height) / 2);
+        }
+        // Draw health bar if has hp
+        if (monster.getHp() > 0) {
+            this.drawHealth(monster);
+        }
+    }
+
+    /**
+     * Gets the current sprite of a monster, taking its death animation into account.
+     *
+     * @param monster The monster to draw.
+     * @return The monster's current image.
+     */
+    public PImage getSprite(Monster monster) {
+        PImage[] sprites = this.monsterSprites.get(monster.getType());
+        if (sprites == null) {
+            // Images are named "type" + i for the death animation
+            sprites = new PImage[5];
+            sprites[0] = this.app.getImage(monster.getType());
+            for (int i = 1; i < 5; i++) {
+                sprites[i] = this.app.getImage(monster.getType() + Integer.toString(i));
+            }
+            this.monsterSprites.put(monster.getType(), sprites);
+        }
+        return sprites[monster.getDeathAnimationFrame()];
+    }
+
+    /**
+     * Adds the health bar for the monster above its sprite to the overlays of the frame.
+     *
+     * @param monster The monster to draw the health bar of.
+     */
+    public void drawHealth(Monster monster) {
+        this.overlays.addBar(monster.getXPixel(), monster.getYPixel() + App.TOPBAR,
+        monster.getHp()/monster.getStartingHp());
+    }
+
+    /**
+     * Checks if any of the tile a tower stands on is in view.
+     *
+     * @param tower The tower to check.
+     * @return true if the tower would be seen when drawn.
+     */
+    public boolean isVisible(Tower tower) {
+        return this.app.camera.isVisible(tower.getXPixel(), tower.getYPixel(), App.CELLSIZE, App.CELLSIZE);
+    }
+
+    /**
+     * Draws the tower using the sprite of its upgrade level.
+     *
+     * @param tower The tower to draw.
+     */
+    public void drawTower(Tower tower) {
+        this.drawSprite(this.app.getImage("tower" + this.getUpgradeLevel(tower)),
+        tower.getXPixel(), tower.getYPixel());
+    }
+
+    /**
+     * Gets the tower's overall upgrade level. All upgrades must be this
+     * level or higher. For example, speed = 1, range = 2, damage = 2, is a level 1 tower.
+     *
+     * @param tower The tower to check.
+     * @return The tower's overall upgrade level (0-2).
+     */
+    public int getUpgradeLevel(Tower tower) {
+        if (tower.getSpeed() >= 2 && tower.getDamage() >= 2 && tower.getRange() >= 2) {
+            return 2;
+        }
+        else if (tower.getSpeed() >= 1 && tower.getDamage() >= 1 && tower.getRange() >= 1) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Draws every fireball in view, in a single pass over the simulation's fireball pool.
+     */
+    public void drawFireballs() {
+        FireballPool fireballs = this.app.simulation.getFireballPool();
+        PImage sprite = this.app.getImage("fireball");
+        Camera camera = this.app.camera;
+
+        for (int i = 0; i < fireballs.size(); i++) {
+            Fireball fireball = fireballs.get(i);
+            if (camera.isVisible(fireball.getXPixel(), fireball.getYPixel(), App.CELLSIZE, App.CELLSIZE)) {
+                this.drawSprite(sprite, fireball.getXPixel(), fireball.getYPixel());
+            }
+        }
+    }
+
+    /**
+     * Adds the range and targeting strategy of the tower to the overlays of the frame. Only
+     * called for the tower under the mouse, which the GUI finds once a frame.
+     *
+     * @param tower The tower to draw the range of.
+     * @see WizardTD.GUI#getHoveredTower() getHoveredTower
+     */
+    public void drawRadius(Tower tower) {
+        float size = tower.getRadius() + tower.getRadius();
+        this.overlays.addRing(tower.getCenterX(), tower.getCenterY() + App.TOPBAR, size,
+        tower.getTargeting().name(), tower.getYPixel() + App.TOPBAR);
+    }
+
+    /**
+     * Adds the tower's upgrades to the overlays of the frame.
+     *
+     * @param tower The tower to draw the upgrades of.
+     */
+    public void drawUpgrades(Tower tower) {
+        this.drawIndividualUpgrades(tower, this.getUpgradeLevel(tower));
+    }
+
+    /**
+     * Adds individual upgrade indicators for range, speed and damage to the overlays.
+     *
+     * @param tower The tower to draw the upgrades of.
+     * @param upgradeLevel The tower's overall upgrade level. All upgrades must be this
+     * level or higher. For example, speed = 1, range = 2, damage = 2, is a level 1 tower.
+     */
+    public void drawIndividualUpgrades(Tower tower, int upgradeLevel) {
+        float xPixel = tower.getXPixel();
+        float yPixel = tower.getYPixel() + App.TOPBAR;
+
+        if (tower.getSpeed() > upgradeLevel) {
+
+            float centerX = tower.getCenterX();
+            float centerY = tower.getCenterY() + App.TOPBAR;
+
+            // Calculate the size based on upgrade level
+            float size = (float)(20 + 0.6*(tower.getSpeed() - upgradeLevel));
+
+            // Calculate the coordinates for the top-left corner of the rectangle
+            float X = (centerX - size / 2);
+            float Y = (centerY - size / 2);
+
+            this.overlays.addSquare(X, Y, size, (float)0.6 * tower.getSpeed());
+
+        }
+        for (int i = 0; i < tower.getRange() - upgradeLevel; i++) {
+            this.overlays.addMarker('O', xPixel + i*6, yPixel);
+        }
+        for (int i = 0; i < tower.getDamage() - upgradeLevel; i++) {
+            this.overlays.addMarker('X', xPixel + i*6, yPixel + 24);
+        }
+
+    }
+
+    /**
+     * Draws an upgrade tooltip to show the cost of available upgrades. Only called for
+     * the tower under the mouse.
+     *
+     * @param tower The tower to draw the tooltip of.
+     */
+    public void drawUpgradeTip(Tower tower) {
+
+        this.app.textAlign(App.LEFT, App.TOP);
+
+        // Draw tooltip box if options are selected
+        if (this.app.gui.getUpgradeRange() || this.app.gui.getUpgradeSpeed() ||
+         this.app.gui.getUpgradeDamage()) {
+
+            int numUpgrades = 0;
+            int upgradeCost = 0;
+
+            int textY = 517; // Initial Y position for text
+            int boxHeight = 38; // Initial box height
+
+            this.app.fill(255, 255, 255);
+            this.app.strokeWeight(1);
+
+            if (this.app.gui.getUpgradeRange()) {
+                numUpgrades++;
+                upgradeCost += tower.getRangeUpgradeCost();
+            }
+            if (this.app.gui.getUpgradeSpeed()) {
+                numUpgrades++;
+                upgradeCost += tower.getSpeedUpgradeCost();
+            }
+            if (this.app.gui.getUpgradeDamage()) {
+                numUpgrades++;
+                upgradeCost += tower.getDamageUpgradeCost();
+            }
+
+            // Calculate box height based on the number of upgrades
+            boxHeight += 10 * numUpgrades;
+
+            this.app.rect(App.WIDTH - 110, 500, 72, boxHeight);
+
+            this.app.fill(0);
+            this.app.textSize(10);
+
+            if (this.app.gui.getUpgradeRange()) {
+                this.app.text("range:     " + Integer.toString(tower.getRangeUpgradeCost()),
+                App.WIDTH - 108, textY);
+                textY += 10; // Move the Y position down
+            }
+            if (this.app.gui.getUpgradeSpeed()) {
+                this.app.text("speed:     " + Integer.toString(tower.getSpeedUpgradeCost()),
+                App.WIDTH - 108, textY);
+                textY += 10; // Move the Y position down
+            }
+            if (this.app.gui.getUpgradeDamage()) {
+                this.app.text("damage:  " + Integer.toString(tower.getDamageUpgradeCost()),
+                App.WIDTH - 108, textY);
+            }
+
+            this.app.text("Upgrade cost", App.WIDTH - 108, 502);
+            this.app.line(App.WIDTH - 110, 515, App.WIDTH - 38, 515);
+            this.app.line(App.WIDTH - 110, 512 + 10 * (numUpgrades + 1),
+            App.WIDTH - 38, 512 + 10 * (numUpgrades + 1));
+            this.app.text("Total:      " + Integer.toString(upgradeCost),
+            App.WIDTH - 108, 514 + 10 * (numUpgrades + 1));
+        }
+    }
+}
@@ -1,48 +1,52 @@
 package WizardTD;
 
+import WizardTD.sim.ManaPool;
+import WizardTD.sim.Tile;
+import WizardTD.sim.Tower;
+import WizardTD.sim.WaveManager;
+
+import processing.core.PGraphics;
+
 import java.util.*;
 
 /**
- * The GUI class handles the game's user interface, including buttons and mana and tower management.
- * It also determines whether the play has lost the game (mana less than 0).
+ * The GUI class handles the game's user interface, including buttons, the mana display
+ * and the wave timer, and lets the player upgrade towers.
+ * <p>
+ * The top bar and the sidebar are drawn into offscreen layers, which are copied to the
+ * screen every frame. A layer is only drawn again when something shown on it changes, such
+ * as the mana or seconds shown, or the colour or text of a button.
  */
 public class GUI {
-    private int frameCounter = 0;
-
-    private float currentMana;
-    private float passiveManaGain;
-    private float maxMana;
-    private float currentManaPoolCost;
-    private float manaPoolCostIncreasePerUse;
-    private float manaPoolCapMulitpler;
-    private float manaGainedMulitpler;
 
     private ArrayList<Button> buttons;
     private App app;
-    private ArrayList<Tower> towers;
 
+    private PGraphics topBar;
+    private PGraphics sidebar;
+    private int redraws;
+
+    // What the top bar showed when it was last drawn
+    private int shownMana = -1;
+    private int shownMaxMana = -1;
+    private int shownManaWidth = -1;
+    private int shownWave = -1;
+    private int shownSeconds = -1;
+
+    private boolean buildTower = false;
     private boolean upgradeRange = false;
     private boolean upgradeSpeed = false;
     private boolean upgradeDamage = false;
 
-    private boolean player_lost = false;
-
     /**
-     * Constructs the GUI class. This involves initialising the player mana, buttons and list of towers.
+     * Constructs the GUI class. This involves initialising the buttons.
      *
      * @param app The main game application.
      */
     public GUI(App app) {
-        this.currentMana = (app.config.getFloat("initial_mana"));
-        this.maxMana = (app.config.getFloat("initial_mana_cap"));
-        this.currentManaPoolCost = (app.config.getFloat("mana_pool_spell_initial_cost"));
-        this.passiveManaGain = (app.config.getFloat("initial_mana_gained_per_second"));
-        this.manaPoolCostIncreasePerUse = (app.config.getFloat("mana_pool_spell_cost_increase_per_use"));
-        this.manaPoolCapMulitpler = (app.config.getFloat("mana_pool_spell_cap_multiplier"));
-        this.manaGainedMulitpler = (app.config.getFloat("mana_pool_spell_mana_gained_multiplier"));
+        ManaPool manaPool = app.simulation.getManaPool();
 
         this.buttons = new ArrayList<Button>();
-        this.towers = new ArrayList<Tower>();
         this.app = app;
 
         // Create buttons on GUI
@@ -59,46 +63,118 @@ public class GUI {
         Button u3 = new Button(App.WIDTH - 110, 300, "U3" , "Upgrade \ndamage", app);
         buttons.add(u3);
         Button m = new Button(App.WIDTH - 110, 350, "M" , "Mana pool \ncost: " +
-         Integer.toString((int)this.currentManaPoolCost), app);
+         Integer.toString((int)manaPool.getCurrentManaPoolCost()), app);
         buttons.add(m);
         Button mute = new Button(App.WIDTH - 110, 400, "m" , "Mute \nmusic", app);
         buttons.add(mute);
     }
     
     /**
-     * Draws the game's user interface, including mana display and buttons.
+     * Draws the game's user interface, including the mana display, wave timer and buttons.
+     * The top bar and sidebar are only drawn again if what they show has changed.
      */
     public void draw() {
-        
-        app.textAlign(App.LEFT, App.BASELINE);
+        if (this.topBar == null) {
+            this.topBar = this.app.createLayer(App.WIDTH, App.TOPBAR);
+            this.sidebar = this.app.createLayer(App.SIDEBAR, App.HEIGHT - App.TOPBAR);
+        }
 
-        // Draw Mana Box(es)
-        app.fill(255);
-        app.stroke(0);
-        app.strokeWeight(2);
-        app.rect(App.WIDTH/2 + 5, 10, 330, 22);
+        if (this.isTopBarChanged()) {
+            this.topBar.beginDraw();
+            this.topBar.background(136,116,76);
+            this.drawMana(this.topBar);
+            this.drawWaveTimer(this.topBar);
+            this.topBar.endDraw();
+            this.redraws++;
+        }
 
-        app.fill(0, 255, 255);
-        app.rect(App.WIDTH/2 + 5, 10, 330*(this.currentMana/this.maxMana), 22);
+        if (this.isSidebarChanged()) {
+            this.sidebar.beginDraw();
+            this.sidebar.background(136,116,76);
+            // Buttons are placed on the window, so the layer is moved under the sidebar
+            this.sidebar.translate(App.SIDEBAR - App.WIDTH, -App.TOPBAR);
+            this.sidebar.stroke(0);
+            this.sidebar.strokeWeight(2);
+            for (Button button : this.buttons) {
+                button.draw(this.sidebar);
+            }
+            this.sidebar.endDraw();
+            this.redraws++;
+        }
 
-        // Draw Mana text
-        app.fill(0,0,0);
-        app.textSize(20);
-        app.text("MANA: ", App.WIDTH/2 - 65, 30);
-        String displayMana = (Integer.toString((int)this.currentMana) + " / " + 
-        Integer.toString((int)this.maxMana));
-        app.text(displayMana, App.WIDTH/2 + 112, 30);
+        app.image(this.topBar, 0, 0);
+        app.image(this.sidebar, App.WIDTH - App.SIDEBAR, App.TOPBAR);
+    }
 
-    
-        // Draw buttons
+    /**
+     * Checks whether the mana or the wave timer would be shown differently from when the top
+     * bar was last drawn, and remembers the values now shown if so.
+     *
+     * @return true if the top bar needs to be drawn again.
+     */
+    private boolean isTopBarChanged() {
+        ManaPool manaPool = this.app.simulation.getManaPool();
+        WaveManager wavemanager = this.app.simulation.getWaveManager();
+
+        int mana = (int)manaPool.getCurrentMana();
+        int maxMana = (int)manaPool.getMaxMana();
+        int manaWidth = (int)(330*(manaPool.getCurrentMana()/manaPool.getMaxMana()));
+        int wave = wavemanager.getNextWave();
+        int seconds = (int)(wavemanager.getTimer() / 60);
+
+        if (mana == this.shownMana && maxMana == this.shownMaxMana && manaWidth == this.shownManaWidth &&
+         wave == this.shownWave && seconds == this.shownSeconds) {
+            return false;
+        }
+        this.shownMana = mana;
+        this.shownMaxMana = maxMana;
+        this.shownManaWidth = manaWidth;
+        this.shownWave = wave;
+        this.shownSeconds = seconds;
+        return true;
+    }
+
+    // Whether any button changed colour or text since the sidebar was last drawn
+    private boolean isSidebarChanged() {
         for (Button button : this.buttons) {
-            button.draw(app);
+            if (button.isChanged()) {
+                return true;
+            }
         }
+        return false;
+    }
 
+    /**
+     * Draws the mana bar and the amount of mana the player has.
+     *
+     * @param layer The layer of the top bar.
+     */
+    public void drawMana(PGraphics layer) {
+        ManaPool manaPool = this.app.simulation.getManaPool();
+        
+        layer.textAlign(App.LEFT, App.BASELINE);
+
+        // Draw Mana Box(es)
+        layer.fill(255);
+        layer.stroke(0);
+        layer.strokeWeight(2);
+        layer.rect(App.WIDTH/2 + 5, 10, 330, 22);
+
+        layer.fill(0, 255, 255);
+        layer.rect(App.WIDTH/2 + 5, 10, 330*(manaPool.getCurrentMana()/manaPool.getMaxMana()), 22);
+
+        // Draw Mana text
+        layer.fill(0,0,0);
+        layer.textSize(20);
+        layer.text("MANA: ", App.WIDTH/2 - 65, 30);
+        String displayMana = (Integer.toString((int)manaPool.getCurrentMana()) + " / " + 
+        Integer.toString((int)manaPool.getMaxMana()));
+        layer.text(displayMana, App.WIDTH/2 + 112, 30);
     }
 
     /**
-     * Updates the state of buttons, towers, and player mana per frame.
+     * Updates how the buttons look per frame, such as the colour of the button under the
+     * mouse. Pressing a button is handled by its command.
      *
      * @param app The main game application.
      */
@@ -107,28 +183,157 @@ public class GUI {
         for (Button button: this.buttons) {
             button.tick();
         }
+    }
 
-        if (!app.paused && !app.dead) {
-            for (Tower tower : this.towers) {
-                tower.tick(app);
-            }
+    /**
+     * Draws the wave timer on the top bar, indicating the time remaining before the next wave starts.
+     *
+     * @param layer The layer of the top bar.
+     */
+    public void drawWaveTimer(PGraphics layer) {
+        WaveManager wavemanager = this.app.simulation.getWaveManager();
 
-            this.frameCounter++;
+        layer.textAlign(App.LEFT, App.BASELINE);
+        layer.textSize(24);
+        layer.fill(0, 0, 0);
+    
+        if (wavemanager.getNextWave() < wavemanager.getTotalWaves()+1) {
+            String displayWave = "Wave " + (wavemanager.getNextWave()) + " starts: " + 
+            (int)(wavemanager.getTimer() / 60);
+            layer.text(displayWave, 10, 30);
+        }
+    }
 
-            // Update player mana
-            if (this.app.fastforward) {
-                if (this.frameCounter%30 == 0) {
-                    increaseMana(this.passiveManaGain);
-                    this.frameCounter = 0;
-                }
-            }
-            else {
-                if (this.frameCounter%60 == 0) {
-                    increaseMana(this.passiveManaGain);
-                    this.frameCounter = 0;
-                }
+    /**
+     * Draws "YOU WIN!" to the screen when the player wins the game.
+     */
+    public void drawWin() {
+        if (this.app.simulation.playerWon()) {
+            this.app.fill(255, 255, 0);
+            this.app.textSize(100);
+            this.app.textAlign(App.CENTER, App.CENTER);
+            this.app.text("YOU WIN!", this.getBoardCenterX(), this.getBoardCenterY());
+        }
+    }
+    
+    /**
+     * Tells the player they can restart the game by pressing 'r' after losing. The key asks
+     * for the restart command, which restarts a lost game.
+     */
+    public void allowRestart() {
+
+        if (this.app.dead) {
+
+            this.app.fill(255, 0, 0);
+            this.app.textSize(100);
+            this.app.textAlign(App.CENTER, App.CENTER);
+            this.app.text("YOU LOST!", this.getBoardCenterX(), this.getBoardCenterY());
+            this.app.textSize(24);
+            this.app.text("Press 'r' to restart", this.getBoardCenterX(),
+            this.getBoardCenterY() - 80);
+        }
+    }
+
+    /**
+     * Finds the tile under the mouse, as seen through the camera.
+     *
+     * @return The tile, or null if the mouse is not over the board.
+     */
+    public Tile getHoveredTile() {
+        if (!app.camera.isInView(app.mouseX, app.mouseY)) {
+            return null;
+        }
+        return app.gameboard.getTileMouse(app.camera.toBoardX(app.mouseX),
+        app.camera.toBoardY(app.mouseY) + App.TOPBAR);
+    }
+
+    /**
+     * Finds the tower under the mouse from the tile under it, without checking every tower.
+     *
+     * @return The tower, or null if the mouse is not over a tower.
+     */
+    public Tower getHoveredTower() {
+        Tile tile = this.getHoveredTile();
+        return tile == null ? null : tile.getTower();
+    }
+
+    /**
+     * Handles a click on the board. While the tower button is pressed, a left click builds a
+     * tower on empty grass, upgraded with the selected upgrades. Otherwise a click on a tower
+     * upgrades it or changes its targeting.
+     *
+     * @param boardX      The x pixel location of the click on the board.
+     * @param boardY      The y pixel location of the click on the board.
+     * @param mouseButton The mouse button clicked, such as App.LEFT.
+     */
+    public void click(float boardX, float boardY, int mouseButton) {
+        Tile tile = this.app.gameboard.getTileMouse(boardX, boardY + App.TOPBAR);
+        if (tile == null) {
+            return;
+        }
+
+        // The simulation checks the tile is empty grass and the player has enough mana
+        if (this.buildTower && mouseButton == App.LEFT) {
+            Tower newTower = this.app.simulation.placeTower(tile.getX(), tile.getY());
+            if (newTower != null) {
+                this.upgradeTower(newTower);
+                return;
             }
         }
+
+        if (tile.hasTower()) {
+            this.clickTower(tile.getTower(), mouseButton);
+        }
+    }
+
+    /**
+     * Handles a click on a tower. Right clicking a tower changes its targeting strategy,
+     * a left click upgrades it.
+     *
+     * @param tower       The tower clicked.
+     * @param mouseButton The mouse button clicked, such as App.LEFT.
+     */
+    public void clickTower(Tower tower, int mouseButton) {
+        if (mouseButton == App.RIGHT) {
+            tower.setTargeting(tower.getTargeting().next());
+        }
+        else if (mouseButton == App.LEFT) {
+            this.upgradeTower(tower);
+        }
+    }
+
+    /**
+     * Upgrades a tower, based on whether or not the upgrade buttons are selected.
+     *
+     * @param tower The tower to upgrade.
+     */
+    public void upgradeTower(Tower tower) {
+        // Check upgrade flags
+        if (this.upgradeRange) {
+            tower.upgradeRange();
+        }
+
+        if (this.upgradeSpeed) {
+            tower.upgradeSpeed();
+        }
+
+        if (this.upgradeDamage) {
+            tower.upgradeDamage();
+        }
+    }
+
+    /**
+     * Allows the player to build towers by clicking the board.
+     */
+    public void buildTower() {
+        this.buildTower = true;
+    }
+
+    /**
+     * Resets the player's ability to build towers.
+     */
+    public void resetBuildTower() {
+        this.buildTower = false;
     }
 
     /**
@@ -172,6 +377,15 @@ public class GUI {
         this.upgradeSpeed = false;
     }
     
+    /**
+     * Checks whether clicking the board currently builds a tower.
+     *
+     * @return true if towers can be built, false otherwise.
+     */
+    public boolean getBuildTower() {
+        return this.buildTower;
+    }
+
     /**
      * Checks whether the tower damage can be currently upgraded.
      *
@@ -199,93 +413,27 @@ public class GUI {
         return this.upgradeSpeed;
     }
 
-    /**
-     * Adds a tower to the list of active towers.
-     *
-     * @param t The tower to add.
-     */
-    public void addTower(Tower t) {
-        this.towers.add(t);
-    }
-
-    public float getCurrentMana() {
-        return this.currentMana;
-    }
-
-    /**
-     * Gets the current rate of passive mana gain per second.
-     * 
-     * @return The rate of passive mana gain per second.
-     */
-    public float getPassiveMana() {
-        return this.passiveManaGain;
-    }
-
-    /**
-     * Casts the mana pool spell, increasing the player's maximum mana, passive mana gain,
-     * and increase the cost of the subsequent mana pool spell.
-     */
-    public void manaPoolSpell() {
-        if (this.currentMana >= this.currentManaPoolCost) {
-            this.currentMana -= this.currentManaPoolCost;
-            this.currentManaPoolCost += this.manaPoolCostIncreasePerUse;
-            this.maxMana = this.maxMana * this.manaPoolCapMulitpler;
-            this.passiveManaGain += this.passiveManaGain*(this.manaGainedMulitpler - 1);
-        }
-    }   
- 
-    /**
-     * Decrease the player's mana. This can occur when placing/upgrading towers, 
-     * casting the mana pool spell or banishing monsters.
-     * 
-     * @param cost The amount of mana taken from the player.
-     */
-    public void decreaseMana(float cost) {
-        this.currentMana -= cost;
-        // Check if player lost
-        if (this.currentMana < 0) {
-            this.player_lost = true;
-            // To simply display 0
-            this.currentMana = 0;
-        }
-        
+    public ArrayList<Button> getButtons() {
+        return this.buttons;
     }
 
     /**
-     * Increase the player's mana.
-     * 
-     * @param amount The amount of mana to add to the player.
+     * Gets how many times the top bar and sidebar layers have been drawn, which only happens
+     * when what they show changes.
+     *
+     * @return The number of times a layer has been drawn.
      */
-    public void increaseMana(float amount) {
-        if (this.currentMana < this.maxMana) {
-            float remainingManaToGain = this.maxMana - this.currentMana;
-            this.currentMana += Math.min(remainingManaToGain, amount);
-        }
-    }
-
-    public float getCurrentManaPoolCost() {
-        return this.currentManaPoolCost;
+    public int getRedraws() {
+        return this.redraws;
     }
 
-    public float getMaxMana() {
-        return this.maxMana;
+    // The middle of the play area, where the end of game messages are shown
+    private float getBoardCenterX() {
+        return (App.WIDTH - App.SIDEBAR)/2;
     }
 
-    public ArrayList<Button> getButtons() {
-        return this.buttons;
-    }
-
-    public ArrayList<Tower> getTowers() {
-        return this.towers;
-    }
-
-    /**
-     * Checks if the player has lost the game.
-     * 
-     * @return <code>true</code> if the player has lost, <code>false</code> otherwise.
-     */
-    public boolean playerLost() {
-        return this.player_lost;
+    private float getBoardCenterY() {
+        return (App.HEIGHT - App.TOPBAR)/2;
     }
     
 }
@@ -1,93 +1,64 @@
 package WizardTD;
 
-import processing.data.JSONObject;
+import WizardTD.sim.Board;
+import WizardTD.sim.Tile;
+
+import processing.core.PApplet;
 import processing.core.PImage;
 
-import java.io.*;
 import java.util.*;
 
 /**
- * The GameBoard represents the game board of the Wizard Tower Defense game,
- * containing information about the layout of the map and tiles and is generated 
- * via the map layout in the configuration file.
- * @see WizardTD.Tile Tile
+ * The GameBoard draws the game board of the Wizard Tower Defense game. It chooses
+ * and orients the sprite of each tile using the layout of the simulation's board.
+ * The terrain never changes during a game, so it is drawn once into images of square
+ * chunks of the board, which are copied to the screen every frame. Only the chunks in
+ * the camera's view are built and drawn, so large boards cost no more to draw.
+ * @see WizardTD.sim.Board Board
+ * @see WizardTD.Camera Camera
  */
 public class GameBoard {
 
+    /**
+     * The width and height of a chunk of the board in tiles.
+     */
+    public static final int CHUNK_SIZE = 16;
+
     private int width;
     private int height;
-    private Tile[][] tiles; // x,y
-    private JSONObject config;
-    private String layout;
+    private Board board;
+    private PImage[][] sprites; // x,y
     private char[][] layout_Array; // x,y 
+    /**
+     * The background and every tile of each chunk of the board (x,y), each built the first
+     * time it is in view.
+     */
+    private PImage[][] chunks;
+    private Tile wizardTile; // The wizard's house, null if the layout has none
 
     /**
-     * Constructs a new game board using the provided App instance's width and height values.
-     * Loads required images and sets the sprite and type of each tile.
+     * Constructs a new game board for the board of the given App instance's simulation.
+     * Loads required images and sets the sprite of each tile.
      *
      * @param app The main application instance.
      */
     public GameBoard(App app) {
 
-        this.width = App.BOARD_WIDTH;
-        this.height = App.BOARD_WIDTH;
-        this.tiles = new Tile[width][height];
-
-        this.config = app.config; // Reference to config file in main App class
-        this.layout = this.config.getString("layout");
+        this.board = app.simulation.getBoard();
+        this.width = this.board.getWidth();
+        this.height = this.board.getHeight();
+        this.sprites = new PImage[width][height];
+        this.layout_Array = this.board.getLayoutArray();
+        this.chunks = new PImage[(width + CHUNK_SIZE - 1) / CHUNK_SIZE][(height + CHUNK_SIZE - 1) / CHUNK_SIZE];
 
         // Load required images
-        PImage grass =  app.images.get("grass");
-        PImage wizard_house =  app.images.get("wizard_house");
-        PImage shrub =  app.images.get("shrub");
-        PImage path0 =  app.images.get("path0");
-        PImage path1 =  app.images.get("path1");
-        PImage path2 =  app.images.get("path2");
-        PImage path3 =  app.images.get("path3");
-
-
-        // Initialize tiles with X and Y coordinates
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                tiles[x][y] = new Tile(x, y);
-            }
-        }
-
-
-        // 2-D Array to store map details
-        this.layout_Array = new char[width][height];
-        
-
-        // Read layout file and store it to 2-D Array
-        File layoutFile = new File(this.layout);
-        try {
-            Scanner scan = new Scanner(layoutFile);
-
-            int y_counter = 0; // Initialize the row counter
-
-            while (scan.hasNextLine()) {
-                String line = scan.nextLine();
-
-                for (int x = 0; x < line.length(); x++) {
-                    char tileSymbol = line.charAt(x);
-                    
-                    if (x < this.width) {
-                        this.layout_Array[x][y_counter] = tileSymbol;
-                    }
-
-            }
-            // Update counter variables
-            y_counter++;
-            if (y_counter == this.height){
-                break;
-            }
-                
-        } 
-        scan.close();
-        }
-        catch (FileNotFoundException e) {
-            System.err.println("Map file not found.");
-        }
+        PImage grass =  app.getImage("grass");
+        PImage wizard_house =  app.getImage("wizard_house");
+        PImage shrub =  app.getImage("shrub");
+        PImage path0 =  app.getImage("path0");
+        PImage path1 =  app.getImage("path1");
+        PImage path2 =  app.getImage("path2");
+        PImage path3 =  app.getImage("path3");
 
 
         // Set sprites for individual tiles
@@ -98,138 +69,138 @@ public class GameBoard {
 
                 char tileSymbol = this.layout_Array[x][y];
 
-                Tile current_tile = this.tiles[x][y];
+                Tile current_tile = this.board.getTile(x, y);
 
                 if (tileSymbol == ' ' || tileSymbol == '\0') {
                     // Grass
-                    current_tile.setSprite(grass, "grass"); 
+                    this.sprites[x][y] = grass; 
                 } else if (tileSymbol == 'S') {
                     // Shrub
-                    current_tile.setSprite(shrub, "shrub"); 
+                    this.sprites[x][y] = shrub; 
                 } else if (tileSymbol == 'X') {
                     
                     // Check if tile is on an edge
                     if (current_tile.getEdge()) {
                         // Check if left
-                        if (x == 0 && !(y == 0 || y == App.BOARD_WIDTH -1)) {
+                        if (x == 0 && !(y == 0 || y == this.height -1)) {
                             char top = this.layout_Array[x][y-1];
                             char bottom = this.layout_Array[x][y+1];
                             char right = this.layout_Array[x+1][y];
 
                             if (top == 'X' && bottom == 'X' && right == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (top == 'X' && bottom == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 90), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 90); // Rotate path2
                             }
                             else if (top == 'X' && right == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 180), "path"); // Rotate path2 
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 180); // Rotate path2 
                             }
                             else if (bottom == 'X' && right == 'X') {
-                                current_tile.setSprite(path2, "path");
+                                this.sprites[x][y] = path2;
                             }
                             else if (top == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path1, 90), "path"); // Rotate path1
+                                this.sprites[x][y] = app.rotateImageByDegrees(path1, 90); // Rotate path1
                             }
                             else if (bottom == 'X') {
-                                current_tile.setSprite(path1, "path"); 
+                                this.sprites[x][y] = path1; 
                             }
                             else {
                                 // Default case
-                                current_tile.setSprite(path0, "path"); 
+                                this.sprites[x][y] = path0; 
                             }
 
                          
                         }
                         // Check if right
-                        else if (x == App.BOARD_WIDTH - 1 && !(y == 0 || y == App.BOARD_WIDTH -1)) {
+                        else if (x == this.width - 1 && !(y == 0 || y == this.height -1)) {
                             char top = this.layout_Array[x][y-1];
                             char bottom = this.layout_Array[x][y+1];
                             char left = this.layout_Array[x-1][y];
 
                             if (top == 'X' && bottom == 'X' && left == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (top == 'X' && bottom == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 270), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 270); // Rotate path2
                             }
                             else if (top == 'X' && left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 180), "path"); // Rotate path2 
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 180); // Rotate path2 
                             }
                             else if (bottom == 'X' && left == 'X') {
-                                current_tile.setSprite(path2, "path");
+                                this.sprites[x][y] = path2;
                             }
                             else if (top == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path1,180), "path"); // Rotate path1
+                                this.sprites[x][y] = app.rotateImageByDegrees(path1,180); // Rotate path1
                             }
                             else if (bottom == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path1, 270), "path"); // Rotate path1
+                                this.sprites[x][y] = app.rotateImageByDegrees(path1, 270); // Rotate path1
                             }
                             else {
                                 // Default case
-                                current_tile.setSprite(path0, "path"); 
+                                this.sprites[x][y] = path0; 
                             }
 
                         }
                         // Check if top
-                        else if (y == 0 && !(x == 0 || x == App.BOARD_WIDTH -1)) {
+                        else if (y == 0 && !(x == 0 || x == this.width -1)) {
 
                             char left = this.layout_Array[x-1][y];
                             char right = this.layout_Array[x+1][y];
                             char bottom = this.layout_Array[x][y+1];
                             if (right == 'X' && bottom == 'X' && left == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (right == 'X' && bottom == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 270), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 270); // Rotate path2
                             }
                             else if (right == 'X' && left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 180), "path"); // Rotate path2 
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 180); // Rotate path2 
                             }
                             else if (bottom == 'X' && left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 90), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 90); // Rotate path2
                             }
                             else if (right == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path1,180), "path"); // Rotate path1
+                                this.sprites[x][y] = app.rotateImageByDegrees(path1,180); // Rotate path1
                             }
                             else if (left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path1,90), "path"); // Rotate path1
+                                this.sprites[x][y] = app.rotateImageByDegrees(path1,90); // Rotate path1
                             }
                             else {
                                 // Default case
-                                current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotated path
+                                this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotated path
                             }
 
                             
                         } 
 
                         // Check if bottom
-                        else if (y == App.BOARD_WIDTH-1 && !(x == 0 || x == App.BOARD_WIDTH -1)) {
+                        else if (y == this.height-1 && !(x == 0 || x == this.width -1)) {
                             char left = this.layout_Array[x-1][y];
                             char right = this.layout_Array[x+1][y];
                             char top = this.layout_Array[x][y-1];
 
                             if (right == 'X' && top == 'X' && left == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (right == 'X' && top == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 270), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 270); // Rotate path2
                             }
                             else if (right == 'X' && left == 'X') {
-                                current_tile.setSprite(path2, "path");
+                                this.sprites[x][y] = path2;
                             }
                             else if (top == 'X' && left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 90), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 90); // Rotate path2
                             }
                             else if (right == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path1, 270), "path"); // Rotate path1
+                                this.sprites[x][y] = app.rotateImageByDegrees(path1, 270); // Rotate path1
                             }
                             else if (left == 'X') {
-                                current_tile.setSprite(path1, "path"); 
+                                this.sprites[x][y] = path1; 
                             }
                             else {
                                 // Default case
-                                current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotated path
+                                this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotated path
                             }
 
                         }
@@ -238,60 +209,60 @@ public class GameBoard {
                             char right = this.layout_Array[x+1][y];
                             char bottom = this.layout_Array[x][y+1];
                             if (right == 'X' && bottom == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (right == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 180), "path"); // Rotate path2 
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 180); // Rotate path2 
                             }
                             else {
-                                current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotated path
+                                this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotated path
                             }
 
                         }
                         // Top right corner
-                        else if (x == App.BOARD_WIDTH-1 && y == 0) {
+                        else if (x == this.width-1 && y == 0) {
                             char left = this.layout_Array[x-1][y];
                             char bottom = this.layout_Array[x][y+1];
                             if (left == 'X' && bottom == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 180), "path"); // Rotate path2 
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 180); // Rotate path2 
                             }
                             else {
-                                current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotated path
+                                this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotated path
                             }
                             
 
                         }
                         // Bottom left corner
-                        else if (x == 0 && y == App.BOARD_WIDTH-1) {
+                        else if (x == 0 && y == this.height-1) {
                             char right = this.layout_Array[x+1][y];
                             char top = this.layout_Array[x][y-1];
                             if (right == 'X' && top == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (right == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 90), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 90); // Rotate path2
                             }
                             else {
-                                current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotated path
+                                this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotated path
                             }
 
                         }
                         // Bottom right corner
-                        else if (x == App.BOARD_WIDTH-1 && y == App.BOARD_WIDTH-1) {
+                        else if (x == this.width-1 && y == this.height-1) {
                             char top = this.layout_Array[x][y-1];
                             char left = this.layout_Array[x-1][y];
 
                             if (top == 'X' && left == 'X') {
-                                current_tile.setSprite(path3, "path");
+                                this.sprites[x][y] = path3;
                             }
                             else if (left == 'X') {
-                                current_tile.setSprite(app.rotateImageByDegrees(path2, 90), "path"); // Rotate path2
+                                this.sprites[x][y] = app.rotateImageByDegrees(path2, 90); // Rotate path2
                             }
                             else {
-                                current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotated path
+                                this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotated path
                             }
 
                         }
@@ -309,61 +280,62 @@ public class GameBoard {
                         
                         if (left == 'X' && right == 'X' && top == 'X' && bottom == 'X') {
                             // All adjacent tiles are path tiles, use path3
-                            current_tile.setSprite(path3, "path");
+                            this.sprites[x][y] = path3;
 
                         } else if (left == 'X' && right == 'X' && top == 'X') {
                             // Top, left, and right are path tiles, use path2
-                            current_tile.setSprite(app.rotateImageByDegrees(path2, 180), "path"); // Rotate path2 
+                            this.sprites[x][y] = app.rotateImageByDegrees(path2, 180); // Rotate path2 
 
                         } else if (left == 'X' && right == 'X' && bottom == 'X') {
                             // Bottom, left, and right are path tiles, use path2
-                            current_tile.setSprite(path2, "path");
+                            this.sprites[x][y] = path2;
 
                         } else if (top == 'X' && bottom == 'X' && left == 'X') {
                             // Left, top, and bottom are path tiles, use path2
-                            current_tile.setSprite(app.rotateImageByDegrees(path2, 90), "path"); // Rotate path2
+                            this.sprites[x][y] = app.rotateImageByDegrees(path2, 90); // Rotate path2
 
                         } else if (top == 'X' && bottom == 'X' && right == 'X') {
                             // Right, top, and bottom are path tiles, use path2
-                            current_tile.setSprite(app.rotateImageByDegrees(path2, 270), "path"); // Rotate path2
+                            this.sprites[x][y] = app.rotateImageByDegrees(path2, 270); // Rotate path2
 
                         } else if (top == 'X' && bottom == 'X') {
                             // Top and bottom are path tiles
-                            current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotate path0
+                            this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotate path0
                             
                         } else if (top == 'X' && right == 'X') {
                             // Top and right are path tiles
-                            current_tile.setSprite(app.rotateImageByDegrees(path1,180), "path"); // Rotate path1
+                            this.sprites[x][y] = app.rotateImageByDegrees(path1,180); // Rotate path1
                             
                         } else if (top == 'X' && left == 'X') {
                             // Top and left are path tiles
-                            current_tile.setSprite(app.rotateImageByDegrees(path1, 90), "path"); // Rotate path1
+                            this.sprites[x][y] = app.rotateImageByDegrees(path1, 90); // Rotate path1
                             
                         } else if (left == 'X' && right == 'X') {
                             // Left and right are path tiles
-                            current_tile.setSprite(path0, "path");
+                            this.sprites[x][y] = path0;
                             
                         } else if (left == 'X' && bottom == 'X') {
                             // Left and bottom are path tiles
-                            current_tile.setSprite(path1, "path"); 
+                            this.sprites[x][y] = path1; 
                             
                         } else if (right == 'X' && bottom == 'X') {
                             // Right and bottom are path tiles
-                            current_tile.setSprite(app.rotateImageByDegrees(path1, 270), "path"); // Rotate path1
+                            this.sprites[x][y] = app.rotateImageByDegrees(path1, 270); // Rotate path1
                             
                         } else if (top == 'X' || bottom == 'X') {
                             // Path at top or bottom tiles
-                            current_tile.setSprite(app.rotateImageByDegrees(path0, 90), "path"); // Rotate path0
+                            this.sprites[x][y] = app.rotateImageByDegrees(path0, 90); // Rotate path0
 
                         } else {
                             // Default case, use path0
-                            current_tile.setSprite(path0, "path");
+                            this.sprites[x][y] = path0;
                         }
 
                     }
 
                 } else if (tileSymbol == 'W') {
-                    // Wizard's house
+                    // Wizard's house, drawn again over everything else
+                    this.wizardTile = current_tile;
 
                     // Avoid index errors
                     if (!current_tile.getEdge()) {
@@ -374,20 +346,20 @@ public class GameBoard {
                         char bottom = this.layout_Array[x][y+1];
 
                         if (top == 'X') {
-                            current_tile.setSprite(app.rotateImageByDegrees(wizard_house, 90), "wizard"); 
+                            this.sprites[x][y] = app.rotateImageByDegrees(wizard_house, 90); 
                         }
                         else if (right == 'X') {
-                            current_tile.setSprite(app.rotateImageByDegrees(wizard_house, 180), "wizard"); 
+                            this.sprites[x][y] = app.rotateImageByDegrees(wizard_house, 180); 
                         }
                         else if (bottom == 'X') {
-                            current_tile.setSprite(app.rotateImageByDegrees(wizard_house, 270), "wizard"); 
+                            this.sprites[x][y] = app.rotateImageByDegrees(wizard_house, 270); 
                         }
                         else {
-                            current_tile.setSprite(wizard_house, "wizard"); // Default - facing left
+                            this.sprites[x][y] = wizard_house; // Default - facing left
                             }
                     }
                     else {
-                        current_tile.setSprite(wizard_house, "wizard"); // Default - facing left
+                        this.sprites[x][y] = wizard_house; // Default - facing left
                     }
                 }
                 }
@@ -396,67 +368,125 @@ public class GameBoard {
         }
     
 
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
     /**
      * Retrieves a specific tile at the given coordinates.
      *
      * @param x The x-coordinate of the tile.
      * @param y The y-coordinate of the tile.
      * @return The tile at the specified coordinates or null if out of bounds.
-     * @see WizardTD.Tile
+     * @see WizardTD.sim.Tile
      */
     public Tile getTile(int x, int y) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            return tiles[x][y];
-        } else {
-            return null; // Return null if coordinates are out of bounds
-        }
+        return this.board.getTile(x, y);
     }
     /**
-     * Retrieves a tile based on the mouse coordinates.
+     * Retrieves a tile based on the mouse coordinates. The tile is worked out from the
+     * size of a tile, rather than by searching the board.
      *
      * @param x The x-coordinate of the mouse.
      * @param y The y-coordinate of the mouse.
      * @return The tile under the mouse or null if not found.
-     * @see WizardTD.Tile
+     * @see WizardTD.sim.Tile
      */
     public Tile getTileMouse(float x, float y) {
-        for (int i = 0; i < width; i++) {
-            for (int j = 0; j < height; j++) {
-                if ((x >= this.tiles[i][j].getXPixel()) && (x <= this.tiles[i][j].getXPixel() + App.CELLSIZE) 
-                && (y >= this.tiles[i][j].getYPixel()) && (y <= this.tiles[i][j].getYPixel() + App.CELLSIZE)) {
-                    return this.tiles[i][j];
-                }
-            }
+        // Rounded down, so locations left of or above the board are off it
+        int tileX = (int)Math.floor(x / App.CELLSIZE);
+        int tileY = (int)Math.floor((y - App.TOPBAR) / App.CELLSIZE);
+        return this.board.getTile(tileX, tileY);
     }
-    return null;
-}
 
     /**
-     * Draws the game board to the screen. The wizard's house is drawn last.
+     * Draws the chunks of the game board in the camera's view to the screen, one image
+     * each. The wizard's house is drawn last.
      *
      * @param app The main application instance used for drawing.
      */
     public void drawBoard(App app) {
-        // Iterate through all tiles except the wizard's house
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Tile current_tile = this.tiles[x][y];
-                if (this.layout_Array[x][y] != 'W') {
-                    current_tile.draw(app);
+        Camera camera = app.camera;
+        int chunkPixels = CHUNK_SIZE * App.CELLSIZE;
+        int minX = Math.max(0, (int)Math.floor(camera.getX() / chunkPixels));
+        int maxX = Math.min(this.chunks.length - 1, (int)Math.floor(camera.getRight() / chunkPixels));
+        int minY = Math.max(0, (int)Math.floor(camera.getY() / chunkPixels));
+        int maxY = Math.min(this.chunks[0].length - 1, (int)Math.floor(camera.getBottom() / chunkPixels));
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                if (this.chunks[x][y] == null) {
+                    this.chunks[x][y] = this.buildChunk(app, x, y);
                 }
+                app.image(this.chunks[x][y], x * chunkPixels, App.TOPBAR + y * chunkPixels);
             }
         }
+    }
 
-        // Draw the wizard's house
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Tile current_tile = this.tiles[x][y];
-                if (this.layout_Array[x][y] == 'W') {
-                    current_tile.draw(app);
+    /**
+     * Draws the green background and the sprite of every tile of a chunk into an image,
+     * blending the sprites as drawing them to the screen would. Sprites of neighbouring
+     * tiles that reach into the chunk are included, so chunks join up seamlessly. Tiles
+     * other than the wizard's house are drawn first, and parts of sprites off the board
+     * are cut off.
+     *
+     * @param app    The main application instance used for drawing.
+     * @param chunkX The x-coordinate of the chunk.
+     * @param chunkY The y-coordinate of the chunk.
+     * @return The image of the chunk.
+     */
+    private PImage buildChunk(App app, int chunkX, int chunkY) {
+        int left = chunkX * CHUNK_SIZE;
+        int top = chunkY * CHUNK_SIZE;
+        int right = Math.min(this.width, left + CHUNK_SIZE);
+        int bottom = Math.min(this.height, top + CHUNK_SIZE);
+
+        PImage chunk = app.createImage((right - left) * App.CELLSIZE, (bottom - top) * App.CELLSIZE, PApplet.RGB);
+        chunk.loadPixels();
+        Arrays.fill(chunk.pixels, app.color(147, 170, 132));
+        chunk.updatePixels();
+
+        // Sprites are at most one tile larger than their tile
+        int minX = Math.max(0, left - 1);
+        int maxX = Math.min(this.width, right + 1);
+        int minY = Math.max(0, top - 1);
+        int maxY = Math.min(this.height, bottom + 1);
+        for (int house = 0; house < 2; house++) {
+            for (int x = minX; x < maxX; x++) {
+                for (int y = minY; y < maxY; y++) {
+                    if ((this.layout_Array[x][y] == 'W') == (house == 1)) {
+                        this.drawTile(chunk, x, y, left, top);
+                    }
                 }
             }
         }
+        return chunk;
     }
+
+    /**
+     * Draws the sprite of a single tile into the image of a chunk, centred within the tile.
+     *
+     * @param chunk The image of the chunk.
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @param left The x-coordinate of the chunk's first tile.
+     * @param top The y-coordinate of the chunk's first tile.
+     */
+    private void drawTile(PImage chunk, int x, int y, int left, int top) {
+        PImage sprite = this.sprites[x][y];
+        if (sprite == null) {
+            return;
+        }
+        int xPos = (x - left) * App.CELLSIZE + (App.CELLSIZE - sprite.width) / 2;
+        int yPos = (y - top) * App.CELLSIZE + (App.CELLSIZE - sprite.height) / 2;
+        chunk.blend(sprite, 0, 0, sprite.width, sprite.height, xPos, yPos, sprite.width, sprite.height,
+        PApplet.BLEND);
+    }
+
     /**
      * Gets the layout array belonging to the game board. 
      * @return  A 2D array of characters representing the game board's grid (x,y).
@@ -470,25 +500,30 @@ public class GameBoard {
      * @return  A 2D array of tiles representing the game board's grid (x,y).
      */
     public Tile[][] getTiles() {
-        return this.tiles;
+        return this.board.getTiles();
     }
 
     /**
-     * Draws the wizard's house on the game board.
+     * Gets the sprite chosen for a tile.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The image representing the tile's appearance.
+     */
+    public PImage getSprite(int x, int y) {
+        return this.sprites[x][y];
+    }
+
+    /**
+     * Draws the wizard's house on the game board, on top of everything drawn before it.
      *
      * @param app The main application instance used for drawing.
      */
     public void drawWizard(App app) {
-        // Draw the wizard's house
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Tile current_tile = this.tiles[x][y];
-                if (this.layout_Array[x][y] == 'W') {
-                    current_tile.draw(app);
-                }
-            }
+        if (this.wizardTile != null && app.camera.isVisible(this.wizardTile.getXPixel() - App.CELLSIZE,
+         this.wizardTile.getYPixel() - App.CELLSIZE, 3 * App.CELLSIZE, 3 * App.CELLSIZE)) {
+            app.renderer.drawSprite(this.sprites[this.wizardTile.getX()][this.wizardTile.getY()],
+            this.wizardTile.getXPixel(), this.wizardTile.getYPixel());
         }
     }
 }
-
-
@@ -0,0 +1,43 @@
+package WizardTD;
+
+import processing.awt.PGraphicsJava2D;
+import processing.core.PApplet;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * The HeadlessGraphics draws into an image in memory with the same Java2D renderer as the
+ * game window, so the game can be drawn and timed on a machine without a display.
+ * @see WizardTD.StressRunner StressRunner
+ */
+public class HeadlessGraphics extends PGraphicsJava2D {
+
+    /**
+     * Constructs the graphics of a sketch that is not shown in a window.
+     *
+     * @param parent The sketch that draws into the graphics.
+     * @param width  The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     */
+    public HeadlessGraphics(PApplet parent, int width, int height) {
+        this.setParent(parent);
+        this.setPrimary(false);
+        this.setSize(width, height);
+    }
+
+    /**
+     * Creates the image that is drawn into. The Java2D renderer normally asks the screen for
+     * a compatible image, which fails when there is no display.
+     *
+     * @return The graphics context of the image.
+     */
+    @Override
+    public Graphics2D checkImage() {
+        if (this.image == null || this.image.getWidth(null) != this.pixelWidth ||
+         this.image.getHeight(null) != this.pixelHeight) {
+            this.image = new BufferedImage(this.pixelWidth, this.pixelHeight, BufferedImage.TYPE_INT_ARGB);
+        }
+        return (Graphics2D)this.image.getGraphics();
+    }
+}
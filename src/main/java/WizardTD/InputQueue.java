@@ -0,0 +1,121 @@
+package WizardTD;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * The InputQueue holds the commands asked for by the player since the last frame. Processing
+ * hands each key and mouse press to the application as it happens, which queues it here, and
+ * the queue is emptied once a frame before the game is stepped. No press is missed between
+ * frames, however slowly they are drawn, and nothing polls the mouse or keyboard each frame.
+ * <p>
+ * Each command is carried out by the handler registered for it in a table keyed by command.
+ * Commands with no handler are dropped.
+ * @see WizardTD.Command Command
+ */
+public class InputQueue {
+
+    /**
+     * A command with where and how the mouse was pressed, for commands asked for by a click.
+     */
+    public static class Input {
+        private final Command command;
+        private final float x;
+        private final float y;
+        private final int button;
+
+        /**
+         * Constructs an input.
+         *
+         * @param command The command asked for.
+         * @param x       The x pixel location on the board of the click.
+         * @param y       The y pixel location on the board of the click.
+         * @param button  The mouse button pressed, such as App.LEFT.
+         */
+        public Input(Command command, float x, float y, int button) {
+            this.command = command;
+            this.x = x;
+            this.y = y;
+            this.button = button;
+        }
+
+        public Command getCommand() {
+            return this.command;
+        }
+
+        public float getX() {
+            return this.x;
+        }
+
+        public float getY() {
+            return this.y;
+        }
+
+        public int getButton() {
+            return this.button;
+        }
+    }
+
+    private ConcurrentLinkedQueue<Input> queue; // Safe to add to from any thread
+    private EnumMap<Command, Consumer<Input>> handlers;
+
+    /**
+     * Constructs an empty queue with no handlers.
+     */
+    public InputQueue() {
+        this.queue = new ConcurrentLinkedQueue<Input>();
+        this.handlers = new EnumMap<Command, Consumer<Input>>(Command.class);
+    }
+
+    /**
+     * Sets what is done for a command, replacing any handler it had.
+     *
+     * @param command The command to handle.
+     * @param handler Carries out the command.
+     */
+    public void register(Command command, Consumer<Input> handler) {
+        this.handlers.put(command, handler);
+    }
+
+    /**
+     * Queues a command asked for by a key or button.
+     *
+     * @param command The command asked for.
+     */
+    public void add(Command command) {
+        this.add(new Input(command, 0, 0, 0));
+    }
+
+    /**
+     * Queues a command along with where and how it was asked for.
+     *
+     * @param input The command and the click that asked for it.
+     */
+    public void add(Input input) {
+        this.queue.add(input);
+    }
+
+    /**
+     * Carries out every queued command in the order they were asked for, emptying the queue.
+     * Commands queued by a handler are carried out in the same call.
+     */
+    public void drain() {
+        Input input;
+        while ((input = this.queue.poll()) != null) {
+            Consumer<Input> handler = this.handlers.get(input.getCommand());
+            if (handler != null) {
+                handler.accept(input);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of commands waiting to be carried out.
+     *
+     * @return The number of queued commands.
+     */
+    public int size() {
+        return this.queue.size();
+    }
+}
@@ -0,0 +1,243 @@
+package WizardTD;
+
+import processing.awt.PGraphicsJava2D;
+import processing.core.PApplet;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.util.*;
+
+/**
+ * The OverlayBatch collects the small shapes drawn over the entities of a frame, such as
+ * health bars, range rings and upgrade markers, and draws them all at once when flushed.
+ * Shapes of a kind share their colours, so the drawing style is set once for each kind
+ * rather than once for every shape. Shapes are kept in flat arrays that are reused from
+ * frame to frame. With the Java2D renderer of the game window, health bars are filled
+ * straight into its graphics without smoothing.
+ * @see WizardTD.EntityRenderer EntityRenderer
+ */
+public class OverlayBatch {
+
+    public static final int BAR_HEIGHT = 2;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Color HP_LOST = new Color(255, 0, 0);
+    private static final Color HP_LEFT = new Color(0, 255, 0);
+
+    // Health bars, as x, y and the fraction of hp left
+    private float[] bars;
+    private int barCount;
+    private Rectangle2D.Float barRect;
+
+    // Speed upgrade squares, as x, y, size and outline weight
+    private float[] squares;
+    private int squareCount;
+
+    // Range and damage upgrade markers, as x and y with the character drawn
+    private float[] markers;
+    private char[] markerText;
+    private int markerCount;
+
+    // Range rings, as centre x, centre y, size and the bottom of the label drawn above
+    private float[] rings;
+    private ArrayList<String> ringLabels;
+
+    /**
+     * Constructs an empty batch.
+     */
+    public OverlayBatch() {
+        this.bars = new float[INITIAL_CAPACITY*3];
+        this.barRect = new Rectangle2D.Float();
+        this.squares = new float[INITIAL_CAPACITY*4];
+        this.markers = new float[INITIAL_CAPACITY*2];
+        this.markerText = new char[INITIAL_CAPACITY];
+        this.rings = new float[INITIAL_CAPACITY*4];
+        this.ringLabels = new ArrayList<String>();
+    }
+
+    /**
+     * Adds a health bar, red for the hp lost and green for the hp left.
+     *
+     * @param xPixel   The x pixel location of the left of the bar.
+     * @param yPixel   The y pixel location of the top of the bar.
+     * @param fraction The fraction of hp left, from 0 to 1.
+     */
+    public void addBar(float xPixel, float yPixel, float fraction) {
+        this.bars = ensureCapacity(this.bars, (this.barCount + 1)*3);
+        int i = this.barCount*3;
+        this.bars[i] = xPixel;
+        this.bars[i + 1] = yPixel;
+        this.bars[i + 2] = fraction;
+        this.barCount++;
+    }
+
+    /**
+     * Adds the outlined square showing a speed upgrade.
+     *
+     * @param xPixel The x pixel location of the left of the square.
+     * @param yPixel The y pixel location of the top of the square.
+     * @param size   The width and height of the square.
+     * @param weight The weight of the outline.
+     */
+    public void addSquare(float xPixel, float yPixel, float size, float weight) {
+        this.squares = ensureCapacity(this.squares, (this.squareCount + 1)*4);
+        int i = this.squareCount*4;
+        this.squares[i] = xPixel;
+        this.squares[i + 1] = yPixel;
+        this.squares[i + 2] = size;
+        this.squares[i + 3] = weight;
+        this.squareCount++;
+    }
+
+    /**
+     * Adds a character marking a range or damage upgrade.
+     *
+     * @param marker The character to draw.
+     * @param xPixel The x pixel location of the left of the character.
+     * @param yPixel The y pixel location of the top of the character.
+     */
+    public void addMarker(char marker, float xPixel, float yPixel) {
+        this.markers = ensureCapacity(this.markers, (this.markerCount + 1)*2);
+        if (this.markerCount == this.markerText.length) {
+            this.markerText = Arrays.copyOf(this.markerText, this.markerCount*2);
+        }
+        this.markers[this.markerCount*2] = xPixel;
+        this.markers[this.markerCount*2 + 1] = yPixel;
+        this.markerText[this.markerCount] = marker;
+        this.markerCount++;
+    }
+
+    /**
+     * Adds the ring showing the range of a tower, with a label above it.
+     *
+     * @param centerX The x pixel location of the centre of the ring.
+     * @param centerY The y pixel location of the centre of the ring.
+     * @param size    The diameter of the ring.
+     * @param label   The text drawn above the centre.
+     * @param labelY  The y pixel location of the bottom of the label.
+     */
+    public void addRing(float centerX, float centerY, float size, String label, float labelY) {
+        int count = this.ringLabels.size();
+        this.rings = ensureCapacity(this.rings, (count + 1)*4);
+        this.rings[count*4] = centerX;
+        this.rings[count*4 + 1] = centerY;
+        this.rings[count*4 + 2] = size;
+        this.rings[count*4 + 3] = labelY;
+        this.ringLabels.add(label);
+    }
+
+    /**
+     * Draws every shape added since the last flush, then empties the batch.
+     *
+     * @param app The application to draw to.
+     */
+    public void flush(PApplet app) {
+        if (this.barCount > 0) {
+            app.noStroke();
+            if (app.g instanceof PGraphicsJava2D) {
+                this.fillBars((PGraphicsJava2D)app.g);
+            }
+            else {
+                app.fill(255, 0, 0);
+                for (int i = 0; i < this.barCount*3; i += 3) {
+                    app.rect(this.bars[i], this.bars[i + 1], App.CELLSIZE, BAR_HEIGHT);
+                }
+                app.fill(0, 255, 0);
+                for (int i = 0; i < this.barCount*3; i += 3) {
+                    app.rect(this.bars[i], this.bars[i + 1], App.CELLSIZE*this.bars[i + 2], BAR_HEIGHT);
+                }
+            }
+        }
+
+        if (this.squareCount > 0) {
+            app.stroke(175, 235, 255);
+            app.noFill();
+            // Towers with the same speed share a weight, so it is only set when it changes
+            float weight = -1;
+            for (int i = 0; i < this.squareCount*4; i += 4) {
+                if (this.squares[i + 3] != weight) {
+                    weight = this.squares[i + 3];
+                    app.strokeWeight(weight);
+                }
+                app.rect(this.squares[i], this.squares[i + 1], this.squares[i + 2], this.squares[i + 2]);
+            }
+        }
+
+        if (this.markerCount > 0) {
+            app.fill(255, 0, 255);
+            app.textSize(8);
+            app.textAlign(App.LEFT, App.TOP);
+            for (int i = 0; i < this.markerCount; i++) {
+                app.text(this.markerText[i], this.markers[i*2], this.markers[i*2 + 1]);
+            }
+        }
+
+        if (!this.ringLabels.isEmpty()) {
+            app.stroke(255, 255, 0); // Yellow color
+            app.strokeWeight(2);
+            app.noFill();
+            for (int i = 0; i < this.ringLabels.size(); i++) {
+                app.ellipse(this.rings[i*4], this.rings[i*4 + 1], this.rings[i*4 + 2], this.rings[i*4 + 2]);
+            }
+
+            // Targeting strategy, changed by right clicking the tower
+            app.fill(255, 255, 0);
+            app.textSize(10);
+            app.textAlign(App.CENTER, App.BOTTOM);
+            for (int i = 0; i < this.ringLabels.size(); i++) {
+                app.text(this.ringLabels.get(i), this.rings[i*4], this.rings[i*4 + 3]);
+            }
+        }
+
+        this.clear();
+    }
+
+    // Fills the health bars straight into the Java2D graphics. Bars are thin rectangles
+    // along the pixel grid, so they are drawn without smoothing, which is much cheaper
+    private void fillBars(PGraphicsJava2D graphics) {
+        Graphics2D g2 = graphics.g2;
+        Object smoothing = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+
+        g2.setColor(HP_LOST);
+        for (int i = 0; i < this.barCount*3; i += 3) {
+            this.barRect.setRect(this.bars[i], this.bars[i + 1], App.CELLSIZE, BAR_HEIGHT);
+            g2.fill(this.barRect);
+        }
+        g2.setColor(HP_LEFT);
+        for (int i = 0; i < this.barCount*3; i += 3) {
+            this.barRect.setRect(this.bars[i], this.bars[i + 1], App.CELLSIZE*this.bars[i + 2], BAR_HEIGHT);
+            g2.fill(this.barRect);
+        }
+
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, smoothing);
+    }
+
+    /**
+     * Empties the batch without drawing it.
+     */
+    public void clear() {
+        this.barCount = 0;
+        this.squareCount = 0;
+        this.markerCount = 0;
+        this.ringLabels.clear();
+    }
+
+    /**
+     * Gets the number of shapes waiting to be drawn.
+     *
+     * @return The number of bars, squares, markers and rings in the batch.
+     */
+    public int size() {
+        return this.barCount + this.squareCount + this.markerCount + this.ringLabels.size();
+    }
+
+    // Grows an array to hold at least the given number of values
+    private static float[] ensureCapacity(float[] values, int needed) {
+        if (needed <= values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, Math.max(needed, values.length*2));
+    }
+}
@@ -0,0 +1,106 @@
+package WizardTD;
+
+import WizardTD.sim.FrameProfiler;
+import WizardTD.sim.Simulation;
+
+import java.io.*;
+
+/**
+ * The ProfilerOverlay shows what the frames of the game cost while the profiler is on: the
+ * median and 99th percentile time of each section over the last few seconds, the number of
+ * monsters, towers and fireballs, and the memory allocated each frame. It is turned on and
+ * off with 'o', and 'e' writes the same summary to a CSV file for a report of lag, naming the
+ * file written at the bottom of the overlay.
+ * @see WizardTD.sim.FrameProfiler FrameProfiler
+ */
+public class ProfilerOverlay {
+
+    public static final int LINE_HEIGHT = 13;
+
+    private App app;
+    private String exported; // Result of the last export, shown under the sections
+
+    /**
+     * Constructs the overlay of the application's profiler.
+     *
+     * @param app The main application instance.
+     */
+    public ProfilerOverlay(App app) {
+        this.app = app;
+    }
+
+    /**
+     * Draws the overlay at the top left of the play area, if the profiler is on.
+     */
+    public void draw() {
+        FrameProfiler profiler = this.app.simulation.getProfiler();
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        Simulation simulation = this.app.simulation;
+
+        int lines = profiler.getSectionCount() + (this.exported != null ? 4 : 3);
+        this.app.noStroke();
+        this.app.fill(0, 0, 0, 180);
+        this.app.rect(0, App.TOPBAR, 260, lines * LINE_HEIGHT + 6);
+
+        this.app.fill(255);
+        this.app.textSize(11);
+        this.app.textAlign(App.LEFT, App.TOP);
+
+        float y = App.TOPBAR + 3;
+        this.app.text(String.format("%.1f FPS  %d monsters  %d towers  %d fireballs", this.app.frameRate,
+        simulation.getMonsterPool().getActiveCount(), simulation.getTowers().size(),
+        simulation.getFireballPool().size()), 4, y);
+        y += LINE_HEIGHT;
+
+        double allocated = profiler.getAllocatedPerFrame();
+        this.app.text(String.format("%.1f KB/frame allocated, %.1f MB/s", allocated / 1024,
+        allocated * this.app.frameRate / (1024 * 1024)), 4, y);
+        y += LINE_HEIGHT;
+
+        this.app.text("section", 4, y);
+        this.app.text("p50 us", 150, y);
+        this.app.text("p99 us", 205, y);
+        y += LINE_HEIGHT;
+
+        for (int i = 0; i < profiler.getSectionCount(); i++) {
+            this.app.text(profiler.getSectionName(i), 4, y);
+            this.app.text(String.format("%.0f", profiler.getPercentile(i, 50) / 1000.0), 150, y);
+            this.app.text(String.format("%.0f", profiler.getPercentile(i, 99) / 1000.0), 205, y);
+            y += LINE_HEIGHT;
+        }
+
+        if (this.exported != null) {
+            this.app.text(this.exported, 4, y);
+        }
+    }
+
+    /**
+     * Turns the profiler on or off.
+     */
+    public void toggle() {
+        FrameProfiler profiler = this.app.simulation.getProfiler();
+        profiler.setEnabled(!profiler.isEnabled());
+    }
+
+    /**
+     * Writes the profiler's summary to a new CSV file in the working directory, named after
+     * the time it was written.
+     *
+     * @return The file written, or null if it could not be written.
+     */
+    public File export() {
+        File file = new File("profile-" + System.currentTimeMillis() + ".csv");
+        try (Writer out = new BufferedWriter(new FileWriter(file))) {
+            this.app.simulation.getProfiler().writeCsv(out);
+        }
+        catch (IOException e) {
+            System.err.println("Profile could not be written: " + e.getMessage());
+            this.exported = "Profile could not be written";
+            return null;
+        }
+        this.exported = "Written to " + file.getName();
+        return file;
+    }
+}
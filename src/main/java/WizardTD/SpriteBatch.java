@@ -0,0 +1,191 @@
+package WizardTD;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+import java.util.*;
+
+/**
+ * The SpriteBatch collects the sprites of a frame, such as the monsters, and draws them in
+ * the order they were added when flushed. In a crowded endless wave many monsters walk the
+ * same path at the same speed, so the same image is drawn on the same pixels again and again.
+ * An image with no partly transparent pixels covers exactly the same pixels each time it is
+ * drawn there, so only the last of those draws is made and the frame looks the same as if
+ * every draw was made. Draws are kept in flat arrays that are reused from frame to frame.
+ * @see WizardTD.EntityRenderer EntityRenderer
+ */
+public class SpriteBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+    // Bits of a draw's key holding the image, the left and top pixels and the size rounding
+    private static final int IMAGE_BITS = 16;
+    private static final int PIXEL_BITS = 22;
+
+    // Images drawn so far, and whether each is only fully opaque or fully transparent
+    private ArrayList<PImage> images;
+    private IdentityHashMap<PImage, Integer> imageIndex;
+    private boolean[] solid;
+
+    // Draws, as the index of the image with its x and y
+    private int[] drawImages;
+    private float[] positions;
+    private boolean[] covered;
+    private int drawCount;
+
+    // Keys of the draws seen while flushing, as a hash set. A slot is used if it has the
+    // stamp of the current flush, so the set is emptied by changing the stamp
+    private long[] keys;
+    private int[] stamps;
+    private int stamp;
+
+    /**
+     * Constructs an empty batch.
+     */
+    public SpriteBatch() {
+        this.images = new ArrayList<PImage>();
+        this.imageIndex = new IdentityHashMap<PImage, Integer>();
+        this.solid = new boolean[INITIAL_CAPACITY];
+        this.drawImages = new int[INITIAL_CAPACITY];
+        this.positions = new float[INITIAL_CAPACITY*2];
+        this.covered = new boolean[INITIAL_CAPACITY];
+        this.keys = new long[INITIAL_CAPACITY*2];
+        this.stamps = new int[INITIAL_CAPACITY*2];
+    }
+
+    /**
+     * Adds an image to be drawn with its top left corner at the given location.
+     *
+     * @param sprite The image to draw.
+     * @param xPixel The x pixel location of the left of the image.
+     * @param yPixel The y pixel location of the top of the image.
+     */
+    public void add(PImage sprite, float xPixel, float yPixel) {
+        if (this.drawCount == this.drawImages.length) {
+            this.drawImages = Arrays.copyOf(this.drawImages, this.drawCount*2);
+            this.positions = Arrays.copyOf(this.positions, this.drawCount*4);
+            this.covered = Arrays.copyOf(this.covered, this.drawCount*2);
+        }
+        this.drawImages[this.drawCount] = this.getIndex(sprite);
+        this.positions[this.drawCount*2] = xPixel;
+        this.positions[this.drawCount*2 + 1] = yPixel;
+        this.drawCount++;
+    }
+
+    /**
+     * Draws every image added since the last flush, then empties the batch. A draw is left
+     * out if a later draw of the same image covers the same pixels.
+     *
+     * @param app The application to draw to.
+     */
+    public void flush(PApplet app) {
+        // The pixels covered are worked out as image() does with the default image mode
+        boolean skipCovered = app.g.imageMode == PConstants.CORNER;
+        this.clearKeys();
+
+        // From the last draw back, so the draw kept of each is the one on top
+        for (int i = this.drawCount - 1; i >= 0; i--) {
+            int image = this.drawImages[i];
+            this.covered[i] = skipCovered && this.solid[image] &&
+             !this.addKey(this.getKey(image, this.positions[i*2], this.positions[i*2 + 1]));
+        }
+
+        for (int i = 0; i < this.drawCount; i++) {
+            if (!this.covered[i]) {
+                app.image(this.images.get(this.drawImages[i]), this.positions[i*2], this.positions[i*2 + 1]);
+            }
+        }
+
+        this.clear();
+    }
+
+    /**
+     * Empties the batch without drawing it.
+     */
+    public void clear() {
+        this.drawCount = 0;
+    }
+
+    /**
+     * Gets the number of images waiting to be drawn.
+     *
+     * @return The number of draws in the batch.
+     */
+    public int size() {
+        return this.drawCount;
+    }
+
+    // Finds the index of an image, checking its pixels the first time it is drawn
+    private int getIndex(PImage sprite) {
+        Integer index = this.imageIndex.get(sprite);
+        if (index != null) {
+            return index;
+        }
+        index = this.images.size();
+        this.images.add(sprite);
+        this.imageIndex.put(sprite, index);
+        if (index == this.solid.length) {
+            this.solid = Arrays.copyOf(this.solid, index*2);
+        }
+        this.solid[index] = index < (1 << IMAGE_BITS) && isSolid(sprite);
+        return index;
+    }
+
+    // Checks if drawing an image twice in the same place is the same as drawing it once
+    private static boolean isSolid(PImage sprite) {
+        if (sprite.format == PConstants.RGB) {
+            return true;
+        }
+        if (sprite.format != PConstants.ARGB) {
+            return false;
+        }
+        sprite.loadPixels();
+        for (int pixel : sprite.pixels) {
+            int alpha = pixel >>> 24;
+            if (alpha != 0 && alpha != 255) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The Java2D renderer draws an image from (x, y) to (x + width, y + height), each
+    // truncated to a whole pixel, so draws with the same key cover exactly the same pixels.
+    // The right and bottom are kept as how far they are from a whole image width away
+    private long getKey(int image, float xPixel, float yPixel) {
+        PImage sprite = this.images.get(image);
+        int left = (int)xPixel;
+        int top = (int)yPixel;
+        int right = (int)(xPixel + sprite.width) - left - sprite.width + 1;
+        int bottom = (int)(yPixel + sprite.height) - top - sprite.height + 1;
+        long mask = (1L << PIXEL_BITS) - 1;
+        return ((long)image << (2*PIXEL_BITS + 4)) | ((left & mask) << (PIXEL_BITS + 4)) |
+        ((top & mask) << 4) | ((right & 3) << 2) | (bottom & 3);
+    }
+
+    // Makes the key set empty and large enough for every draw in the batch
+    private void clearKeys() {
+        if (this.keys.length < this.drawCount*2) {
+            int capacity = Integer.highestOneBit(this.drawCount*2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.stamps = new int[capacity];
+            this.stamp = 0;
+        }
+        this.stamp++;
+    }
+
+    // Adds a key to the set, returning false if it was already there
+    private boolean addKey(long key) {
+        int mask = this.keys.length - 1;
+        int slot = (int)((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (this.stamps[slot] == this.stamp) {
+            if (this.keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.stamps[slot] = this.stamp;
+        this.keys[slot] = key;
+        return true;
+    }
+}
@@ -19,15 +19,15 @@ public class StartMenu {
      * @param app The main application instance.
      */
     public StartMenu(App app) {
-        this.background = app.images.get("background");
+        this.background = app.getImage("background");
         this.background.resize(App.WIDTH, App.HEIGHT);
         this.app = app;
         this.buttons = new ArrayList<Button>();
 
-        Button start = new Button(App.WIDTH - 50, App.WIDTH/2 + 180, "GO",
+        Button start = new Button(App.WIDTH - 50, App.HEIGHT - 120, "GO",
          "", this.app);
 
-        Button endless = new Button(App.WIDTH - 50, App.WIDTH/2 + 230,
+        Button endless = new Button(App.WIDTH - 50, App.HEIGHT - 70,
          Character.toString('\u221e'), "", this.app);
          
         this.buttons.add(start);
@@ -43,11 +43,11 @@ public class StartMenu {
         this.app.fill(255,255,0);
         this.app.textSize(60);
         this.app.textAlign(App.LEFT, App.CENTER);
-        this.app.text("Wizard Tower Defence", App.BOARD_WIDTH/2 + 40, 50);
+        this.app.text("Wizard Tower Defence", 50, 50);
         this.app.textSize(30);
-        this.app.text("Start Game", App.WIDTH - 215, App.WIDTH/2 + 195);
+        this.app.text("Start Game", App.WIDTH - 215, App.HEIGHT - 105);
         this.app.fill(255,0,0);
-        this.app.text("Endless Mode", App.WIDTH - 253, App.WIDTH/2 + 245);
+        this.app.text("Endless Mode", App.WIDTH - 253, App.HEIGHT - 55);
        
         for (Button button: this.buttons) {
             button.tick();
@@ -56,6 +56,8 @@ public class StartMenu {
 
     }
 
-    
+    public ArrayList<Button> getButtons() {
+        return this.buttons;
+    }
     
 }
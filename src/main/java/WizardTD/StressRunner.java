@@ -0,0 +1,263 @@
+package WizardTD;
+
+import WizardTD.sim.Board;
+import WizardTD.sim.GameConfig;
+import WizardTD.sim.GreedyTowerPolicy;
+import WizardTD.sim.Simulation;
+import WizardTD.sim.Tile;
+
+import processing.core.PImage;
+
+import javax.imageio.ImageIO;
+import java.io.*;
+import java.util.*;
+
+/**
+ * The StressRunner is a command line tool that fast-forwards a seeded game in 'Endless mode'
+ * to late waves and prints the cost of every wave as CSV: the time taken by each step of the
+ * simulation, the time taken to draw each frame, the heap in use and the number of monsters,
+ * towers and fireballs. Frames are drawn into an image in memory, so no display is needed.
+ * <p>
+ * Usage: <code>StressRunner [--seed S] [--towers N] [--speed S] [--waves W,W...]
+ * [--max-monsters M] [--max-minutes T] [--no-draw] [--level level.txt] [--profile profile.csv]
+ * [config.json]</code>
+ * <p>
+ * The player never runs out of mana and towers kill with every hit, so the game keeps going
+ * until the last wave is reached, the number of live monsters passes the limit or the time
+ * runs out. Each frame runs the given number of steps, as when the game is fast-forwarded,
+ * then draws the game once. A frame of the game at normal speed is one step and one draw, so
+ * that is what is held to the 60 FPS budget. With --profile, the frame profiler is on for the
+ * whole game and its summary of the last frames is written to the given file when the game
+ * stops.
+ * @see WizardTD.HeadlessGraphics HeadlessGraphics
+ */
+public class StressRunner {
+
+    /**
+     * Time available to the step and draw of a frame at 60 FPS, in microseconds.
+     */
+    public static final double FRAME_BUDGET = 1000000.0 / Simulation.FPS;
+
+    public static void main(String[] args) throws IOException {
+        long seed = 0;
+        int towers = 200;
+        int speed = 16;
+        int[] checkpoints = {100, 500, 1000};
+        int maxMonsters = 200000;
+        int maxMinutes = 30;
+        boolean draw = true;
+        String level = null;
+        String profile = null;
+        String configPath = "config.json";
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            }
+            else if (args[i].equals("--towers") && i + 1 < args.length) {
+                towers = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("--speed") && i + 1 < args.length) {
+                speed = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("--waves") && i + 1 < args.length) {
+                checkpoints = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).sorted().toArray();
+            }
+            else if (args[i].equals("--max-monsters") && i + 1 < args.length) {
+                maxMonsters = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("--max-minutes") && i + 1 < args.length) {
+                maxMinutes = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("--no-draw")) {
+                draw = false;
+            }
+            else if (args[i].equals("--level") && i + 1 < args.length) {
+                level = args[++i];
+            }
+            else if (args[i].equals("--profile") && i + 1 < args.length) {
+                profile = args[++i];
+            }
+            else {
+                configPath = args[i];
+            }
+        }
+
+        GameConfig config = ConfigLoader.load(configPath);
+        if (level != null) {
+            config.setLayout(level);
+        }
+        config.setInitialMana(Float.MAX_VALUE);
+        config.setInitialManaCap(Float.MAX_VALUE);
+        config.setInitialTowerDamage(Float.MAX_VALUE);
+
+        App app = createApp(config, seed);
+        new GreedyTowerPolicy(towers).act(app.simulation);
+        placeRemainingTowers(app.simulation, towers);
+        app.simulation.getProfiler().setEnabled(profile != null);
+
+        run(app, speed, checkpoints, maxMonsters, maxMinutes * 60 * 1000000000L, draw);
+
+        if (profile != null) {
+            try (Writer out = new BufferedWriter(new FileWriter(profile))) {
+                app.simulation.getProfiler().writeCsv(out);
+            }
+        }
+    }
+
+    /**
+     * Creates an application that draws a seeded game in 'Endless mode' into an image in memory.
+     *
+     * @param config The configuration of the game.
+     * @param seed   The seed of the game.
+     * @return The application, with the game started.
+     * @throws IOException If an image cannot be read.
+     */
+    public static App createApp(GameConfig config, long seed) throws IOException {
+        App app = new App();
+        App.setBoardSize(config.getWidth(), config.getHeight());
+        // A board larger than the default is seen through the camera, as on a small screen
+        App.fitScreen(App.BOARD_WIDTH*App.CELLSIZE + App.SIDEBAR, App.BOARD_WIDTH*App.CELLSIZE + App.TOPBAR);
+        app.g = new HeadlessGraphics(app, App.WIDTH, App.HEIGHT);
+
+        // PApplet.loadImage needs a running sketch, so the images are read directly
+        app.images = new HashMap<>();
+        for (String image : App.IMAGES) {
+            app.images.put(image, new PImage(ImageIO.read(new File(App.IMAGE_PATH + image + ".png"))));
+        }
+
+        app.simulation = new Simulation(config, new Board(config.getLayout(),
+        config.getWidth(), config.getHeight()), seed);
+        app.simulation.setEndless(true);
+        app.renderer = new EntityRenderer(app);
+        app.gameboard = new GameBoard(app);
+        app.camera = new Camera(config.getWidth()*App.CELLSIZE, config.getHeight()*App.CELLSIZE,
+        App.WIDTH - App.SIDEBAR, App.HEIGHT - App.TOPBAR);
+        app.gui = new GUI(app);
+        app.setupProfiler();
+        app.start = true;
+        app.endless = true;
+        return app;
+    }
+
+    /**
+     * Builds towers on the free grass tiles, column by column, until there are as many as
+     * asked for. The tower policy only builds where a tower can reach the path, which on a
+     * small board leaves fewer towers than the stress test draws.
+     *
+     * @param simulation The game being played.
+     * @param towers     The number of towers wanted.
+     */
+    public static void placeRemainingTowers(Simulation simulation, int towers) {
+        for (Tile[] column : simulation.getBoard().getTiles()) {
+            for (Tile tile : column) {
+                if (simulation.getTowers().size() >= towers) {
+                    return;
+                }
+                simulation.placeTower(tile.getX(), tile.getY());
+            }
+        }
+    }
+
+    /**
+     * Plays the game frame by frame, printing a CSV row when each wave ends.
+     *
+     * @param app         The application of the game.
+     * @param speed       The number of steps in each frame.
+     * @param checkpoints The waves to report, in order. The game stops at the last one.
+     * @param maxMonsters The number of live monsters at which the game is stopped.
+     * @param maxNanos    The time after which the game is stopped, in nanoseconds.
+     * @param draw        Whether each frame is drawn.
+     */
+    public static void run(App app, int speed, int[] checkpoints, int maxMonsters, long maxNanos,
+    boolean draw) {
+        Simulation simulation = app.simulation;
+        Runtime runtime = Runtime.getRuntime();
+        long start = System.nanoTime();
+
+        System.out.println("wave,checkpoint,frames,steps,step_mean_us,step_max_us,draw_mean_us," +
+        "draw_max_us,frame_mean_us,frames_over_budget,heap_mb,monsters,towers,fireballs");
+
+        int wave = simulation.getWaveManager().getWaveCount();
+        int frames = 0;
+        int framesOverBudget = 0;
+        long steps = 0;
+        long stepTotal = 0;
+        long stepMax = 0;
+        long drawTotal = 0;
+        long drawMax = 0;
+        String stopped = null;
+
+        while (stopped == null) {
+            long frameSteps = 0;
+            for (int i = 0; i < speed; i++) {
+                long before = System.nanoTime();
+                simulation.tick();
+                long time = System.nanoTime() - before;
+                stepTotal += time;
+                stepMax = Math.max(stepMax, time);
+                frameSteps += time;
+            }
+            steps += speed;
+            // The frame at normal speed, with one step as long as this frame's steps on average
+            long frameTime = frameSteps / speed;
+
+            if (draw) {
+                long before = System.nanoTime();
+                app.g.beginDraw();
+                app.drawGame();
+                app.g.endDraw();
+                long time = System.nanoTime() - before;
+                drawTotal += time;
+                drawMax = Math.max(drawMax, time);
+                frameTime += time;
+            }
+            simulation.getProfiler().endFrame();
+            frames++;
+            if (frameTime / 1000.0 > FRAME_BUDGET) {
+                framesOverBudget++;
+            }
+
+            int monsters = simulation.getMonsterPool().getActiveCount();
+            if (simulation.playerLost()) {
+                stopped = "player lost";
+            }
+            else if (monsters > maxMonsters) {
+                stopped = monsters + " live monsters";
+            }
+            else if (System.nanoTime() - start > maxNanos) {
+                stopped = "out of time";
+            }
+
+            int current = simulation.getWaveManager().getWaveCount();
+            if (current == wave && stopped == null) {
+                continue;
+            }
+
+            // Waves are counted from 1 for the player
+            boolean checkpoint = Arrays.binarySearch(checkpoints, wave + 1) >= 0;
+            System.out.println((wave + 1) + "," + checkpoint + "," + frames + "," + steps + "," +
+            String.format("%.1f,%.1f,%.1f,%.1f,%.1f,", stepTotal / 1000.0 / steps, stepMax / 1000.0,
+            frames == 0 || !draw ? 0.0 : drawTotal / 1000.0 / frames, drawMax / 1000.0,
+            stepTotal / 1000.0 / steps + (frames == 0 || !draw ? 0.0 : drawTotal / 1000.0 / frames)) +
+            framesOverBudget + "," + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + "," +
+            monsters + "," + simulation.getTowers().size() + "," + simulation.getFireballPool().size());
+
+            if (wave + 1 >= checkpoints[checkpoints.length - 1] && stopped == null) {
+                stopped = "reached wave " + (wave + 1);
+            }
+
+            wave = current;
+            frames = 0;
+            framesOverBudget = 0;
+            steps = 0;
+            stepTotal = 0;
+            stepMax = 0;
+            drawTotal = 0;
+            drawMax = 0;
+        }
+
+        System.err.println("Stopped: " + stopped + " after " +
+        (System.nanoTime() - start) / 1000000000 + " s");
+    }
+}
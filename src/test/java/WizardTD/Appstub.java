@@ -2,10 +2,17 @@ package WizardTD;
 
 import processing.core.PImage;
 
-// App that does not draw anything
+// App that does not draw anything, and loads its music and builds the game before tests use it
 
 public class Appstub extends App {
 
+    @Override
+    public void setup() {
+        super.setup();
+        this.awaitMusic();
+        this.createGame();
+    }
+
     @Override
     public void rect(float x, float y, float w, float h) { }
 
@@ -37,7 +37,7 @@ public class ButtonTest {
         assertEquals(test.getFill()[2], 200);
         
         // Test mouse press
-        app.mousePressed = true;
+        test.press();
 
         test.tick();
 
@@ -48,39 +48,36 @@ public class ButtonTest {
    @Test
     public void TowerButton() {
         this.app.start = true;
-        // Create button (on map, so tower can be placed at same coordinate)
-        Button test = new Button((int)app.gameboard.getTile(0,2).getXPixel() + 5, (int)app.gameboard.getTile(0,2).getYPixel() + 5, "T", "", app);
+        Button test = new Button(0, 0, "T", "", app);
 
         // Check inital towers none
-        assertEquals(this.app.gui.getTowers().size(), 0);
+        assertEquals(this.app.simulation.getTowers().size(), 0);
 
-        // Move mouse to button
-        app.mouseX = (int)app.gameboard.getTile(0,2).getXPixel() + 5;
-        app.mouseY = (int)app.gameboard.getTile(0,2).getYPixel() + 5;
-        app.mousePressed = true;
+        // Press the button
+        test.press();
         test.tick();
         
         assertTrue(test.getPressed());
+        assertTrue(this.app.gui.getBuildTower());
 
-        app.mousePressed = false;
-        app.mouseReleased();
+        // Click the board on the tile
+        float xPixel = app.gameboard.getTile(0,2).getXPixel() + 5;
+        float yPixel = app.gameboard.getTile(0,2).getYPixel() + 5;
+        app.input.add(new InputQueue.Input(Command.CLICK, xPixel, yPixel, App.LEFT));
+        app.input.drain();
 
         // Check still pressed
         assertTrue(test.getPressed());
 
-        // Update mouse
-        app.mousePressed = true;
-        test.tick();
-
         // Check tower has been placed
-        assertEquals(this.app.gui.getTowers().size(), 1);
+        assertEquals(this.app.simulation.getTowers().size(), 1);
 
     }
 
     @Test
     public void BasicButton() {
         // Set button states to default
-        this.app.fastforward = false;
+        this.app.simulation.setSpeed(1);
         this.app.paused = false;
         this.app.gui.resetUpgradeDamage();
         this.app.gui.resetUpgradeSpeed();
@@ -92,13 +89,17 @@ public class ButtonTest {
         Button u1 = new Button(0,0, "U1" , "Upgrade \nrange", app);
         Button u2 = new Button(0,0, "U2" , "Upgrade \nspeed", app);
         Button u3 = new Button(0, 0, "U3" , "Upgrade \ndamage", app);
-        Button m = new Button(0,0, "M" , "Mana pool \ncost: " + Integer.toString((int)this.app.gui.getCurrentManaPoolCost()), app);
+        Button m = new Button(0,0, "M" , "Mana pool \ncost: " + Integer.toString((int)this.app.simulation.getManaPool().getCurrentManaPoolCost()), app);
         Button mute = new Button(0,0, "m" , "Mute \nmusic", app);
 
         // Press buttons
-        app.mouseX = 5;
-        app.mouseY = 5;
-        app.mousePressed = true;
+        ff.press();
+        p.press();
+        u1.press();
+        u2.press();
+        u3.press();
+        m.press();
+        mute.press();
 
         // Update button states
         ff.tick();
@@ -110,13 +111,13 @@ public class ButtonTest {
         mute.tick();
 
         // Check necessary values have been updated 
-        assertTrue(this.app.fastforward);
+        assertTrue(this.app.simulation.isFastForward());
         assertTrue(this.app.paused);
         assertTrue(this.app.gui.getUpgradeDamage());
         assertTrue(this.app.gui.getUpgradeRange());
         assertTrue(this.app.gui.getUpgradeSpeed());
         assertTrue(this.app.gui.getUpgradeDamage());
-        assertTrue(this.app.gui.getMaxMana() > app.config.getFloat("initial_mana_gained_per_second"));
+        assertTrue(this.app.simulation.getManaPool().getMaxMana() > app.config.getFloat("initial_mana_gained_per_second"));
         assertTrue(this.app.player.isMuted());
 
     }
@@ -125,43 +126,33 @@ public class ButtonTest {
     @Test
     public void BasicButtonKey() {
         // Set button states to default
-        this.app.fastforward = false;
+        this.app.simulation.setSpeed(1);
         this.app.paused = false;
         this.app.gui.resetUpgradeDamage();
         this.app.gui.resetUpgradeSpeed();
         this.app.gui.resetUpgradeRange();
 
-        Button ff = new Button(0, 0, "FF", "2x speed", app);
-        Button p = new Button(0,0, "P" , "PAUSE", app);
-        Button u1 = new Button(0,0, "U1" , "Upgrade \nrange", app);
-        Button u2 = new Button(0,0, "U2" , "Upgrade \nspeed", app);
-        Button u3 = new Button(0, 0, "U3" , "Upgrade \ndamage", app);
-        Button m = new Button(0,0, "M" , "Mana pool \ncost: " + Integer.toString((int)this.app.gui.getCurrentManaPoolCost()), app);
+        this.app.start = true;
 
-        // Press keys
-        app.keyPressed = true;
-        app.key = 'f';
-        ff.tick();
-        app.key = 'p';
-        p.tick();
-        app.key = '1';
-        u1.tick();
-        app.key = '2';
-        u2.tick();
-        app.key = '3';
-        u3.tick();
-        app.key = 'm';
-        m.tick();
-        app.key = 't';
+        // Press keys, each queues the command of the game's button
+        for (char key : new char[] {'f', 'p', '1', '2', '3', 'm'}) {
+            app.key = key;
+            app.keyPressed();
+        }
+
+        // Carry out the commands and update button states
+        app.input.drain();
+        app.gui.tick(app);
+        assertEquals(app.input.size(), 0);
 
         // Check necessary values have been updated 
-        assertTrue(this.app.fastforward);
+        assertTrue(this.app.simulation.isFastForward());
         assertTrue(this.app.paused);
         assertTrue(this.app.gui.getUpgradeDamage());
         assertTrue(this.app.gui.getUpgradeRange());
         assertTrue(this.app.gui.getUpgradeSpeed());
         assertTrue(this.app.gui.getUpgradeDamage());
-        assertTrue(this.app.gui.getMaxMana() > app.config.getFloat("initial_mana_gained_per_second"));
+        assertTrue(this.app.simulation.getManaPool().getMaxMana() > app.config.getFloat("initial_mana_gained_per_second"));
 
     }
     
@@ -1,5 +1,8 @@
 package WizardTD;
 
+import WizardTD.sim.ManaPool;
+import WizardTD.sim.Tower;
+
 import processing.core.PApplet;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,14 +26,14 @@ public class GuiTest {
     @Test
     public void testConstructor() {
         // Test config values are loaded in correctly
-        assertEquals(this.app.gui.getCurrentMana(), app.config.getFloat("initial_mana"));
-        assertEquals(this.app.gui.getMaxMana(), app.config.getFloat("initial_mana_cap"));
-        assertEquals(this.app.gui.getCurrentManaPoolCost(), app.config.getFloat("mana_pool_spell_initial_cost"));
+        assertEquals(this.app.simulation.getManaPool().getCurrentMana(), app.config.getFloat("initial_mana"));
+        assertEquals(this.app.simulation.getManaPool().getMaxMana(), app.config.getFloat("initial_mana_cap"));
+        assertEquals(this.app.simulation.getManaPool().getCurrentManaPoolCost(), app.config.getFloat("mana_pool_spell_initial_cost"));
 
         // Check all buttons are initialised
         assertEquals(this.app.gui.getButtons().size(), 8);
         // Check no towers
-        assertTrue(this.app.gui.getTowers().isEmpty());
+        assertTrue(this.app.simulation.getTowers().isEmpty());
 
     }
 
@@ -40,16 +43,48 @@ public class GuiTest {
         this.app.gui.draw();
     }
 
+    // Test the tower under the mouse is found from the tile under it
+    @Test
+    public void testHoveredTower() {
+        Tower tower = this.app.simulation.placeTower(0, 2);
+        assertNotNull(tower);
+
+        this.app.mouseX = (int)tower.getXPixel() + 5;
+        this.app.mouseY = (int)tower.getYPixel() + App.TOPBAR + 5;
+        assertEquals(this.app.gui.getHoveredTower(), tower);
+
+        // Over the sidebar
+        this.app.mouseX = App.WIDTH - 5;
+        assertNull(this.app.gui.getHoveredTower());
+    }
+
+    // Test the top bar and sidebar are only drawn again when they change
+    @Test
+    public void testDrawChanged() {
+        GUI gui = new GUI(this.app);
+        gui.draw();
+        assertEquals(gui.getRedraws(), 2);
+
+        gui.draw();
+        assertEquals(gui.getRedraws(), 2);
+
+        // The mana shown changes
+        this.app.simulation.getManaPool().increaseMana(10);
+        gui.draw();
+        assertEquals(gui.getRedraws(), 3);
+    }
+
     // Test mana pool spell 
     @Test
     public void ManaPoolSpellTest() {
-        float startMaxMana = app.gui.getMaxMana();
-        float startPassiveMana = app.gui.getPassiveMana();
-        float startManaPoolCost = app.gui.getCurrentManaPoolCost();
-        this.app.gui.manaPoolSpell();
-        float endMaxMana = app.gui.getMaxMana();
-        float endPassiveMana = app.gui.getPassiveMana();
-        float endManaPoolCost = app.gui.getCurrentManaPoolCost();
+        ManaPool manaPool = app.simulation.getManaPool();
+        float startMaxMana = manaPool.getMaxMana();
+        float startPassiveMana = manaPool.getPassiveMana();
+        float startManaPoolCost = manaPool.getCurrentManaPoolCost();
+        manaPool.manaPoolSpell();
+        float endMaxMana = manaPool.getMaxMana();
+        float endPassiveMana = manaPool.getPassiveMana();
+        float endManaPoolCost = manaPool.getCurrentManaPoolCost();
 
         // Test expected values
         assertTrue(Math.round(endMaxMana) == Math.round(app.config.getFloat("mana_pool_spell_cap_multiplier")*startMaxMana));
@@ -64,20 +99,22 @@ public class GuiTest {
     // Passive mana FF test
     @Test
     public void PassiveMana() {
-        float startMana = app.gui.getCurrentMana();
+        ManaPool manaPool = app.simulation.getManaPool();
+        float startMana = manaPool.getCurrentMana();
 
         // Toggle fast forward
-        app.key = 'f';
-        app.keyPressed = true;
+        app.input.add(Command.FAST_FORWARD);
+        app.input.drain();
+        app.gui.tick(app);
 
-        // Tick 30 frames (half a second)
+        // Tick 30 frames (half a second), 60 steps at 2x speed
         int i = 0;
-        while (i < 31) {
-            app.gui.tick(app);
+        while (i < 30) {
+            app.simulation.update();
             i++;
         }
 
-        float endMana = app.gui.getCurrentMana();
+        float endMana = manaPool.getCurrentMana();
         assertEquals(endMana, startMana + app.config.getFloat("initial_mana_gained_per_second"));
 
 
@@ -1,6 +1,10 @@
 package WizardTD;
 
+import WizardTD.sim.Path;
+import WizardTD.sim.Tile;
+
 import processing.core.PApplet;
+import processing.core.PImage;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -71,10 +75,10 @@ public class MapTest {
         assertEquals(app.gameboard.getTiles()[19][19].getType(), "path");
 
         // Check correct rotation (path 3 - connected to all paths)
-        assertEquals(app.gameboard.getTiles()[0][0].getSprite(), this.app.images.get("path3"));
-        assertEquals(app.gameboard.getTiles()[19][0].getSprite(), this.app.images.get("path3"));
-        assertEquals(app.gameboard.getTiles()[0][19].getSprite(), this.app.images.get("path3"));
-        assertEquals(app.gameboard.getTiles()[19][19].getSprite(),this.app.images.get("path3"));
+        assertEquals(app.gameboard.getSprite(0, 0), this.app.images.get("path3"));
+        assertEquals(app.gameboard.getSprite(19, 0), this.app.images.get("path3"));
+        assertEquals(app.gameboard.getSprite(0, 19), this.app.images.get("path3"));
+        assertEquals(app.gameboard.getSprite(19, 19),this.app.images.get("path3"));
 
     }
 
@@ -154,6 +158,23 @@ public class MapTest {
         
     }
 
+    // Test rotated sprites are computed once and turned the right way
+    @Test
+    public void testRotatedSprites() {
+        PImage path1 = app.getImage("path1");
+        PImage rotated = app.rotateImageByDegrees(path1, 90);
+
+        assertSame(rotated, app.rotateImageByDegrees(path1, 90));
+        assertNotSame(rotated, app.rotateImageByDegrees(path1, 180));
+        assertEquals(rotated.width, path1.height);
+        assertEquals(rotated.height, path1.width);
+
+        // A quarter turn clockwise moves the top left corner to the top right
+        path1.loadPixels();
+        rotated.loadPixels();
+        assertEquals(rotated.pixels[rotated.width - 1], path1.pixels[0]);
+    }
+
     // Test correct shortest path
     @Test
     public void pathTest() {
@@ -166,7 +187,7 @@ public class MapTest {
         app.player.mute();
         app.delay(1000);
 
-        Path test = new Path(0, 1, app.gameboard.getLayoutArray(), app.gameboard);
+        Path test = new Path(0, 1, app.simulation.getBoard(), app.simulation.getRandom());
 
         assertEquals(test.getSteps().get(0).getX(), 0);
         assertEquals(test.getSteps().get(0).getY(), 1);
@@ -1,5 +1,8 @@
 package WizardTD;
 
+import WizardTD.sim.Monster;
+import WizardTD.sim.Tile;
+
 import processing.core.PApplet;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,47 +26,47 @@ public class MonsterTest {
     // Test monster spawn pixel location (off the map)
     @Test
     public void monsterSpawn() {
-        Monster left = new Monster(app, "gremlin", 0, 0, 1, 1, 1, 1);
+        Monster left = new Monster(app.simulation, "gremlin", 0, 0, 1, 1, 1, 1);
         assertTrue(left.getXPixel() <= 0);
-        assertEquals(left.getYPixel(), App.TOPBAR);
+        assertEquals(left.getYPixel(), 0);
 
-        Monster right = new Monster(app, "gremlin", 19, 0, 1, 1, 1, 1);
+        Monster right = new Monster(app.simulation, "gremlin", 19, 0, 1, 1, 1, 1);
         assertTrue(right.getXPixel() >= (App.CELLSIZE * (App.BOARD_WIDTH)));
-        assertEquals(right.getYPixel(), App.TOPBAR);
+        assertEquals(right.getYPixel(), 0);
 
-        Monster top = new Monster(app, "gremlin", 1, 0, 1, 1, 1, 1);
+        Monster top = new Monster(app.simulation, "gremlin", 1, 0, 1, 1, 1, 1);
         assertEquals(top.getXPixel(),App.CELLSIZE);
-        assertTrue(top.getYPixel() <= App.TOPBAR);
+        assertTrue(top.getYPixel() <= 0);
 
-        Monster bottom = new Monster(app, "gremlin", 1, 19, 1, 1, 1, 1);
+        Monster bottom = new Monster(app.simulation, "gremlin", 1, 19, 1, 1, 1, 1);
         assertEquals(bottom.getXPixel(), App.CELLSIZE);
-        assertTrue(bottom.getYPixel() >= App.HEIGHT);
+        assertTrue(bottom.getYPixel() >= (App.CELLSIZE * (App.BOARD_WIDTH)));
 
     }
 
     // Test monster correct sprite
     @Test
     public void monsterSprite() {
-        Monster gremlin = new Monster(app, "gremlin", 0, 0, 1, 1, 1, 1);
-        assertEquals(gremlin.getSprite(), app.images.get("gremlin"));
+        Monster gremlin = new Monster(app.simulation, "gremlin", 0, 0, 1, 1, 1, 1);
+        assertEquals(app.renderer.getSprite(gremlin), app.images.get("gremlin"));
 
-        Monster beetle = new Monster(app, "beetle", 0, 0, 1, 1, 1, 1);
-        assertEquals(beetle.getSprite(), app.images.get("beetle"));
+        Monster beetle = new Monster(app.simulation, "beetle", 0, 0, 1, 1, 1, 1);
+        assertEquals(app.renderer.getSprite(beetle), app.images.get("beetle"));
 
-        Monster worm = new Monster(app, "worm", 0, 0, 1, 1, 1, 1);
-        assertEquals(worm.getSprite(), app.images.get("worm"));
+        Monster worm = new Monster(app.simulation, "worm", 0, 0, 1, 1, 1, 1);
+        assertEquals(app.renderer.getSprite(worm), app.images.get("worm"));
     }
     
 
     // Test monster speed
     @Test
     public void monsterSpeed() {
-        Monster test = new Monster(app, "gremlin", 19, 0, 1, 2, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 19, 0, 1, 2, 1, 1);
         float startX = test.getXPixel();
         float startY = test.getYPixel();
         
         // Find monster's next destination (1st step)
-        Tile destinationTile = test.getSteps().get(0);
+        Tile destinationTile = test.getDestination();
 
         // Calculate the distance between the current position and the destination tile
         double deltaX = destinationTile.getXPixel() - test.getXPixel();
@@ -87,31 +90,32 @@ public class MonsterTest {
 
     @Test
     public void monsterFFSpeed() {
-        Monster test = new Monster(app, "gremlin", 19, 0, 1, 2, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 19, 0, 1, 2, 1, 1);
         float initalSpeed = test.getSpeed();
 
         // Update game fast forward state and update monster
-        app.fastforward = true;
+        app.simulation.setSpeed(2);
         test.tick();
 
-        float doubleSpeed = test.getSpeed();
-
-        assertEquals(doubleSpeed, 2*initalSpeed);
+        // Speed per step stays the same, fast forward runs more steps each frame
+        assertEquals(test.getSpeed(), initalSpeed);
+        assertEquals(app.simulation.update(), 2);
     }
 
     // Test monster changing tiles 
     @Test 
     public void monsterTileChange() {
         // 32 pixels per frame speed - should move to next tile immediately 
-        Monster test = new Monster(app, "gremlin", 19, 0, 1, 32, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 19, 0, 1, 32, 1, 1);
+
+        // Perform the movement (twice to get to first non-spawn tile)
+        test.tick();
 
-        Tile destinationTile = test.getSteps().get(1);
+        Tile destinationTile = test.getDestination();
 
         int ExpectedFinalX = destinationTile.getX();
         int ExpectedFinalY = destinationTile.getY();
 
-        // Perform the movement (twice to get to first non-spawn tile)
-        test.tick();
         test.tick();
         int ActualFinalX = test.getX();
         int ActualFinalY = test.getY();
@@ -124,34 +128,34 @@ public class MonsterTest {
     @Test
     public void monsterDeath() {
         // Initialise dead monster
-        Monster dead = new Monster(app, "gremlin", 19, 0, 0, 32, 1, 1);
+        Monster dead = new Monster(app.simulation, "gremlin", 19, 0, 0, 32, 1, 1);
         
-        assertEquals(dead.getSprite(), app.images.get("gremlin"));
+        assertEquals(app.renderer.getSprite(dead), app.images.get("gremlin"));
 
         // Tick death frame; Image should last 4 frames
         dead.tick();
         dead.tick();
         dead.tick();
         dead.tick();
-        assertEquals(dead.getSprite(), app.images.get("gremlin1"));
+        assertEquals(app.renderer.getSprite(dead), app.images.get("gremlin1"));
 
         dead.tick();
         dead.tick();
         dead.tick();
         dead.tick();
-        assertEquals(dead.getSprite(), app.images.get("gremlin2"));
+        assertEquals(app.renderer.getSprite(dead), app.images.get("gremlin2"));
 
         dead.tick();
         dead.tick();
         dead.tick();
         dead.tick();
-        assertEquals(dead.getSprite(), app.images.get("gremlin3"));
+        assertEquals(app.renderer.getSprite(dead), app.images.get("gremlin3"));
 
         dead.tick();
         dead.tick();
         dead.tick();
         dead.tick();
-        assertEquals(dead.getSprite(), app.images.get("gremlin4"));
+        assertEquals(app.renderer.getSprite(dead), app.images.get("gremlin4"));
 
         // Check monster is dead
         assertFalse(dead.isAlive());
@@ -173,7 +177,7 @@ public class MonsterTest {
         app.delay(1000);
 
 
-        Monster test = new Monster(app, "gremlin", 0, 1, 1, 32, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 0, 1, 1, 32, 1, 1);
 
         // Monster should reach wizard after two ticks 
         test.tick();
@@ -187,10 +191,24 @@ public class MonsterTest {
     // Test monster health changing
     @Test
     public void monsterHealth() {
-        Monster test = new Monster(app, "gremlin", 0, 1, 50, 32, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 0, 1, 50, 32, 1, 1);
         test.updateHealth(20);
-        test.drawHealth();
+        app.renderer.drawHealth(test);
         assertEquals(test.getHp(), 30);
         
     }
+
+    // Test health bars are batched until the overlays are flushed
+    @Test
+    public void monsterHealthBatch() {
+        OverlayBatch overlays = new OverlayBatch();
+        for (int i = 0; i < 100; i++) {
+            overlays.addBar(i, 0, 0.5f);
+        }
+        overlays.addMarker('O', 0, 0);
+        assertEquals(overlays.size(), 101);
+
+        overlays.clear();
+        assertEquals(overlays.size(), 0);
+    }
 }
@@ -1,5 +1,10 @@
 package WizardTD;
 
+import WizardTD.sim.Fireball;
+import WizardTD.sim.Monster;
+import WizardTD.sim.TargetingStrategy;
+import WizardTD.sim.Tower;
+
 import processing.core.PApplet;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,7 +29,7 @@ public class TowerTest {
     // Test constructor
     @Test
     public void TowerConstructor() {
-        Tower test = new Tower(app, 0, 1, 100, 96, 5, 10);
+        Tower test = new Tower(app.simulation, 0, 1, 100, 96, 5, 10);
         assertNotNull(test);
     }
 
@@ -33,14 +38,15 @@ public class TowerTest {
     public void TestFindingMonster() {
         this.app.start = true;
 
-        Tower test = new Tower(app, 0, 2, 100, 96, 5, 10);
+        Tower test = new Tower(app.simulation, 0, 2, 100, 96, 5, 10);
         
         // Create monster in range and add to wave
-        Monster testMonster = new Monster(app, "gremlin", 0, 3, 10, 1, 1, 1);
-        this.app.wavemanager.getWaves().get(0).getSpawnedMonsters().add(testMonster);
+        Monster testMonster = new Monster(app.simulation, "gremlin", 0, 3, 10, 1, 1, 1);
+        this.app.simulation.getWaveManager().getWaves().get(0).getSpawnedMonsters().add(testMonster);
 
         testMonster.tick();
-        test.tick(app);
+        app.simulation.getMonsterGrid().rebuild();
+        test.tick();
 
         // Test it can detect monster in range
         assertNotNull(test.getTarget());
@@ -51,24 +57,24 @@ public class TowerTest {
     @Test 
     public void TowerUpgrade() {
         // Increase mana to allow upgrades
-        this.app.gui.increaseMana(1000);
+        this.app.simulation.getManaPool().increaseMana(1000);
 
         // Set upgrade states to true
         app.gui.upgradeDamage();
         app.gui.upgradeRange();
         app.gui.upgradeSpeed();
 
-        Tower test = new Tower(app, 0, 2, 100, 96, 5, 10);
+        Tower test = new Tower(app.simulation, 0, 2, 100, 96, 5, 10);
 
         // Move mouse and click - radius is also drawn
         app.mouseX = (int)test.getXPixel() + 5;
-        app.mouseY = (int)test.getYPixel() + 5;
+        app.mouseY = (int)test.getYPixel() + App.TOPBAR + 5;
         app.mousePressed = true;
 
         // Update tower state
-        test.tick(app);
-        test.drawRadius();
-        test.upgradeTower();
+        test.tick();
+        app.renderer.drawRadius(test);
+        app.gui.upgradeTower(test);
 
         // Check if upgraded
         assertTrue(test.getSpeed() > 0);
@@ -76,34 +82,49 @@ public class TowerTest {
         assertTrue(test.getRange() > 0);
 
         // Draw upgrade
-        test.drawUpgradeTip();
-        test.drawUpgrades();
+        app.renderer.drawUpgradeTip(test);
+        app.renderer.drawUpgrades(test);
         
         
         // Test further levels
         test.setRange(2);
         // Draw upgrade
-        test.drawUpgradeTip();
-        test.drawUpgrades();
+        app.renderer.drawUpgradeTip(test);
+        app.renderer.drawUpgrades(test);
 
         test.setSpeed(2);
         // Draw upgrade
-        test.drawUpgradeTip();
-        test.drawUpgrades();
+        app.renderer.drawUpgradeTip(test);
+        app.renderer.drawUpgrades(test);
 
         test.setDamage(2);
         // Draw upgrade
-        test.drawUpgradeTip();
-        test.drawUpgrades();
+        app.renderer.drawUpgradeTip(test);
+        app.renderer.drawUpgrades(test);
 
 
     }
     
+    // Test right clicking a tower changes its targeting
+    @Test
+    public void TowerTargeting() {
+        Tower test = new Tower(app.simulation, 0, 2, 100, 96, 5, 10);
+        assertEquals(test.getTargeting(), TargetingStrategy.FIRST);
+
+        // Move mouse over the tower and right click
+        app.mouseX = (int)test.getXPixel() + 5;
+        app.mouseY = (int)test.getYPixel() + App.TOPBAR + 5;
+        app.gui.clickTower(test, App.RIGHT);
+        app.renderer.drawRadius(test);
+
+        assertEquals(test.getTargeting(), TargetingStrategy.LAST);
+    }
+
     @Test
     public void SimpleFireball() {
-        Monster testMonster = new Monster(app, "worm", 0, 3, 1, 1, 1, 10);
+        Monster testMonster = new Monster(app.simulation, "worm", 0, 3, 1, 1, 1, 10);
 
-        Fireball test = new Fireball(app, 0, 0, 100, testMonster);
+        Fireball test = new Fireball(app.simulation, 0, 0, 100, testMonster);
 
         double xDistance = testMonster.getXPixel() - test.getXPixel();
         double yDistance = testMonster.getYPixel() - test.getYPixel();
@@ -1,5 +1,7 @@
 package WizardTD;
 
+import WizardTD.sim.Wave;
+
 // Separate class to avoid errors in changing config and adding waves during test
 
 import processing.core.PApplet;
@@ -22,39 +24,39 @@ public class WaveManager2 {
         app.player.mute();
         app.delay(1000);
 
-        app.wavemanager.start_game();
+        app.simulation.getWaveManager().start_game();
 
-        app.wavemanager.setFrameCounter(60);
+        app.simulation.getWaveManager().setFrameCounter(60);
 
         // Update wave
-        app.wavemanager.start_game();
+        app.simulation.getWaveManager().start_game();
 
         // Check wave complete
-        assertTrue(app.wavemanager.getWaves().get(0).isComplete());
-        assertEquals(app.wavemanager.getWaveCount(), 1);
+        assertTrue(app.simulation.getWaveManager().getWaves().get(0).isComplete());
+        assertEquals(app.simulation.getWaveManager().getWaveCount(), 1);
 
         // Spawn next monster
-        app.wavemanager.setFrameCounter(120);
-        app.wavemanager.start_game();
+        app.simulation.getWaveManager().setFrameCounter(120);
+        app.simulation.getWaveManager().start_game();
 
         // Check win
         // Kill monsters
-        app.wavemanager.getWaves().get(0).getSpawnedMonsters().get(0).updateHealth(1000);
-        app.wavemanager.getWaves().get(1).getSpawnedMonsters().get(0).updateHealth(1000);
+        app.simulation.getWaveManager().getWaves().get(0).getSpawnedMonsters().get(0).updateHealth(1000);
+        app.simulation.getWaveManager().getWaves().get(1).getSpawnedMonsters().get(0).updateHealth(1000);
         
         // Update states - 16 frames needed for monster to die
         int i = 0;
         while (i < 17) {
-            app.wavemanager.start_game();
+            app.simulation.getWaveManager().start_game();
             i++;
         }
 
-        assertTrue(app.wavemanager.getWaves().get(0).getSpawnedMonsters().size() == 0);
-        assertTrue(app.wavemanager.getWaves().get(1).getSpawnedMonsters().size() == 0);
-        assertTrue(app.wavemanager.getWaves().get(0).getMonstersToSpawn().size() == 0);
+        assertTrue(app.simulation.getWaveManager().getWaves().get(0).getSpawnedMonsters().size() == 0);
+        assertTrue(app.simulation.getWaveManager().getWaves().get(1).getSpawnedMonsters().size() == 0);
+        assertTrue(app.simulation.getWaveManager().getWaves().get(0).getMonstersToSpawn().size() == 0);
 
-        assertTrue(app.wavemanager.playerWon());
-        app.wavemanager.drawWin();
+        assertTrue(app.simulation.getWaveManager().playerWon());
+        app.gui.drawWin();
     }
 
     // Test endless move wave creation
@@ -68,12 +70,12 @@ public class WaveManager2 {
         this.app.player.mute();
         this.app.loop();
         this.app.delay(1000);
-        app.wavemanager.CreateEndlessWave();
-        app.wavemanager.CreateEndlessWave();
+        app.simulation.getWaveManager().CreateEndlessWave();
+        app.simulation.getWaveManager().CreateEndlessWave();
 
         // Get endless waves (6 and 7th after config waves)
-        Wave endless1 = app.wavemanager.getWaves().get(5);
-        Wave endless2 = app.wavemanager.getWaves().get(6);
+        Wave endless1 = app.simulation.getWaveManager().getWaves().get(5);
+        Wave endless2 = app.simulation.getWaveManager().getWaves().get(6);
 
         assertEquals(endless1.getDuration(), 8);
         assertEquals(endless1.getPreWavePause(), 10);
@@ -1,5 +1,8 @@
 package WizardTD;
 
+import WizardTD.sim.Monster;
+import WizardTD.sim.Wave;
+
 import processing.core.PApplet;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,18 +30,18 @@ public class WaveManagerTest {
     // Tick and make sure monsters are being spawned and timer is ticking down
     @Test
     public void WaveManagerCycle() {
-        app.fastforward = false;
+        app.simulation.setSpeed(1);
 
-        assertEquals(app.wavemanager.getWaves().size(),5);
+        assertEquals(app.simulation.getWaveManager().getWaves().size(),5);
 
-        Wave wave1 = app.wavemanager.getWaves().get(0);
+        Wave wave1 = app.simulation.getWaveManager().getWaves().get(0);
 
         assertEquals(wave1.getDuration(), 8);
         assertEquals(wave1.getPreWavePause(), 3);
         assertEquals(wave1.getTotalMonsters(), 10);
 
-        float startTime = app.wavemanager.getTimer();
-        ArrayList<Monster> monstersSpawned = app.wavemanager.getWaves().get(0).getSpawnedMonsters();
+        float startTime = app.simulation.getWaveManager().getTimer();
+        ArrayList<Monster> monstersSpawned = app.simulation.getWaveManager().getWaves().get(0).getSpawnedMonsters();
         int numMonsters = monstersSpawned.size();
 
         assertEquals(numMonsters, 0);
@@ -47,20 +50,20 @@ public class WaveManagerTest {
         int expectedNumMonsters = 1;
 
         // Increment wave manager
-        app.wavemanager.start_game();
+        app.simulation.getWaveManager().start_game();
 
-        float actualTime = app.wavemanager.getTimer();
+        float actualTime = app.simulation.getWaveManager().getTimer();
         
         assertEquals(endTime, actualTime);
-        app.wavemanager.drawWaveTimer();
+        app.gui.draw();
 
         // Set frame to spawn time
-        app.wavemanager.setFrameCounter(192);
+        app.simulation.getWaveManager().setFrameCounter(192);
 
         // Start game when spawnRate is met and spawnFrame is met
-        app.wavemanager.start_game();
+        app.simulation.getWaveManager().start_game();
             
-        ArrayList<Monster> NewMonstersSpawned = app.wavemanager.getWaves().get(0).getSpawnedMonsters();
+        ArrayList<Monster> NewMonstersSpawned = app.simulation.getWaveManager().getWaves().get(0).getSpawnedMonsters();
 
         int NewNumMonsters = NewMonstersSpawned.size();
 
@@ -71,14 +74,14 @@ public class WaveManagerTest {
     // Test start game when FF
     @Test
     public void ManagerTimeFF() {
-        this.app.fastforward = true;
-        float startTime = app.wavemanager.getTimer();
+        this.app.simulation.setSpeed(2);
+        float startTime = app.simulation.getWaveManager().getTimer();
         float endTime = startTime - 2;
 
-        // Increment wave manager
-        app.wavemanager.start_game();
+        // Increment wave manager twice in one frame
+        app.simulation.update();
 
-        float actualTime = app.wavemanager.getTimer();
+        float actualTime = app.simulation.getWaveManager().getTimer();
 
         assertEquals(endTime, actualTime);
 
@@ -89,12 +92,11 @@ public class WaveManagerTest {
         app.dead = true;
 
         // Update frame
-        app.wavemanager.start_game();
+        app.simulation.getWaveManager().start_game();
 
         // User inputs
-        app.keyPressed = true;
-        app.key = 'r';
-        app.wavemanager.allowRestart();
+        app.input.add(Command.RESTART);
+        app.input.drain();
 
         // Check game has restarted 
         assertFalse(app.dead);
@@ -1,5 +1,8 @@
 package WizardTD;
 
+import WizardTD.sim.Monster;
+import WizardTD.sim.Wave;
+
 import org.junit.jupiter.api.Test;
 import processing.core.PApplet;
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,7 +28,7 @@ public class WaveTest {
 
     @AfterEach
     public void close() {
-        app.wavemanager.getWaves().clear();
+        app.simulation.getWaveManager().getWaves().clear();
         app = null;
     }
     
@@ -35,7 +38,7 @@ public class WaveTest {
 
         HashMap<Monster, Integer>  monsters_quantity = new HashMap<Monster, Integer>();
 
-        Monster test = new Monster(app, "gremlin", 19, 0, 1, 1, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 19, 0, 1, 1, 1, 1);
 
         monsters_quantity.put(test, 10);
 
@@ -58,13 +61,13 @@ public class WaveTest {
     public void spawnMonster() {
         HashMap<Monster, Integer>  monsters_quantity = new HashMap<Monster, Integer>();
 
-        Monster test = new Monster(app, "gremlin", 19, 0, 1, 1, 1, 1);
+        Monster test = new Monster(app.simulation, "gremlin", 19, 0, 1, 1, 1, 1);
 
         monsters_quantity.put(test, 2);
 
         Wave testWave = new Wave(5, 5, monsters_quantity);
 
-        testWave.spawn_monster(app);
+        testWave.spawn_monster();
 
         assertTrue(testWave.hasStarted());
         assertEquals(testWave.getSpawnedMonsters().size(), 1);
@@ -72,12 +75,12 @@ public class WaveTest {
         assertEquals(testWave.getMonstersToSpawn().size(), 1);
 
         // Spawn last monster
-        testWave.spawn_monster(app);
+        testWave.spawn_monster();
         assertEquals(testWave.getSpawnedMonsters().size(), 2);
         assertTrue(testWave.getMonstersToSpawn().isEmpty());
 
         // Check complete
-        testWave.spawn_monster(app);
+        testWave.spawn_monster();
         assertTrue(testWave.isComplete());
 
     }